@@ -0,0 +1,129 @@
+#!/bin/bash
+
+# Bytes per row and insert rate of admin_action: the pre-V9 text layout vs the V9 compact layout.
+#
+#   ./scripts/audit-storage-bench.sh [rows]
+#
+# Connects with the usual libpq variables (PGHOST, PGPORT, PGUSER, PGPASSWORD, PGDATABASE) and works in a
+# throwaway schema, so it can point at any database. Both tables get the same rows, generated in SQL with
+# the production mix (mostly per-item deletes with uuid actors, some bulk jobs), and the same index set.
+# Insert rate is measured server-side for one multi-row INSERT per layout; the application's own batch
+# latency is the admin.audit.flush timer.
+
+set -euo pipefail
+
+ROWS="${1:-200000}"
+SCHEMA="audit_bench_$$"
+
+trap 'psql -X -q -c "DROP SCHEMA IF EXISTS $SCHEMA CASCADE" >/dev/null 2>&1 || true' EXIT
+
+psql -X -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -v schema="$SCHEMA" <<'SQL'
+CREATE SCHEMA :"schema";
+SET search_path = :"schema";
+
+CREATE TABLE text_layout
+(
+    id             BIGSERIAL PRIMARY KEY,
+    correlation_id UUID         NOT NULL,
+    action_type    VARCHAR(64)  NOT NULL,
+    status         VARCHAR(24)  NOT NULL,
+    actor_user_id  VARCHAR(64)  NOT NULL,
+    actor_roles    VARCHAR(255) NOT NULL,
+    target_type    VARCHAR(32)  NOT NULL,
+    target_id      VARCHAR(64),
+    started_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    finished_at    TIMESTAMPTZ,
+    duration_ms    BIGINT,
+    created_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    coalesced      BOOLEAN      NOT NULL DEFAULT FALSE,
+    job_id         UUID
+);
+CREATE UNIQUE INDEX ON text_layout (correlation_id, started_at);
+CREATE INDEX ON text_layout (actor_user_id, started_at);
+CREATE INDEX ON text_layout (status, started_at);
+CREATE INDEX ON text_layout (action_type, started_at);
+CREATE INDEX ON text_layout (target_type, target_id);
+CREATE INDEX ON text_layout (started_at, id);
+CREATE INDEX ON text_layout (job_id) WHERE job_id IS NOT NULL;
+
+CREATE TABLE compact_layout
+(
+    id             BIGSERIAL PRIMARY KEY,
+    started_at     TIMESTAMPTZ NOT NULL,
+    correlation_id UUID        NOT NULL,
+    job_id         UUID,
+    duration_ms    INT,
+    action_type    SMALLINT    NOT NULL,
+    status         SMALLINT    NOT NULL,
+    target_type    SMALLINT    NOT NULL,
+    actor_roles    SMALLINT    NOT NULL,
+    coalesced      BOOLEAN     NOT NULL DEFAULT FALSE,
+    actor_user_id  VARCHAR(64) NOT NULL,
+    target_id      VARCHAR(64)
+);
+CREATE UNIQUE INDEX ON compact_layout (correlation_id, started_at);
+CREATE INDEX ON compact_layout (actor_user_id, started_at);
+CREATE INDEX ON compact_layout (status, started_at);
+CREATE INDEX ON compact_layout (action_type, started_at);
+CREATE INDEX ON compact_layout (target_type, target_id);
+CREATE INDEX ON compact_layout (started_at, id);
+CREATE INDEX ON compact_layout (job_id) WHERE job_id IS NOT NULL;
+
+-- one source so both layouts store identical content
+CREATE TABLE source AS
+SELECT gen_random_uuid()                                                   AS correlation_id,
+       (ARRAY ['DELETE_POST','DELETE_COMMENT','DELETE_USER','LIST_USERS','BLOCK_USER','RUN_JOB'])[1 + i % 6] AS action_type,
+       CASE WHEN i % 20 = 0 THEN 'FAILED' ELSE 'SUCCESS' END               AS status,
+       md5((i % 50)::text)::uuid::text                                     AS actor_user_id,
+       CASE WHEN i % 3 = 0 THEN 'ROLE_ADMIN' ELSE 'ROLE_PUBLISHER,ROLE_ADMIN' END AS actor_roles,
+       (ARRAY ['POST','COMMENT','USER','USER','USER','JOB'])[1 + i % 6]    AS target_type,
+       CASE WHEN i % 6 IN (2, 4) THEN md5(i::text)::uuid::text ELSE (i * 7)::text END AS target_id,
+       NOW() - (i || ' seconds')::interval                                 AS started_at,
+       (i % 900)::bigint                                                   AS duration_ms,
+       i % 50 = 0                                                          AS coalesced,
+       CASE WHEN i % 4 = 0 THEN md5((i / 1000)::text)::uuid END            AS job_id
+FROM generate_series(1, :rows) AS i;
+
+\echo
+\echo 'layout   rows/s      heap B/row  index B/row  total B/row'
+
+SELECT clock_timestamp() AS t0 \gset
+INSERT INTO text_layout (correlation_id, action_type, status, actor_user_id, actor_roles, target_type, target_id,
+                         started_at, finished_at, duration_ms, coalesced, job_id)
+SELECT correlation_id, action_type, status, actor_user_id, actor_roles, target_type, target_id,
+       started_at, started_at + duration_ms * INTERVAL '1 millisecond', duration_ms, coalesced, job_id
+FROM source;
+SELECT extract(epoch FROM clock_timestamp() - :'t0'::timestamptz) AS text_secs \gset
+
+SELECT clock_timestamp() AS t0 \gset
+INSERT INTO compact_layout (started_at, correlation_id, job_id, duration_ms, action_type, status, target_type,
+                            actor_roles, coalesced, actor_user_id, target_id)
+SELECT started_at, correlation_id, job_id, duration_ms::int,
+       array_position(ARRAY ['ASSIGN_ROLE','LIST_USERS','DELETE_USER','DELETE_COMMENT','DELETE_POST',
+                             'PURGE_USER','BLOCK_USER','UNBLOCK_USER','RUN_JOB'], action_type),
+       array_position(ARRAY ['SUCCESS','FAILED'], status),
+       array_position(ARRAY ['USER','COMMENT','POST','JOB'], target_type),
+       CASE WHEN actor_roles LIKE '%ROLE_PUBLISHER%' THEN 6 ELSE 4 END,
+       coalesced, actor_user_id, target_id
+FROM source;
+SELECT extract(epoch FROM clock_timestamp() - :'t0'::timestamptz) AS compact_secs \gset
+
+VACUUM ANALYZE text_layout;
+VACUUM ANALYZE compact_layout;
+
+SELECT rpad(layout, 8),
+       lpad(round(:rows / secs)::text, 8)                                               AS rows_per_s,
+       lpad(round(pg_relation_size(rel)::numeric / :rows, 1)::text, 12)                 AS heap,
+       lpad(round(pg_indexes_size(rel)::numeric / :rows, 1)::text, 12)                  AS indexes,
+       lpad(round(pg_total_relation_size(rel)::numeric / :rows, 1)::text, 12)           AS total
+FROM (VALUES ('text', 'text_layout'::regclass, :text_secs::numeric),
+             ('compact', 'compact_layout'::regclass, :compact_secs::numeric)) AS m(layout, rel, secs)
+\g (format=unaligned tuples_only fieldsep='  ')
+
+\echo
+\echo 'average tuple data (pg_column_size of the row):'
+SELECT 'text     ' || round(avg(pg_column_size(t.*)), 1) FROM text_layout t
+UNION ALL
+SELECT 'compact  ' || round(avg(pg_column_size(c.*)), 1) FROM compact_layout c
+\g (format=unaligned tuples_only)
+SQL
@@ -0,0 +1,30 @@
+#!/bin/bash
+
+# AdminService load test: stubs + embedded Postgres + AdminService in one JVM, fixed request rates.
+#
+#   ./scripts/load-test.sh [key=value ...]
+#   ./scripts/load-test.sh rates=200,400,800 duration=60s news.error-rate=0.02
+#   ./scripts/load-test.sh mix=list-users:1 user.tail-rate=0.02 user.tail-latency=300ms \
+#       'app-properties=admin.users.cache.ttl=0s;services.user.hedge.enabled=true'
+#
+# Keys are the loadtest.* settings without the prefix (see LoadTestSettings). Results: target/loadtest/
+# (summary.txt and one .hgrm percentile distribution per rate and operation).
+#
+# Postgres refuses to run as root; as root, point jdbc-url (and jdbc-user, jdbc-password) at a server instead.
+# For repeatable numbers keep the machine otherwise idle; LOADTEST_CPUS=2-5 pins the run with taskset.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+ARGS=()
+for arg in "$@"; do
+    ARGS+=("-Dloadtest.$arg")
+done
+
+CMD=(mvn -B -q -Ploadtest -DskipTests "-Dloadtest.args=${ARGS[*]:-}" verify)
+if [[ -n "${LOADTEST_CPUS:-}" ]]; then
+    CMD=(taskset -c "$LOADTEST_CPUS" "${CMD[@]}")
+fi
+
+"${CMD[@]}"
@@ -0,0 +1,111 @@
+#!/bin/bash
+
+# AdminService startup benchmark: time-to-first-response and RSS per launch mode.
+#
+#   ./scripts/startup-bench.sh [jvm|aot|native|all] [runs]
+#
+# Artifacts (from AdminService/):
+#   jvm     mvn -DskipTests package                 -> target/AdminService-*.jar
+#   aot     mvn -Paot -DskipTests package           -> target/app/ (extracted jar + application.jsa)
+#   native  mvn -Pnative -DskipTests package        -> target/AdminService (GraalVM)
+#
+# Datasource comes from SPRING_DATASOURCE_* as usual. Set NO_DB=1 to start without Postgres
+# (Flyway off) - same flag as the CDS training run.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MODE="${1:-all}"
+RUNS="${2:-5}"
+PORT="${SERVER_PORT:-18080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+COMMON_ARGS=("--server.port=$PORT")
+if [[ "${NO_DB:-0}" == "1" ]]; then
+    COMMON_ARGS+=("--spring.flyway.enabled=false")
+fi
+
+now_ms() { date +%s%3N; }
+
+median() { sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) print "n/a"; else if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'; }
+
+command_for() {
+    case "$1" in
+        jvm)
+            local jar
+            jar=$(ls target/AdminService-*.jar 2>/dev/null | grep -v plain | head -1)
+            [[ -n "$jar" ]] || return 1
+            echo "$JAVA -jar $jar"
+            ;;
+        aot)
+            [[ -f target/app/application.jsa ]] || return 1
+            echo "$JAVA -XX:SharedArchiveFile=target/app/application.jsa -Dspring.aot.enabled=true -jar $(ls target/app/AdminService-*.jar)"
+            ;;
+        native)
+            [[ -x target/AdminService ]] || return 1
+            echo "target/AdminService"
+            ;;
+    esac
+}
+
+# One launch: prints "<ready ms> <started-in ms> <rss KB>"
+measure_once() {
+    local cmd="$1" log pid start ready started rss
+    log=$(mktemp)
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    $cmd "${COMMON_ARGS[@]}" >"$log" 2>&1 &
+    pid=$!
+
+    ready=""
+    while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+        kill -0 "$pid" 2>/dev/null || break
+        # Any HTTP status counts; the ping component keeps the probe off the DB pool.
+        if curl -s -o /dev/null -m 1 "http://localhost:$PORT/actuator/health/ping"; then
+            ready=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.05
+    done
+
+    rss=$(ps -o rss= -p "$pid" 2>/dev/null | tr -d ' ' || true)
+    started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | awk '{ printf "%d", $4 * 1000 }' || true)
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [[ -z "$ready" ]]; then
+        echo "run failed, log: $log" >&2
+        return 1
+    fi
+    rm -f "$log"
+    echo "$ready ${started:-0} ${rss:-0}"
+}
+
+bench() {
+    local mode="$1" cmd results
+    if ! cmd=$(command_for "$mode"); then
+        echo "$mode: artifact missing, skipped" >&2
+        return 0
+    fi
+
+    results=$(mktemp)
+    measure_once "$cmd" >/dev/null || true  # warm the page cache
+    for _ in $(seq "$RUNS"); do
+        measure_once "$cmd" >>"$results"
+    done
+
+    printf "%-7s runs=%s ready_ms=%s started_ms=%s rss_mb=%s\n" "$mode" "$RUNS" \
+        "$(awk '{ print $1 }' "$results" | median)" \
+        "$(awk '{ print $2 }' "$results" | median)" \
+        "$(awk '{ print $3 / 1024 }' "$results" | median)"
+    rm -f "$results"
+}
+
+case "$MODE" in
+    all) for m in jvm aot native; do bench "$m"; done ;;
+    jvm|aot|native) bench "$MODE" ;;
+    *) echo "usage: $0 [jvm|aot|native|all] [runs]" >&2; exit 1 ;;
+esac
@@ -0,0 +1,83 @@
+#!/bin/bash
+
+# Insert cost of the admin_action correlation index: random (v4) keys vs time-ordered (v7) keys.
+#
+#   ./scripts/uuid-index-bench.sh [rows] [batch]
+#
+# Connects with the usual libpq variables (PGHOST, PGPORT, PGUSER, PGPASSWORD, PGDATABASE) and works in a
+# throwaway schema. Each table carries the (correlation_id, started_at) unique index, started_at advances one
+# millisecond per row in both, and rows go in as separate transactions of [batch] rows like the audit writer's
+# flushes. Random keys touch a different leaf page per row and split pages in the middle, so the difference
+# shows once the index outgrows shared_buffers; pick rows accordingly (about 48 bytes per index entry).
+# CHECKPOINT between the runs needs superuser or pg_checkpoint.
+
+set -euo pipefail
+
+ROWS="${1:-2000000}"
+BATCH="${2:-500}"
+SCHEMA="uuid_bench_$$"
+
+trap 'psql -X -q -c "DROP SCHEMA IF EXISTS $SCHEMA CASCADE" >/dev/null 2>&1 || true' EXIT
+
+psql -X -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -v batch="$BATCH" -v schema="$SCHEMA" <<'SQL'
+CREATE SCHEMA :"schema";
+SET search_path = :"schema";
+
+-- version 7 layout built from a random uuid: 48-bit millisecond prefix, version nibble 0100 -> 0111
+CREATE FUNCTION uuid_v7(at TIMESTAMPTZ) RETURNS UUID
+    LANGUAGE sql VOLATILE AS
+$$
+SELECT encode(set_bit(set_bit(overlay(uuid_send(gen_random_uuid())
+                                      PLACING substring(int8send((extract(EPOCH FROM at) * 1000)::BIGINT) FROM 3)
+                                      FROM 1 FOR 6), 52, 1), 53, 1), 'hex')::UUID
+$$;
+
+CREATE TABLE v4_keys (correlation_id UUID NOT NULL, started_at TIMESTAMPTZ NOT NULL);
+CREATE UNIQUE INDEX v4_keys_correlation ON v4_keys (correlation_id, started_at);
+CREATE TABLE v7_keys (correlation_id UUID NOT NULL, started_at TIMESTAMPTZ NOT NULL);
+CREATE UNIQUE INDEX v7_keys_correlation ON v7_keys (correlation_id, started_at);
+
+CREATE PROCEDURE load(tbl TEXT, v7 BOOLEAN, total INT, batch INT)
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    base TIMESTAMPTZ := NOW() - total * INTERVAL '1 millisecond';
+BEGIN
+    FOR lo IN 0 .. total - 1 BY batch
+        LOOP
+            EXECUTE format(
+                    'INSERT INTO %I SELECT CASE WHEN $1 THEN uuid_v7(t) ELSE gen_random_uuid() END, t
+                     FROM (SELECT $2 + i * INTERVAL ''1 millisecond'' AS t
+                           FROM generate_series($3, LEAST($3 + $4, $5) - 1) AS i) s', tbl)
+                USING v7, base, lo, batch, total;
+            COMMIT;
+        END LOOP;
+END
+$$;
+
+CREATE TABLE result (keys TEXT, secs NUMERIC, wal_bytes NUMERIC);
+
+CHECKPOINT;
+
+SELECT clock_timestamp() AS t0, pg_current_wal_lsn() AS w0 \gset
+CALL load('v4_keys', FALSE, :rows, :batch);
+INSERT INTO result
+SELECT 'v4', extract(EPOCH FROM clock_timestamp() - :'t0'::TIMESTAMPTZ), pg_wal_lsn_diff(pg_current_wal_lsn(), :'w0');
+
+CHECKPOINT;
+
+SELECT clock_timestamp() AS t0, pg_current_wal_lsn() AS w0 \gset
+CALL load('v7_keys', TRUE, :rows, :batch);
+INSERT INTO result
+SELECT 'v7', extract(EPOCH FROM clock_timestamp() - :'t0'::TIMESTAMPTZ), pg_wal_lsn_diff(pg_current_wal_lsn(), :'w0');
+
+\echo
+\echo 'keys  rows/s     index B/row  WAL B/row'
+SELECT rpad(r.keys, 4),
+       lpad(round(:rows / r.secs)::TEXT, 8)                                           AS rows_per_s,
+       lpad(round(pg_relation_size((r.keys || '_keys_correlation')::regclass)::NUMERIC / :rows, 1)::TEXT, 12) AS index,
+       lpad(round(r.wal_bytes / :rows, 1)::TEXT, 10)                                  AS wal
+FROM result r
+ORDER BY r.keys
+\g (format=unaligned tuples_only fieldsep='  ')
+SQL
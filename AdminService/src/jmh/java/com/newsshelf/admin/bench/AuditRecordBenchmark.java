@@ -0,0 +1,84 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.AuditRecord;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.service.DefaultAdminActionService;
+import com.newsshelf.admin.audit.writer.AuditWriter;
+import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.stats.AdminStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of DefaultAdminActionService.log up to the hand-off to the writer: security context lookup,
+ * role lookup, record construction, metrics and the live stats counters. The writer itself is a blackhole.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditRecordBenchmark {
+
+    private DefaultAdminActionService service;
+    private Instant startedAt;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        AuditWriter sink = new AuditWriter() {
+            @Override
+            public void submit(AuditRecord record) {
+                blackhole.consume(record);
+            }
+
+            @Override
+            public void submitAll(List<AuditRecord> records) {
+                blackhole.consume(records);
+            }
+        };
+        service = new DefaultAdminActionService(sink, new SimpleMeterRegistry(), ObservationRegistry.NOOP,
+                new AdminStats(new MockEnvironment()));
+        startedAt = Instant.now();
+
+        var principal = new AdminPrincipal("user-1", Set.of(Role.ADMIN, Role.PUBLISHER));
+        var authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_PUBLISHER"));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void log() {
+        service.log(ActionType.DELETE_POST, TargetType.POST, "42", ActionStatus.SUCCESS, startedAt);
+    }
+}
@@ -0,0 +1,64 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.security.principal.AdminAuthenticationToken;
+import com.newsshelf.admin.security.token.AuthPayload;
+import com.newsshelf.admin.security.token.TokenExtractor;
+import com.newsshelf.admin.security.token.jwt.JwtClaimsParser;
+import com.newsshelf.admin.security.token.jwt.JwtTokenAuthService;
+import com.newsshelf.admin.security.token.jwt.JwtVerifier;
+import com.newsshelf.admin.security.token.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What AdminAuthFilter does per request once the token is cached: header to token, cache hit,
+ * authentication with shared authorities. Read gc.alloc.rate.norm (the jmh profile runs with -prof gc);
+ * the remaining bytes are the token substring and the principal/authentication pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthFastPathBenchmark {
+
+    private MockHttpServletRequest request;
+    private JwtTokenAuthService authService;
+
+    @Setup
+    public void setUp() {
+        authService = new JwtTokenAuthService(
+                new JwtVerifier(BenchTokens.SECRET, BenchTokens.ISSUER),
+                new JwtClaimsParser("roles", ""),
+                new VerifiedTokenCache(10_000, Duration.ofMinutes(5)),
+                new SimpleMeterRegistry()
+        );
+        request = new MockHttpServletRequest("DELETE", "/posts/1");
+        request.addHeader("Authorization", "Bearer " + BenchTokens.token("user-1"));
+        authService.authenticate(TokenExtractor.bearerOrNull(request));
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) {
+        String token = TokenExtractor.bearerOrNull(request);
+        AuthPayload payload = authService.authenticate(token);
+        var authentication = new AdminAuthenticationToken(payload, token);
+        blackhole.consume(authentication.getAuthorities());
+        blackhole.consume(authentication);
+    }
+}
@@ -0,0 +1,28 @@
+package com.newsshelf.admin.bench;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+final class BenchTokens {
+
+    static final String SECRET = "bench-secret-key-with-at-least-32-bytes!";
+    static final String ISSUER = "NewsShelf.UserService";
+
+    private BenchTokens() {
+    }
+
+    static String token(String subject) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuer(ISSUER)
+                .claim("roles", List.of("ADMIN", "PUBLISHER"))
+                .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,57 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.token.jwt.JwtClaimsParser;
+import com.newsshelf.admin.security.token.jwt.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Roles claim to granted authorities, mirroring what AdminAuthFilter does per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimsMappingBenchmark {
+
+    private JwtClaimsParser parser;
+    private Claims claims;
+    private Set<Role> roles;
+
+    @Setup
+    public void setUp() {
+        parser = new JwtClaimsParser("roles", "");
+        claims = new JwtVerifier(BenchTokens.SECRET, BenchTokens.ISSUER).verify(BenchTokens.token("user-1"));
+        roles = parser.roles(claims);
+    }
+
+    @Benchmark
+    public Set<Role> rolesFromClaims() {
+        return parser.roles(claims);
+    }
+
+    @Benchmark
+    public Set<GrantedAuthority> rolesToAuthorities() {
+        return roles.stream()
+                .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,103 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.dto.response.ListUsersResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Both hops of a user listing: decode from UserService and encode for the admin UI, with the default
+ * reflective mapper and with Blackbird, plain and gzipped. Prints the wire sizes once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JsonCodecBenchmark {
+
+    @Param({"10000", "100000"})
+    public int users;
+
+    @Param({"reflective", "blackbird"})
+    public String codec;
+
+    private JsonMapper jsonMapper;
+    private ListUsersResponse response;
+    private byte[] payload;
+    private byte[] gzipped;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = "blackbird".equals(codec)
+                ? JsonMapper.builder().addModule(new BlackbirdModule()).build()
+                : JsonMapper.builder().build();
+
+        List<ListUsersResponse.UserItem> items = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            items.add(new ListUsersResponse.UserItem(String.valueOf(i), "user" + i + "@newsshelf.test",
+                    i % 10 == 0 ? "PUBLISHER" : "READER", "ACTIVE"));
+        }
+        response = new ListUsersResponse(items, users);
+        payload = jsonMapper.writeValueAsBytes(response);
+        gzipped = gzip(payload);
+
+        System.out.printf("%n[payload] users=%d json=%d B gzip=%d B (%.1f%%)%n",
+                users, payload.length, gzipped.length, 100.0 * gzipped.length / payload.length);
+    }
+
+    @Benchmark
+    public ListUsersResponse decode() {
+        return jsonMapper.readValue(payload, ListUsersResponse.class);
+    }
+
+    @Benchmark
+    public ListUsersResponse decodeGzip() throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped), 8192)) {
+            return jsonMapper.readValue(in, ListUsersResponse.class);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int encodeGzip() throws IOException {
+        var out = new ByteArrayOutputStream(payload.length / 4);
+        try (var gzip = new GZIPOutputStream(out, 8192)) {
+            jsonMapper.writeValue(gzip, response);
+        }
+        return out.size();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
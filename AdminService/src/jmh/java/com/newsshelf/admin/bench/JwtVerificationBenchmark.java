@@ -0,0 +1,62 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.security.token.AuthPayload;
+import com.newsshelf.admin.security.token.jwt.JwtClaimsParser;
+import com.newsshelf.admin.security.token.jwt.JwtTokenAuthService;
+import com.newsshelf.admin.security.token.jwt.JwtVerifier;
+import com.newsshelf.admin.security.token.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code verify} is the cold path (signature check + claims parse); {@code authenticateCached}
+ * is the steady state, where the verified-token cache answers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtVerifier verifier;
+    private JwtTokenAuthService authService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        verifier = new JwtVerifier(BenchTokens.SECRET, BenchTokens.ISSUER);
+        authService = new JwtTokenAuthService(
+                verifier,
+                new JwtClaimsParser("roles", ""),
+                new VerifiedTokenCache(10_000, Duration.ofMinutes(5)),
+                new SimpleMeterRegistry()
+        );
+        token = BenchTokens.token("user-1");
+        authService.authenticate(token);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public AuthPayload authenticateCached() {
+        return authService.authenticate(token);
+    }
+}
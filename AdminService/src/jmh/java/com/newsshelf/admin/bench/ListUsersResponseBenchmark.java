@@ -0,0 +1,54 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.dto.response.ListUsersResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ListUsersResponseBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int users;
+
+    private JsonMapper jsonMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        StringBuilder sb = new StringBuilder(users * 96).append("{\"users\":[");
+        for (int i = 0; i < users; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@newsshelf.test\"")
+                    .append(",\"role\":\"").append(i % 10 == 0 ? "PUBLISHER" : "READER").append('"')
+                    .append(",\"status\":\"ACTIVE\"}");
+        }
+        sb.append("],\"total\":").append(users).append('}');
+        payload = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ListUsersResponse deserialize() {
+        return jsonMapper.readValue(payload, ListUsersResponse.class);
+    }
+}
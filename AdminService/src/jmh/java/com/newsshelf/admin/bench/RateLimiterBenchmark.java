@@ -0,0 +1,77 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.security.ratelimit.RateLimiter;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limiter overhead per request: uncontended, eight threads hammering one actor's bucket (every call a CAS
+ * on the same slot), and eight threads on their own actors. The burst is large enough that every call
+ * takes the admit path, which is the one that writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final Set<Role> PUBLISHER = RoleSets.intern(List.of(Role.PUBLISHER));
+    private static final AtomicInteger ACTOR_IDS = new AtomicInteger();
+
+    private RateLimiter limiter;
+
+    @State(Scope.Thread)
+    public static class Actor {
+        public String id;
+
+        @Setup
+        public void setUp() {
+            id = "publisher-" + ACTOR_IDS.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter(new MockEnvironment()
+                .withProperty("admin.rate-limit.publisher.requests-per-minute", "60")
+                .withProperty("admin.rate-limit.publisher.burst", "2000000000"));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long uncontended() {
+        return limiter.tryAcquire("publisher-0", PUBLISHER, ActionType.DELETE_POST);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long sameActorEightThreads() {
+        return limiter.tryAcquire("publisher-0", PUBLISHER, ActionType.DELETE_POST);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long ownActorEightThreads(Actor actor) {
+        return limiter.tryAcquire(actor.id, PUBLISHER, ActionType.DELETE_POST);
+    }
+}
@@ -0,0 +1,68 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.security.revocation.RevocationList;
+import com.newsshelf.admin.security.revocation.UserRevocation;
+import com.newsshelf.admin.security.revocation.UserRevocationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request cost of the revocation check in AdminAuthFilter, for a user that is not revoked (the
+ * common case, answered by the Bloom filter) and one that is (falls through to the exact map).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    @Param({"100", "100000"})
+    public int entries;
+
+    private RevocationList list;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<UserRevocation> rows = IntStream.range(0, entries)
+                .mapToObj(i -> new UserRevocation("revoked-" + i, null, now))
+                .toList();
+
+        UserRevocationRepository repository = mock(UserRevocationRepository.class);
+        when(repository.findActive()).thenReturn(rows);
+
+        list = new RevocationList(repository, new SimpleMeterRegistry(), 0.01, Duration.ofMinutes(1));
+        list.afterPropertiesSet();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return list.isRevoked("7f1c2a9e-user-42");
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return list.isRevoked("revoked-7");
+    }
+}
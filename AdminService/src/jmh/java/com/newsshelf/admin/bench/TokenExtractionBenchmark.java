@@ -0,0 +1,46 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.security.token.TokenExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenExtractionBenchmark {
+
+    private MockHttpServletRequest bearer;
+    private MockHttpServletRequest anonymous;
+
+    @Setup
+    public void setUp() {
+        bearer = new MockHttpServletRequest("DELETE", "/posts/1");
+        bearer.addHeader("Authorization", "Bearer " + BenchTokens.token("user-1"));
+        anonymous = new MockHttpServletRequest("GET", "/users");
+    }
+
+    @Benchmark
+    public Optional<String> bearerHeader() {
+        return TokenExtractor.extractBearer(bearer);
+    }
+
+    @Benchmark
+    public Optional<String> missingHeader() {
+        return TokenExtractor.extractBearer(anonymous);
+    }
+}
@@ -0,0 +1,50 @@
+package com.newsshelf.admin.bench;
+
+import com.newsshelf.admin.id.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlation id generation: UUID.randomUUID (one SecureRandom shared by every thread) against UuidV7
+ * (thread-local random), on one thread and on eight.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidGenerationBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID uuidV7() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomUuidEightThreads() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7EightThreads() {
+        return UuidV7.next();
+    }
+}
@@ -0,0 +1,135 @@
+package com.newsshelf.admin.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop driver: request i is due at {@code start + i / rate} whether or not earlier ones have answered,
+ * and its latency is measured from that due time. A stalled server therefore shows up as latency of the
+ * requests that should have been sent meanwhile, instead of as a quietly lower send rate (coordinated
+ * omission). Operations and target ids come from one seeded sequence, so every run sends the same requests.
+ */
+final class FixedRateDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI base;
+    private final List<String> tokens;
+    private final Operation[] weighted;
+    private final long seed;
+    private final HttpClient client;
+
+    FixedRateDriver(URI base, List<String> tokens, Map<Operation, Integer> mix, long seed, ExecutorService executor) {
+        this.base = base;
+        this.tokens = tokens;
+        this.weighted = mix.entrySet().stream()
+                .flatMap(e -> Collections.nCopies(e.getValue(), e.getKey()).stream())
+                .toArray(Operation[]::new);
+        this.seed = seed;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    Phase run(int rate, Duration duration) {
+        var phase = new Phase(rate);
+        var random = new SplittableRandom(seed);
+        long total = rate * duration.toSeconds();
+        long intervalNanos = 1_000_000_000L / rate;
+        long start = System.nanoTime() + 10_000_000L;
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long due = start + i * intervalNanos;
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                phase.maxSendLagNanos = Math.max(phase.maxSendLagNanos, -wait);
+
+                Operation op = weighted[random.nextInt(weighted.length)];
+                HttpRequest request = op.request(base, random)
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Authorization", "Bearer " + tokens.get((int) (i % tokens.size())))
+                        .build();
+                requests.submit(() -> send(phase, op, request, due));
+            }
+        }
+
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    private void send(Phase phase, Operation op, HttpRequest request, long due) {
+        OperationStats stats = phase.stats.get(op);
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            status = -1;
+        }
+        stats.latency.recordValue(Math.max(0, System.nanoTime() - due));
+
+        if (status >= 200 && status < 300) {
+            stats.ok.incrementAndGet();
+        } else if (status == 429) {
+            stats.limited.incrementAndGet();
+        } else {
+            stats.failed.incrementAndGet();
+        }
+    }
+
+    static final class Phase {
+
+        final int rate;
+        final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        long elapsedNanos;
+        long maxSendLagNanos;
+
+        private Phase(int rate) {
+            this.rate = rate;
+            for (Operation op : Operation.values()) {
+                stats.put(op, new OperationStats());
+            }
+        }
+    }
+
+    static final class OperationStats {
+
+        final Recorder latency = new Recorder(3);
+        final AtomicLong ok = new AtomicLong();
+        final AtomicLong limited = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+
+        private Histogram histogram;
+
+        /**
+         * Latencies in nanoseconds; call once the phase has ended.
+         */
+        Histogram histogram() {
+            if (histogram == null) histogram = latency.getIntervalHistogram();
+            return histogram;
+        }
+
+        long count() {
+            return ok.get() + limited.get() + failed.get();
+        }
+    }
+}
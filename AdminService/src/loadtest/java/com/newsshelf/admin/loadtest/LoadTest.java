@@ -0,0 +1,219 @@
+package com.newsshelf.admin.loadtest;
+
+import com.newsshelf.admin.AdminServiceApplication;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Self-contained load test: HTTP stubs for the three downstreams, an embedded Postgres for the audit
+ * tables (or {@code loadtest.jdbc-url}), AdminService itself started in this JVM, then mixed admin traffic
+ * at each configured rate. Per rate and operation it reports achieved throughput, outcome counts and
+ * latency percentiles, and writes each HdrHistogram percentile distribution to the output directory.
+ *
+ * <p>For comparable numbers run on an otherwise idle machine with the same settings and seed; the driver,
+ * the stubs and the service share this JVM, so the result is the whole setup's capacity on that machine,
+ * not AdminService's alone.
+ */
+public final class LoadTest {
+
+    private static final String SECRET = "loadtest-secret-key-at-least-32-characters";
+    private static final String ISSUER = "NewsShelf.UserService";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // the JDK server writes headers and body separately; with Nagle on, every JSON answer waits for a delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Files.createDirectories(settings.output());
+
+        try (EmbeddedPostgres postgres = settings.jdbcUrl() == null ? EmbeddedPostgres.builder().start() : null;
+             StubServer user = StubServer.start("user", settings.user());
+             StubServer news = StubServer.start("news", settings.news());
+             StubServer comments = StubServer.start("comments", settings.comments());
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            String jdbcUrl = postgres != null ? postgres.getJdbcUrl("postgres", "postgres") : settings.jdbcUrl();
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.username=" + settings.jdbcUser(),
+                    "--spring.datasource.password=" + settings.jdbcPassword(),
+                    "--services.user.base-url=" + user.baseUri(),
+                    "--services.news.base-url=" + news.baseUri(),
+                    "--services.comments.base-url=" + comments.baseUri(),
+                    "--security.jwt.secret=" + SECRET,
+                    "--security.jwt.issuer=" + ISSUER,
+                    "--audit.writer.spill-dir=" + settings.output().resolve("spill").toAbsolutePath(),
+                    "--logging.level.com.newsshelf.admin=" + settings.appLogLevel(),
+                    "--logging.level.root=" + settings.appLogLevel()
+            ));
+            settings.appProperties().forEach(property -> appArgs.add("--" + property));
+            ConfigurableApplicationContext app = new SpringApplicationBuilder(AdminServiceApplication.class)
+                    .run(appArgs.toArray(String[]::new));
+
+            try {
+                URI base = URI.create("http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port"));
+                var driver = new FixedRateDriver(base, tokens(settings), settings.mix(), settings.seed(),
+                        clientExecutor);
+
+                System.out.printf("warmup rate=%d duration=%s%n", settings.rates().getFirst(), settings.warmup());
+                driver.run(settings.rates().getFirst(), settings.warmup());
+
+                List<FixedRateDriver.Phase> phases = new ArrayList<>();
+                for (int rate : settings.rates()) {
+                    System.out.printf("measuring rate=%d duration=%s%n", rate, settings.duration());
+                    FixedRateDriver.Phase phase = driver.run(rate, settings.duration());
+                    phases.add(phase);
+                    writeDistributions(settings.output(), phase);
+                }
+
+                // let the write-behind audit writer flush before counting rows
+                Thread.sleep(Duration.ofSeconds(2));
+                long auditRows = app.getBean(JdbcTemplate.class)
+                        .queryForObject("SELECT count(*) FROM admin_action", Long.class);
+
+                String report = report(settings, phases, auditRows, hedges(app.getBean(MeterRegistry.class)),
+                        user, news, comments);
+                System.out.print(report);
+                Files.writeString(settings.output().resolve("summary.txt"), report);
+
+            } finally {
+                app.close();
+            }
+        }
+    }
+
+    private static List<String> tokens(LoadTestSettings settings) {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Date expiresAt = Date.from(Instant.now().plus(Duration.ofHours(6)));
+
+        List<String> tokens = new ArrayList<>(settings.actors());
+        for (int i = 0; i < settings.actors(); i++) {
+            tokens.add(Jwts.builder()
+                    .setSubject("loadtest-admin-" + i)
+                    .setIssuer(ISSUER)
+                    .claim("role", "Admin")
+                    .setExpiration(expiresAt)
+                    .signWith(key)
+                    .compact());
+        }
+        return tokens;
+    }
+
+    /**
+     * Hedged second attempts per downstream and outcome, warmup included; empty when hedging never kicked in.
+     */
+    private static String hedges(MeterRegistry registry) {
+        var out = new StringBuilder();
+        for (Counter counter : registry.find("admin.downstream.hedges").counters()) {
+            if (counter.count() == 0) continue;
+            out.append(String.format(Locale.ROOT, "hedges %s %s=%d (warmup included)%n",
+                    counter.getId().getTag("downstream"), counter.getId().getTag("outcome"), (long) counter.count()));
+        }
+        return out.toString();
+    }
+
+    private static void writeDistributions(Path output, FixedRateDriver.Phase phase) throws IOException {
+        for (var entry : phase.stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            if (histogram.getTotalCount() == 0) continue;
+
+            Path file = output.resolve(phase.rate + "rps-" + entry.getKey().displayName() + ".hgrm");
+            try (var out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+
+    private static String report(
+            LoadTestSettings settings,
+            List<FixedRateDriver.Phase> phases,
+            long auditRows,
+            String hedges,
+            StubServer... stubs
+    ) {
+        var out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%nAdminService load test  cpus=%d  java=%s  seed=%d  actors=%d%n",
+                Runtime.getRuntime().availableProcessors(), Runtime.version(), settings.seed(), settings.actors()));
+        out.append(String.format(Locale.ROOT, "stubs  user=%s  news=%s  comments=%s%n",
+                describe(settings.user()), describe(settings.news()), describe(settings.comments())));
+        if (!settings.appProperties().isEmpty()) {
+            out.append(String.format(Locale.ROOT, "app    %s%n", String.join(" ", settings.appProperties())));
+        }
+        out.append(String.format(Locale.ROOT, "%n%-6s %-15s %8s %8s %6s %6s %8s %9s %9s %9s %9s %9s%n",
+                "rate", "operation", "sent", "ok", "429", "error", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (FixedRateDriver.Phase phase : phases) {
+            double seconds = phase.elapsedNanos / 1e9;
+            Histogram all = new Histogram(3);
+            long sent = 0, ok = 0, limited = 0, failed = 0;
+
+            for (var entry : phase.stats.entrySet()) {
+                FixedRateDriver.OperationStats stats = entry.getValue();
+                if (stats.count() == 0) continue;
+                all.add(stats.histogram());
+                sent += stats.count();
+                ok += stats.ok.get();
+                limited += stats.limited.get();
+                failed += stats.failed.get();
+                row(out, phase.rate, entry.getKey().displayName(), stats.count(), stats.ok.get(),
+                        stats.limited.get(), stats.failed.get(), stats.count() / seconds, stats.histogram());
+            }
+            row(out, phase.rate, "all", sent, ok, limited, failed, sent / seconds, all);
+            out.append(String.format(Locale.ROOT, "%-6d max send lag %.1f ms%n%n",
+                    phase.rate, phase.maxSendLagNanos / 1e6));
+        }
+
+        for (StubServer stub : stubs) {
+            out.append(String.format(Locale.ROOT, "stub %s requests=%d errors=%d%n",
+                    stub.name(), stub.requests(), stub.errors()));
+        }
+        out.append(String.format(Locale.ROOT, "audit rows=%d (warmup included)%n", auditRows));
+        if (!hedges.isEmpty()) out.append(hedges);
+        return out.toString();
+    }
+
+    private static void row(StringBuilder out, int rate, String name, long sent, long ok, long limited, long failed,
+                            double perSecond, Histogram latency) {
+        out.append(String.format(Locale.ROOT, "%-6d %-15s %8d %8d %6d %6d %8.1f", rate, name, sent, ok, limited,
+                failed, perSecond));
+        for (double p : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %9.2f", latency.getValueAtPercentile(p) / 1e6));
+        }
+        out.append(String.format(Locale.ROOT, " %9.2f%n", latency.getMaxValue() / 1e6));
+    }
+
+    private static String describe(LoadTestSettings.StubProfile profile) {
+        String tail = profile.tailRate() > 0
+                ? "/" + (profile.tailRate() * 100) + "%+" + profile.tailLatency().toMillis() + "ms"
+                : "";
+        return profile.latency().toMillis() + "+" + profile.jitter().toMillis() + "ms" + tail + "/"
+                + (profile.errorRate() * 100) + "%err";
+    }
+}
@@ -0,0 +1,112 @@
+package com.newsshelf.admin.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties:
+ *
+ * <pre>
+ * loadtest.rates           requests per second, one measured phase each     100,200,400
+ * loadtest.warmup          unrecorded run at the first rate before measuring 20s
+ * loadtest.duration        length of each measured phase                    30s
+ * loadtest.actors          distinct signed-in admins the requests rotate over 200
+ * loadtest.mix             operation weights                                list-users:40,delete-post:25,...
+ * loadtest.seed            seed of the operation and id sequence            42
+ * loadtest.{user,news,comments}.latency     fixed stub latency               20ms / 10ms / 10ms
+ * loadtest.{user,news,comments}.jitter      extra uniform stub latency       10ms / 5ms / 5ms
+ * loadtest.{user,news,comments}.error-rate  share of stub answers that are 503 0
+ * loadtest.{user,news,comments}.tail-rate   share of stub answers that are slow 0
+ * loadtest.{user,news,comments}.tail-latency  extra latency of a slow answer   500ms
+ * loadtest.app-properties  extra AdminService properties, key=value;...    (none)
+ * loadtest.jdbc-url, .jdbc-user, .jdbc-password  external Postgres instead of the embedded one
+ * loadtest.app-log-level   AdminService log level during the run           WARN
+ * loadtest.output          result directory                                 target/loadtest
+ * </pre>
+ *
+ * The default actor count keeps every actor under the admin rate limit (600/min) up to about 2000 req/s;
+ * rate-limited answers are reported separately from errors.
+ */
+record LoadTestSettings(
+        List<Integer> rates,
+        Duration warmup,
+        Duration duration,
+        int actors,
+        Map<Operation, Integer> mix,
+        long seed,
+        StubProfile user,
+        StubProfile news,
+        StubProfile comments,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        String appLogLevel,
+        List<String> appProperties,
+        Path output
+) {
+    private static final String DEFAULT_MIX = "list-users:40,delete-post:25,delete-comment:25,assign-role:5,delete-user:5";
+
+    record StubProfile(Duration latency, Duration jitter, double errorRate, double tailRate, Duration tailLatency) {
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Arrays.stream(get("rates", "100,200,400").split(",")).map(String::trim).map(Integer::valueOf).toList(),
+                duration("warmup", "20s"),
+                duration("duration", "30s"),
+                Integer.parseInt(get("actors", "200")),
+                mix(get("mix", DEFAULT_MIX)),
+                Long.parseLong(get("seed", "42")),
+                stub("user", "20ms", "10ms"),
+                stub("news", "10ms", "5ms"),
+                stub("comments", "10ms", "5ms"),
+                System.getProperty("loadtest.jdbc-url"),
+                get("jdbc-user", "postgres"),
+                get("jdbc-password", "postgres"),
+                get("app-log-level", "WARN"),
+                Arrays.stream(get("app-properties", "").split(";")).map(String::trim).filter(p -> !p.isEmpty())
+                        .toList(),
+                Path.of(get("output", "target/loadtest"))
+        );
+    }
+
+    private static StubProfile stub(String name, String latency, String jitter) {
+        return new StubProfile(
+                duration(name + ".latency", latency),
+                duration(name + ".jitter", jitter),
+                Double.parseDouble(get(name + ".error-rate", "0")),
+                Double.parseDouble(get(name + ".tail-rate", "0")),
+                duration(name + ".tail-latency", "500ms")
+        );
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries are operation:weight, got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no operation with a positive weight");
+        }
+        return weights;
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(get(key, defaultValue));
+    }
+
+    private static String get(String key, String defaultValue) {
+        return System.getProperty("loadtest." + key, defaultValue);
+    }
+}
@@ -0,0 +1,68 @@
+package com.newsshelf.admin.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+/**
+ * Admin requests the load test sends, each hitting one downstream stub through AdminService.
+ * Target ids are drawn from ranges the stubs answer for.
+ */
+enum Operation {
+
+    LIST_USERS("list-users") {
+        @Override
+        HttpRequest.Builder request(URI base, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/users?page=" + random.nextInt(10) + "&size=50")).GET();
+        }
+    },
+    ASSIGN_ROLE("assign-role") {
+        @Override
+        HttpRequest.Builder request(URI base, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/users/" + userId(random) + "/role"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"role\":\"PUBLISHER\"}"));
+        }
+    },
+    DELETE_USER("delete-user") {
+        @Override
+        HttpRequest.Builder request(URI base, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/users/" + userId(random))).DELETE();
+        }
+    },
+    DELETE_POST("delete-post") {
+        @Override
+        HttpRequest.Builder request(URI base, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/posts/" + (1 + random.nextInt(1_000_000)))).DELETE();
+        }
+    },
+    DELETE_COMMENT("delete-comment") {
+        @Override
+        HttpRequest.Builder request(URI base, SplittableRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/comments/" + (1 + random.nextInt(1_000_000)))).DELETE();
+        }
+    };
+
+    private final String displayName;
+
+    Operation(String displayName) {
+        this.displayName = displayName;
+    }
+
+    abstract HttpRequest.Builder request(URI base, SplittableRandom random);
+
+    String displayName() {
+        return displayName;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation op : values()) {
+            if (op.displayName.equals(name)) return op;
+        }
+        throw new IllegalArgumentException("Unknown operation " + name);
+    }
+
+    private static String userId(SplittableRandom random) {
+        return StubServer.userId(random.nextInt(StubServer.USERS));
+    }
+}
@@ -0,0 +1,165 @@
+package com.newsshelf.admin.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for one downstream, answering the contracts the Default*AdminService classes call:
+ * <ul>
+ *     <li>user: {@code GET /admin/users} (paged list), {@code PUT /admin/users/{id}/role},
+ *     {@code DELETE /admin/users/{id}}</li>
+ *     <li>news: {@code DELETE /api/news/{id}}</li>
+ *     <li>comments: {@code DELETE /api/comments/{id}}</li>
+ * </ul>
+ * Every answer waits the profile's latency plus a uniform jitter, on a virtual thread so waiting costs no
+ * platform thread; the profile's tail share of answers waits the tail latency on top (a slow replica), and its
+ * error share are 503s. Anything else is a 404.
+ */
+final class StubServer implements AutoCloseable {
+
+    static final int USERS = 2_000;
+
+    private final String name;
+    private final LoadTestSettings.StubProfile profile;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private StubServer(String name, LoadTestSettings.StubProfile profile) throws IOException {
+        this.name = name;
+        this.profile = profile;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    static StubServer start(String name, LoadTestSettings.StubProfile profile) throws IOException {
+        var stub = new StubServer(name, profile);
+        stub.server.start();
+        return stub;
+    }
+
+    static String userId(int index) {
+        return "loadtest-user-" + index;
+    }
+
+    String name() {
+        return name;
+    }
+
+    URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            requests.incrementAndGet();
+            delay();
+
+            if (profile.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.errorRate()) {
+                errors.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            switch (name) {
+                case "user" -> {
+                    if ("GET".equals(method) && path.equals("/admin/users")) {
+                        json(exchange, users(exchange.getRequestURI().getRawQuery()));
+                    } else if (("PUT".equals(method) && path.startsWith("/admin/users/") && path.endsWith("/role"))
+                            || ("DELETE".equals(method) && path.startsWith("/admin/users/"))) {
+                        exchange.sendResponseHeaders(204, -1);
+                    } else {
+                        exchange.sendResponseHeaders(404, -1);
+                    }
+                }
+                case "news" -> noContentFor(exchange, method, path, "/api/news/");
+                case "comments" -> noContentFor(exchange, method, path, "/api/comments/");
+                default -> exchange.sendResponseHeaders(404, -1);
+            }
+        }
+    }
+
+    private void delay() {
+        long nanos = profile.latency().toNanos();
+        long jitter = profile.jitter().toNanos();
+        if (jitter > 0) nanos += ThreadLocalRandom.current().nextLong(jitter);
+        if (profile.tailRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.tailRate()) {
+            nanos += profile.tailLatency().toNanos();
+        }
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void noContentFor(HttpExchange exchange, String method, String path, String prefix)
+            throws IOException {
+        exchange.sendResponseHeaders("DELETE".equals(method) && path.startsWith(prefix) ? 204 : 404, -1);
+    }
+
+    private static String users(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) query.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        int page = Integer.parseInt(query.getOrDefault("page", "0"));
+        int size = Integer.parseInt(query.getOrDefault("size", "50"));
+
+        var json = new StringBuilder(size * 110).append("{\"users\":[");
+        int from = Math.min(USERS, page * size);
+        int to = Math.min(USERS, from + size);
+        for (int i = from; i < to; i++) {
+            if (i > from) json.append(',');
+            json.append("{\"id\":\"").append(userId(i))
+                    .append("\",\"email\":\"").append(userId(i)).append("@newsshelf.test\"")
+                    .append(",\"role\":\"").append(i % 10 == 0 ? "Publisher" : "Reader")
+                    .append("\",\"status\":\"Active\"}");
+        }
+        return json.append("],\"total\":").append(USERS).append('}').toString();
+    }
+
+    private static void json(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
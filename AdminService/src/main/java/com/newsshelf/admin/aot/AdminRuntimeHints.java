@@ -0,0 +1,35 @@
+package com.newsshelf.admin.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Native-image hints Spring cannot infer. jjwt 0.11 creates its parser and JSON codec by class name and
+ * ServiceLoader, and jjwt-impl is runtime-only, so those types are named rather than referenced.
+ * DTOs bound outside controller signatures are covered by {@code @RegisterReflectionForBinding} where
+ * the binding happens.
+ */
+public class AdminRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
@@ -0,0 +1,30 @@
+package com.newsshelf.admin.aot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Slf4j
+@Configuration
+@ImportRuntimeHints(AdminRuntimeHints.class)
+public class AotRuntimeConfig {
+
+    /**
+     * AOT evaluates {@code spring.flyway.enabled} at build time, so an AOT build keeps the Flyway beans
+     * whatever the runtime value. Checking it again here lets the CDS training run and one-off tooling start
+     * without a database; on a plain JVM the property already removes these beans.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${spring.flyway.enabled:true}") boolean enabled) {
+        return flyway -> {
+            if (enabled) {
+                flyway.migrate();
+            } else {
+                log.info("flyway migrate skipped: spring.flyway.enabled=false");
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.newsshelf.admin.audit.maintenance;
+
+import com.newsshelf.admin.audit.repository.AuditPartitionRepository;
+import com.newsshelf.admin.audit.repository.AuditRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Nightly housekeeping for admin_action: keeps monthly partitions ahead of the clock, refreshes the daily
+ * rollup for the last few days and drops or detaches partitions past retention. Guarded by an advisory
+ * lock so only one replica runs it.
+ */
+@Slf4j
+@Component
+public class AuditPartitionMaintenance {
+
+    private static final long LOCK_KEY = 0x41_55_44_49_54L;
+
+    private final AuditPartitionRepository partitionRepository;
+    private final AuditRollupRepository rollupRepository;
+    private final int precreateMonths;
+    private final int retentionMonths;
+    private final ExpiredPartitionMode expiredMode;
+    private final int rollupLookbackDays;
+    private final Clock clock;
+
+    @Autowired
+    public AuditPartitionMaintenance(
+            AuditPartitionRepository partitionRepository,
+            AuditRollupRepository rollupRepository,
+            @Value("${audit.partitions.precreate-months:3}") int precreateMonths,
+            @Value("${audit.partitions.retention-months:12}") int retentionMonths,
+            @Value("${audit.partitions.expired-mode:DROP}") ExpiredPartitionMode expiredMode,
+            @Value("${audit.rollup.lookback-days:2}") int rollupLookbackDays
+    ) {
+        this(partitionRepository, rollupRepository, precreateMonths, retentionMonths, expiredMode, rollupLookbackDays,
+                Clock.systemUTC());
+    }
+
+    AuditPartitionMaintenance(
+            AuditPartitionRepository partitionRepository,
+            AuditRollupRepository rollupRepository,
+            int precreateMonths,
+            int retentionMonths,
+            ExpiredPartitionMode expiredMode,
+            int rollupLookbackDays,
+            Clock clock
+    ) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("audit.partitions.retention-months must be >= 1");
+        }
+        this.partitionRepository = partitionRepository;
+        this.rollupRepository = rollupRepository;
+        this.precreateMonths = precreateMonths;
+        this.retentionMonths = retentionMonths;
+        this.expiredMode = expiredMode;
+        this.rollupLookbackDays = rollupLookbackDays;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${audit.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    @Transactional
+    public void run() {
+        if (!partitionRepository.tryLock(LOCK_KEY)) {
+            log.info("audit maintenance skipped: lock held elsewhere");
+            return;
+        }
+
+        log.info("audit maintenance start");
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        YearMonth current = YearMonth.from(today);
+
+        for (int i = 0; i <= precreateMonths; i++) {
+            partitionRepository.createPartition(current.plusMonths(i));
+        }
+
+        int rolled = rollupRepository.rollup(today.minusDays(rollupLookbackDays), today.plusDays(1));
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+        int expired = 0;
+        for (YearMonth month : partitionRepository.existingPartitions()) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            if (expiredMode == ExpiredPartitionMode.ARCHIVE) {
+                partitionRepository.archivePartition(month);
+            } else {
+                partitionRepository.dropPartition(month);
+            }
+            expired++;
+        }
+
+        log.info("audit maintenance success rollupRows={} expiredPartitions={} mode={}", rolled, expired, expiredMode);
+    }
+}
@@ -0,0 +1,6 @@
+package com.newsshelf.admin.audit.maintenance;
+
+public enum ExpiredPartitionMode {
+    DROP,
+    ARCHIVE
+}
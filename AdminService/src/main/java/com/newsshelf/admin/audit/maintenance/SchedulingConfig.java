@@ -0,0 +1,9 @@
+package com.newsshelf.admin.audit.maintenance;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,25 @@
 package com.newsshelf.admin.audit.model;
 
+/**
+ * Stored as its {@link #code()} in admin_action and admin_action_daily; codes are never reused or renumbered.
+ */
 public enum ActionStatus {
-    SUCCESS,
-    FAILED
+    SUCCESS(1),
+    FAILED(2);
+
+    private static final ActionStatus[] BY_CODE = AuditCodes.index(values(), ActionStatus::code);
+
+    private final short code;
+
+    ActionStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public static ActionStatus fromCode(int code) {
+        return AuditCodes.lookup(BY_CODE, code, ActionStatus.class);
+    }
 }
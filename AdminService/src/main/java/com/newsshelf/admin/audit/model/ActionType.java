@@ -1,9 +1,32 @@
 package com.newsshelf.admin.audit.model;
 
+/**
+ * Stored as its {@link #code()} in admin_action and admin_action_daily; codes are never reused or renumbered.
+ */
 public enum ActionType {
-    ASSIGN_ROLE,
-    LIST_USERS,
-    DELETE_USER,
-    DELETE_COMMENT,
-    DELETE_POST
+    ASSIGN_ROLE(1),
+    LIST_USERS(2),
+    DELETE_USER(3),
+    DELETE_COMMENT(4),
+    DELETE_POST(5),
+    PURGE_USER(6),
+    BLOCK_USER(7),
+    UNBLOCK_USER(8),
+    RUN_JOB(9);
+
+    private static final ActionType[] BY_CODE = AuditCodes.index(values(), ActionType::code);
+
+    private final short code;
+
+    ActionType(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public static ActionType fromCode(int code) {
+        return AuditCodes.lookup(BY_CODE, code, ActionType.class);
+    }
 }
@@ -0,0 +1,37 @@
+package com.newsshelf.admin.audit.model;
+
+import java.lang.reflect.Array;
+import java.util.function.ToIntFunction;
+
+/**
+ * Code-to-constant tables for the enums stored as smallint codes.
+ */
+final class AuditCodes {
+
+    private AuditCodes() {
+    }
+
+    static <E extends Enum<E>> E[] index(E[] values, ToIntFunction<E> code) {
+        int max = 0;
+        for (E value : values) max = Math.max(max, code.applyAsInt(value));
+
+        @SuppressWarnings("unchecked")
+        E[] byCode = (E[]) Array.newInstance(values.getClass().getComponentType(), max + 1);
+        for (E value : values) {
+            int c = code.applyAsInt(value);
+            if (c <= 0 || byCode[c] != null) {
+                throw new IllegalStateException("Duplicate or non-positive audit code " + c + " for " + value);
+            }
+            byCode[c] = value;
+        }
+        return byCode;
+    }
+
+    static <E extends Enum<E>> E lookup(E[] byCode, int code, Class<E> type) {
+        E value = code > 0 && code < byCode.length ? byCode[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code " + code);
+        }
+        return value;
+    }
+}
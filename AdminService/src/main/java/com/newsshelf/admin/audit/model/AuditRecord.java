@@ -0,0 +1,26 @@
+package com.newsshelf.admin.audit.model;
+
+import com.newsshelf.admin.security.role.Role;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record AuditRecord(
+        UUID correlationId,
+        ActionType actionType,
+        ActionStatus status,
+        String actorUserId,
+        Set<Role> actorRoles,
+        TargetType targetType,
+        String targetId,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        Long durationMs,
+        boolean coalesced,
+        UUID jobId
+) {
+    public AuditRecord {
+        actorRoles = actorRoles == null ? Set.of() : actorRoles;
+    }
+}
@@ -1,7 +1,27 @@
 package com.newsshelf.admin.audit.model;
 
+/**
+ * Stored as its {@link #code()} in admin_action; codes are never reused or renumbered.
+ */
 public enum TargetType {
-    USER,
-    COMMENT,
-    POST
+    USER(1),
+    COMMENT(2),
+    POST(3),
+    JOB(4);
+
+    private static final TargetType[] BY_CODE = AuditCodes.index(values(), TargetType::code);
+
+    private final short code;
+
+    TargetType(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public static TargetType fromCode(int code) {
+        return AuditCodes.lookup(BY_CODE, code, TargetType.class);
+    }
 }
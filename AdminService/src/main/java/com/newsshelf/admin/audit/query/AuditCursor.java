@@ -0,0 +1,34 @@
+package com.newsshelf.admin.audit.query;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Keyset position (started_at, id) of the last row of a page, opaque to clients.
+ */
+public record AuditCursor(Instant startedAt, long id) {
+
+    public String encode() {
+        String raw = ChronoUnit.MICROS.between(Instant.EPOCH, startedAt) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static AuditCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            return new AuditCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), id);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor is malformed");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.newsshelf.admin.audit.query;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AuditQuery(
+        String actorUserId,
+        ActionType actionType,
+        ActionStatus status,
+        TargetType targetType,
+        String targetId,
+        UUID jobId,
+        Instant from,
+        Instant to
+) {
+}
@@ -0,0 +1,67 @@
+package com.newsshelf.admin.audit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * DDL for the monthly partitions of admin_action. Partition names are {@code admin_action_pYYYYMM};
+ * the month is parsed back from the name, so no catalog expression parsing is needed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "admin_action_p";
+    private static final String ARCHIVE_PREFIX = "admin_action_archive_";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryLock(long key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, key));
+    }
+
+    public List<YearMonth> existingPartitions() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = 'admin_action' AND c.relname LIKE 'admin_action\\_p%'
+                        ORDER BY c.relname
+                        """, String.class)
+                .stream()
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX))
+                .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF admin_action FOR VALUES FROM ('" + from + " 00:00:00+00') TO ('" + to + " 00:00:00+00')");
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    /**
+     * Detaches the partition and keeps it as a plain table for dump/offload; it no longer costs index maintenance.
+     */
+    public void archivePartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE admin_action DETACH PARTITION " + partitionName(month));
+        jdbcTemplate.execute("ALTER TABLE " + partitionName(month) + " RENAME TO " + ARCHIVE_PREFIX + month.format(SUFFIX));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+}
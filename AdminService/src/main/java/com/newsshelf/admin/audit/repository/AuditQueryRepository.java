@@ -0,0 +1,154 @@
+package com.newsshelf.admin.audit.repository;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.query.AuditCursor;
+import com.newsshelf.admin.audit.query.AuditQuery;
+import com.newsshelf.admin.dto.response.AuditPageResponse.AuditEntry;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Read side of admin_action. Every filter maps onto the leading column of one of the V1 indexes
+ * (actor, status, type, target) followed by started_at, or onto the V7 job index, so pages are index range scans, never OFFSET scans.
+ * Codes and the role mask are decoded back to the names the API has always returned.
+ */
+@Repository
+public class AuditQueryRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String COLUMNS = """
+            id, correlation_id, action_type, status, actor_user_id, actor_roles,
+            target_type, target_id, started_at, duration_ms, coalesced, job_id
+            """;
+
+    // authorities as they were recorded before roles became a mask; UNKNOWN for an actor without roles
+    private static final String[] ROLE_LABELS = new String[1 << Role.values().length];
+
+    static {
+        for (int mask = 0; mask < ROLE_LABELS.length; mask++) {
+            var authorities = RoleSets.authorities(RoleSets.fromMask(mask));
+            ROLE_LABELS[mask] = authorities.isEmpty() ? "UNKNOWN" : authorities.stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.joining(","));
+        }
+    }
+
+    private static final RowMapper<AuditEntry> ROW_MAPPER = (rs, rowNum) -> {
+        OffsetDateTime startedAt = rs.getObject("started_at", OffsetDateTime.class);
+        Long durationMs = rs.getObject("duration_ms", Long.class);
+        return new AuditEntry(
+                rs.getLong("id"),
+                rs.getObject("correlation_id", UUID.class),
+                ActionType.fromCode(rs.getShort("action_type")).name(),
+                ActionStatus.fromCode(rs.getShort("status")).name(),
+                rs.getString("actor_user_id"),
+                ROLE_LABELS[rs.getShort("actor_roles")],
+                TargetType.fromCode(rs.getShort("target_type")).name(),
+                rs.getString("target_id"),
+                startedAt,
+                durationMs == null ? null : startedAt.plusNanos(durationMs * 1_000_000),
+                durationMs,
+                rs.getBoolean("coalesced"),
+                rs.getObject("job_id", UUID.class)
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamingJdbc;
+
+    public AuditQueryRepository(NamedParameterJdbcTemplate jdbc, JdbcTemplate jdbcTemplate) {
+        this.jdbc = jdbc;
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(EXPORT_FETCH_SIZE);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    public List<AuditEntry> findPage(AuditQuery query, AuditCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM admin_action WHERE 1 = 1");
+
+        appendFilters(sql, params, query);
+
+        if (after != null) {
+            // expanded form of (started_at, id) < (:ts, :id) so the started_at bound stays an index range
+            sql.append(" AND started_at <= :afterTs AND (started_at < :afterTs OR id < :afterId)");
+            params.addValue("afterTs", Timestamp.from(after.startedAt()));
+            params.addValue("afterId", after.id());
+        }
+
+        sql.append(" ORDER BY started_at DESC, id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbc.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    /**
+     * Streams every matching row to {@code sink} through a server-side cursor; PostgreSQL only honours
+     * the fetch size inside a transaction, hence the read-only transaction.
+     */
+    @Transactional(readOnly = true)
+    public void stream(AuditQuery query, Consumer<AuditEntry> sink) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM admin_action WHERE 1 = 1");
+
+        appendFilters(sql, params, query);
+        sql.append(" ORDER BY started_at DESC, id DESC");
+
+        streamingJdbc.query(sql.toString(), params, rs -> {
+            sink.accept(ROW_MAPPER.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    private static void appendFilters(StringBuilder sql, MapSqlParameterSource params, AuditQuery query) {
+        if (query.actorUserId() != null) {
+            sql.append(" AND actor_user_id = :actor");
+            params.addValue("actor", query.actorUserId());
+        }
+        if (query.actionType() != null) {
+            sql.append(" AND action_type = :actionType");
+            params.addValue("actionType", query.actionType().code());
+        }
+        if (query.status() != null) {
+            sql.append(" AND status = :status");
+            params.addValue("status", query.status().code());
+        }
+        if (query.targetType() != null) {
+            sql.append(" AND target_type = :targetType");
+            params.addValue("targetType", query.targetType().code());
+        }
+        if (query.targetId() != null) {
+            sql.append(" AND target_id = :targetId");
+            params.addValue("targetId", query.targetId());
+        }
+        if (query.jobId() != null) {
+            sql.append(" AND job_id = :jobId");
+            params.addValue("jobId", query.jobId());
+        }
+        if (query.from() != null) {
+            sql.append(" AND started_at >= :from");
+            params.addValue("from", Timestamp.from(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append(" AND started_at < :to");
+            params.addValue("to", Timestamp.from(query.to()));
+        }
+    }
+}
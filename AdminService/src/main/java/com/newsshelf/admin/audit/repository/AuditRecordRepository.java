@@ -0,0 +1,54 @@
+package com.newsshelf.admin.audit.repository;
+
+import com.newsshelf.admin.audit.model.AuditRecord;
+import com.newsshelf.admin.security.role.RoleSets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Write side of admin_action, column for column as laid out by V9: enum codes and the role mask are bound
+ * as smallints, finished_at is not stored (it is started_at + duration_ms).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditRecordRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO admin_action (
+                started_at, correlation_id, job_id, duration_ms,
+                action_type, status, target_type, actor_roles,
+                coalesced, actor_user_id, target_id
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (correlation_id, started_at) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertBatch(List<AuditRecord> records) {
+        if (records.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, r) -> {
+            ps.setObject(1, r.startedAt());
+            ps.setObject(2, r.correlationId());
+            ps.setObject(3, r.jobId());
+            if (r.durationMs() != null) {
+                ps.setInt(4, (int) Math.min(r.durationMs(), Integer.MAX_VALUE));
+            } else {
+                ps.setNull(4, Types.INTEGER);
+            }
+            ps.setShort(5, r.actionType().code());
+            ps.setShort(6, r.status().code());
+            ps.setShort(7, r.targetType().code());
+            ps.setShort(8, (short) RoleSets.mask(r.actorRoles()));
+            ps.setBoolean(9, r.coalesced());
+            ps.setString(10, r.actorUserId());
+            ps.setString(11, r.targetId());
+        });
+    }
+}
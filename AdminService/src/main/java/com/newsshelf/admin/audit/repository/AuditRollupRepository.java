@@ -0,0 +1,51 @@
+package com.newsshelf.admin.audit.repository;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.dto.response.AuditDailyCountResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AuditRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recounts [from, to) from raw rows; re-running a day replaces its counts, so late audit writes are picked up.
+     */
+    public int rollup(LocalDate from, LocalDate to) {
+        return jdbcTemplate.update("""
+                        INSERT INTO admin_action_daily (day, action_type, status, action_count, updated_at)
+                        SELECT (started_at AT TIME ZONE 'UTC')::date, action_type, status, COUNT(*), NOW()
+                        FROM admin_action
+                        WHERE started_at >= (?::date AT TIME ZONE 'UTC') AND started_at < (?::date AT TIME ZONE 'UTC')
+                        GROUP BY 1, 2, 3
+                        ON CONFLICT (day, action_type, status)
+                        DO UPDATE SET action_count = EXCLUDED.action_count, updated_at = EXCLUDED.updated_at
+                        """,
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<AuditDailyCountResponse> find(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+                        SELECT day, action_type, status, action_count
+                        FROM admin_action_daily
+                        WHERE day >= ? AND day < ?
+                        ORDER BY day, action_type, status
+                        """,
+                (rs, rowNum) -> new AuditDailyCountResponse(
+                        rs.getObject("day", LocalDate.class),
+                        ActionType.fromCode(rs.getShort("action_type")).name(),
+                        ActionStatus.fromCode(rs.getShort("status")).name(),
+                        rs.getLong("action_count")
+                ),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -4,10 +4,38 @@ import com.newsshelf.admin.audit.model.ActionStatus;
 import com.newsshelf.admin.audit.model.ActionType;
 import com.newsshelf.admin.audit.model.TargetType;
 
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
 public interface AdminActionService {
 
+    default void log(ActionType action,
+                     TargetType targetType,
+                     String targetId,
+                     ActionStatus status,
+                     Instant startedAt) {
+        log(action, targetType, targetId, status, startedAt, false);
+    }
+
+    /**
+     * @param coalesced the action shared a concurrent identical call instead of reaching the downstream itself
+     */
     void log(ActionType action,
              TargetType targetType,
              String targetId,
-             ActionStatus status);
+             ActionStatus status,
+             Instant startedAt,
+             boolean coalesced);
+
+    void logAll(ActionType action,
+                TargetType targetType,
+                Map<String, ActionStatus> statusByTargetId,
+                Instant startedAt);
+
+    /**
+     * Summary entry of a job. Its correlation id is the job id; the entries of the items it processed
+     * carry the job id as well (see {@link AuditJobContext}).
+     */
+    void logJob(UUID jobId, ActionStatus status, Instant startedAt);
 }
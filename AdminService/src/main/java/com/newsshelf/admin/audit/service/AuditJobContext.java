@@ -0,0 +1,34 @@
+package com.newsshelf.admin.audit.service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Job whose worker thread is currently executing, so that audit entries written by the services it calls
+ * carry the job id. Services audit on the calling thread, which for a job is always the worker.
+ */
+public final class AuditJobContext {
+
+    private static final ThreadLocal<UUID> CURRENT = new ThreadLocal<>();
+
+    private AuditJobContext() {
+    }
+
+    public static <T> T callInJob(UUID jobId, Supplier<T> action) {
+        UUID previous = CURRENT.get();
+        CURRENT.set(jobId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static UUID currentJobId() {
+        return CURRENT.get();
+    }
+}
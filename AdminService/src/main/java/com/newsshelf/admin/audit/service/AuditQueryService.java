@@ -0,0 +1,23 @@
+package com.newsshelf.admin.audit.service;
+
+import com.newsshelf.admin.audit.query.AuditQuery;
+import com.newsshelf.admin.dto.response.AuditDailyCountResponse;
+import com.newsshelf.admin.dto.response.AuditPageResponse;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AuditQueryService {
+
+    AuditPageResponse find(AuditQuery query, String cursor, int limit);
+
+    long export(AuditQuery query, ExportFormat format, OutputStream out);
+
+    List<AuditDailyCountResponse> daily(LocalDate from, LocalDate to);
+
+    enum ExportFormat {
+        CSV,
+        NDJSON
+    }
+}
@@ -0,0 +1,46 @@
+package com.newsshelf.admin.audit.service;
+
+import com.newsshelf.admin.id.UuidV7;
+
+import java.util.UUID;
+
+/**
+ * Request id of the request the current thread is serving (X-Request-ID, see RequestIdFilter). The first
+ * audit entry the request writes uses it as its correlation id, so a client can find that entry by the id
+ * it sent or was answered with. Further entries get fresh ids: entries written together share started_at,
+ * and a repeated (correlation_id, started_at) would be dropped as a duplicate.
+ */
+public final class AuditRequestContext {
+
+    private static final ThreadLocal<RequestId> CURRENT = new ThreadLocal<>();
+
+    private AuditRequestContext() {
+    }
+
+    public static void bind(UUID requestId) {
+        CURRENT.set(new RequestId(requestId));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static UUID nextCorrelationId() {
+        RequestId current = CURRENT.get();
+        if (current != null && !current.claimed) {
+            current.claimed = true;
+            return current.id;
+        }
+        return UuidV7.next();
+    }
+
+    private static final class RequestId {
+
+        private final UUID id;
+        private boolean claimed;
+
+        private RequestId(UUID id) {
+            this.id = id;
+        }
+    }
+}
@@ -2,10 +2,18 @@ package com.newsshelf.admin.audit.service;
 
 import com.newsshelf.admin.audit.model.ActionStatus;
 import com.newsshelf.admin.audit.model.ActionType;
-import com.newsshelf.admin.audit.model.AdminAction;
+import com.newsshelf.admin.audit.model.AuditRecord;
 import com.newsshelf.admin.audit.model.TargetType;
-import com.newsshelf.admin.audit.repository.AdminActionRepository;
+import com.newsshelf.admin.audit.writer.AuditWriter;
 import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import com.newsshelf.admin.stats.AdminStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -13,61 +21,183 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.Collection;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DefaultAdminActionService implements AdminActionService {
 
-    private final AdminActionRepository actionRepository;
+    private static final int ACTOR_MAX_LENGTH = 64;
+    private static final int TARGET_ID_MAX_LENGTH = 64;
+
+    private static final String OUTCOME_PARTIAL = "PARTIAL";
+
+    private final AuditWriter auditWriter;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final AdminStats stats;
+
+    @Override
+    public void log(
+            ActionType action,
+            TargetType targetType,
+            String targetId,
+            ActionStatus status,
+            Instant startedAt,
+            boolean coalesced
+    ) {
+        OffsetDateTime started = OffsetDateTime.ofInstant(startedAt, ZoneOffset.UTC);
+        OffsetDateTime finished = OffsetDateTime.now(ZoneOffset.UTC);
+        actionTimer(action, targetType, status.name(), false).record(Duration.between(started, finished));
+
+        Observation.createNotStarted("admin.audit.log", observationRegistry)
+                .lowCardinalityKeyValue("action", action.name())
+                .observe(() -> {
+                    try {
+                        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+                        String actor = currentActor(auth);
+                        Set<Role> actorRoles = currentActorRoles(auth);
+                        stats.recordAction(action, status, actor, 1);
+
+                        auditWriter.submit(record(AuditRequestContext.nextCorrelationId(), action, targetType, targetId, status,
+                                actor, actorRoles, started, finished, coalesced, AuditJobContext.currentJobId()));
+
+                        log.debug("audit queued actionType={} targetType={} targetId={} status={} coalesced={}",
+                                action, targetType, targetId, status, coalesced);
+
+                    } catch (Exception e) {
+                        log.warn("audit enqueue failed actionType={} targetType={} targetId={} status={} reason={}",
+                                action, targetType, targetId, status, e.getMessage(), e);
+                    }
+                });
+    }
 
     @Override
-    public void log(ActionType action, TargetType targetType, String targetId, ActionStatus status) {
+    public void logAll(
+            ActionType action,
+            TargetType targetType,
+            Map<String, ActionStatus> statusByTargetId,
+            Instant startedAt
+    ) {
+        OffsetDateTime started = OffsetDateTime.ofInstant(startedAt, ZoneOffset.UTC);
+        OffsetDateTime finished = OffsetDateTime.now(ZoneOffset.UTC);
+
+        long failed = statusByTargetId.values().stream().filter(s -> s == ActionStatus.FAILED).count();
+        long succeeded = statusByTargetId.size() - failed;
+        String outcome = failed == 0 ? ActionStatus.SUCCESS.name()
+                : succeeded == 0 ? ActionStatus.FAILED.name()
+                : OUTCOME_PARTIAL;
+        actionTimer(action, targetType, outcome, true).record(Duration.between(started, finished));
+        itemCounter(action, ActionStatus.SUCCESS).increment(succeeded);
+        itemCounter(action, ActionStatus.FAILED).increment(failed);
+
+        Observation.createNotStarted("admin.audit.log", observationRegistry)
+                .lowCardinalityKeyValue("action", action.name())
+                .observe(() -> {
+                    try {
+                        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+                        String actor = currentActor(auth);
+                        Set<Role> actorRoles = currentActorRoles(auth);
+                        stats.recordAction(action, ActionStatus.SUCCESS, actor, succeeded);
+                        stats.recordAction(action, ActionStatus.FAILED, actor, failed);
+
+                        UUID jobId = AuditJobContext.currentJobId();
+
+                        List<AuditRecord> records = new ArrayList<>(statusByTargetId.size());
+                        statusByTargetId.forEach((targetId, status) -> records.add(record(AuditRequestContext.nextCorrelationId(),
+                                action, targetType, targetId, status, actor, actorRoles, started, finished, false, jobId)));
+
+                        auditWriter.submitAll(records);
+
+                        log.debug("audit queued actionType={} targetType={} count={}", action, targetType, records.size());
+
+                    } catch (Exception e) {
+                        log.warn("audit enqueue failed actionType={} targetType={} count={} reason={}",
+                                action, targetType, statusByTargetId.size(), e.getMessage(), e);
+                    }
+                });
+    }
+
+    @Override
+    public void logJob(UUID jobId, ActionStatus status, Instant startedAt) {
+        OffsetDateTime started = OffsetDateTime.ofInstant(startedAt, ZoneOffset.UTC);
+        OffsetDateTime finished = OffsetDateTime.now(ZoneOffset.UTC);
+        actionTimer(ActionType.RUN_JOB, TargetType.JOB, status.name(), false).record(Duration.between(started, finished));
+
         try {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
             String actor = currentActor(auth);
-            String actorRoles = currentActorRoles(auth);
-
-            UUID correlationId = UUID.randomUUID();
-            OffsetDateTime now = OffsetDateTime.now();
-
-            UUID targetUserId = null;
-            if (targetType == TargetType.USER && targetId != null && !targetId.isBlank()) {
-                try {
-                    targetUserId = UUID.fromString(targetId);
-                } catch (IllegalArgumentException ignored) {
-                    targetUserId = null;
-                }
-            }
+            stats.recordAction(ActionType.RUN_JOB, status, actor, 1);
 
-            actionRepository.save(
-                    AdminAction.builder()
-                            .correlationId(correlationId)
-                            .actionType(action.name())
-                            .targetUserId(targetUserId)
-                            .actor(actor)
-                            .actorRoles(actorRoles)
-                            .status(status.name())
-                            .errorMessage(status == ActionStatus.FAILED ? "FAILED" : null)
-                            .startedAt(now)
-                            .finishedAt(now)
-                            .build()
-            );
-
-            log.debug("audit saved actionType={} targetType={} targetId={} status={}",
-                    action, targetType, targetId, status);
+            auditWriter.submit(record(jobId, ActionType.RUN_JOB, TargetType.JOB, jobId.toString(), status,
+                    actor, currentActorRoles(auth), started, finished, false, jobId));
+
+            log.debug("audit queued actionType={} jobId={} status={}", ActionType.RUN_JOB, jobId, status);
 
         } catch (Exception e) {
-            log.warn("audit save failed actionType={} targetType={} targetId={} status={} reason={}",
-                    action, targetType, targetId, status, e.getMessage(), e);
+            log.warn("audit enqueue failed actionType={} jobId={} status={} reason={}",
+                    ActionType.RUN_JOB, jobId, status, e.getMessage(), e);
         }
     }
 
+    private Timer actionTimer(ActionType action, TargetType targetType, String outcome, boolean bulk) {
+        return Timer.builder("admin.action")
+                .description("End-to-end latency of an admin action, measured up to its audit entry")
+                .tag("action", action.name())
+                .tag("target", targetType.name())
+                .tag("outcome", outcome)
+                .tag("bulk", String.valueOf(bulk))
+                .register(meterRegistry);
+    }
+
+    private Counter itemCounter(ActionType action, ActionStatus status) {
+        return Counter.builder("admin.action.items")
+                .tag("action", action.name())
+                .tag("outcome", status.name())
+                .register(meterRegistry);
+    }
+
+    private static AuditRecord record(
+            UUID correlationId,
+            ActionType action,
+            TargetType targetType,
+            String targetId,
+            ActionStatus status,
+            String actor,
+            Set<Role> actorRoles,
+            OffsetDateTime startedAt,
+            OffsetDateTime finishedAt,
+            boolean coalesced,
+            UUID jobId
+    ) {
+        return new AuditRecord(
+                correlationId,
+                action,
+                status,
+                truncate(actor, ACTOR_MAX_LENGTH),
+                actorRoles,
+                targetType,
+                truncate(targetId, TARGET_ID_MAX_LENGTH),
+                startedAt,
+                finishedAt,
+                Duration.between(startedAt, finishedAt).toMillis(),
+                coalesced,
+                jobId
+        );
+    }
+
     private String currentActor(Authentication auth) {
         if (auth == null) return "unknown";
 
@@ -79,15 +209,25 @@ public class DefaultAdminActionService implements AdminActionService {
         return auth.getName() != null ? auth.getName() : "unknown";
     }
 
-    private String currentActorRoles(Authentication auth) {
-        if (auth == null) return "UNKNOWN";
-
-        Collection<? extends GrantedAuthority> authorities = auth.getAuthorities();
-        if (authorities.isEmpty()) return "UNKNOWN";
+    private Set<Role> currentActorRoles(Authentication auth) {
+        if (auth == null) return Set.of();
+        if (auth.getPrincipal() instanceof AdminPrincipal p) return p.roles();
+
+        // authorities that are not one of our roles cannot be stored in the role mask
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith("ROLE_")) continue;
+            try {
+                roles.add(Role.from(name.substring("ROLE_".length())));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return RoleSets.intern(roles);
+    }
 
-        return authorities.stream()
-                .map(GrantedAuthority::getAuthority)
-                .distinct()
-                .collect(Collectors.joining(","));
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) return value;
+        return value.substring(0, maxLength);
     }
 }
@@ -0,0 +1,148 @@
+package com.newsshelf.admin.audit.service;
+
+import com.newsshelf.admin.audit.query.AuditCursor;
+import com.newsshelf.admin.audit.query.AuditQuery;
+import com.newsshelf.admin.audit.repository.AuditQueryRepository;
+import com.newsshelf.admin.audit.repository.AuditRollupRepository;
+import com.newsshelf.admin.dto.response.AuditDailyCountResponse;
+import com.newsshelf.admin.dto.response.AuditPageResponse;
+import com.newsshelf.admin.dto.response.AuditPageResponse.AuditEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@RegisterReflectionForBinding(AuditPageResponse.class)
+public class DefaultAuditQueryService implements AuditQueryService {
+
+    private static final String CSV_HEADER = "id,correlation_id,action_type,status,actor_user_id,actor_roles,"
+            + "target_type,target_id,started_at,finished_at,duration_ms,coalesced,job_id";
+
+    private final AuditQueryRepository auditQueryRepository;
+    private final AuditRollupRepository auditRollupRepository;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public AuditPageResponse find(AuditQuery query, String cursor, int limit) {
+        validate(query);
+
+        List<AuditEntry> rows = auditQueryRepository.findPage(query, AuditCursor.decode(cursor), limit + 1);
+
+        if (rows.size() <= limit) {
+            return new AuditPageResponse(rows, null);
+        }
+
+        List<AuditEntry> page = rows.subList(0, limit);
+        AuditEntry last = page.getLast();
+        String next = new AuditCursor(last.startedAt().toInstant(), last.id()).encode();
+        return new AuditPageResponse(List.copyOf(page), next);
+    }
+
+    @Override
+    public List<AuditDailyCountResponse> daily(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        return auditRollupRepository.find(from, to);
+    }
+
+    @Override
+    public long export(AuditQuery query, ExportFormat format, OutputStream out) {
+        validate(query);
+        log.info("audit export start format={} query={}", format, query);
+
+        long[] count = {0};
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            auditQueryRepository.stream(query, entry -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(writer, entry);
+                    } else {
+                        writer.write(jsonMapper.writeValueAsString(entry));
+                        writer.write('\n');
+                    }
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("audit export done format={} rows={}", format, count[0]);
+        return count[0];
+    }
+
+    private static void validate(AuditQuery query) {
+        // target_id alone cannot use ix_admin_action_target (target_type, target_id)
+        if (query.targetId() != null && query.targetType() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "targetId requires targetType");
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+    }
+
+    private static void writeCsv(Writer w, AuditEntry e) throws IOException {
+        w.write(Long.toString(e.id()));
+        w.write(',');
+        w.write(String.valueOf(e.correlationId()));
+        w.write(',');
+        w.write(csv(e.actionType()));
+        w.write(',');
+        w.write(csv(e.status()));
+        w.write(',');
+        w.write(csv(e.actorUserId()));
+        w.write(',');
+        w.write(csv(e.actorRoles()));
+        w.write(',');
+        w.write(csv(e.targetType()));
+        w.write(',');
+        w.write(csv(e.targetId()));
+        w.write(',');
+        w.write(e.startedAt() == null ? "" : e.startedAt().toString());
+        w.write(',');
+        w.write(e.finishedAt() == null ? "" : e.finishedAt().toString());
+        w.write(',');
+        w.write(e.durationMs() == null ? "" : e.durationMs().toString());
+        w.write(',');
+        w.write(Boolean.toString(e.coalesced()));
+        w.write(',');
+        w.write(e.jobId() == null ? "" : e.jobId().toString());
+        w.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
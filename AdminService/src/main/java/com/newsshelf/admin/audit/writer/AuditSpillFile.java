@@ -0,0 +1,98 @@
+package com.newsshelf.admin.audit.writer;
+
+import com.newsshelf.admin.audit.model.AuditRecord;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Append-only NDJSON file for audit records that did not fit into the in-memory queue
+ * or could not be written to the database. Replayed by the flusher once the queue is idle.
+ */
+@Slf4j
+class AuditSpillFile {
+
+    private final Path file;
+    private final Path replaying;
+    private final JsonMapper jsonMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    AuditSpillFile(Path directory, JsonMapper jsonMapper) {
+        this.file = directory.resolve("admin-action-spill.ndjson");
+        this.replaying = directory.resolve("admin-action-spill.replaying.ndjson");
+        this.jsonMapper = jsonMapper;
+    }
+
+    void append(List<AuditRecord> records) {
+        lock.lock();
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditRecord r : records) {
+                    out.write(jsonMapper.writeValueAsString(r));
+                    out.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean hasPending() {
+        return Files.exists(replaying) || Files.exists(file);
+    }
+
+    /**
+     * Feeds spilled records to {@code sink} in chunks of {@code batchSize}.
+     * The file is removed only after every chunk was accepted, so a failure leaves it for the next attempt.
+     */
+    void replay(int batchSize, Consumer<List<AuditRecord>> sink) throws IOException {
+        lock.lock();
+        try {
+            if (!Files.exists(replaying)) {
+                if (!Files.exists(file)) return;
+                Files.move(file, replaying, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int replayed = 0;
+        try (BufferedReader in = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+            List<AuditRecord> chunk = new ArrayList<>(batchSize);
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                chunk.add(jsonMapper.readValue(line, AuditRecord.class));
+                if (chunk.size() == batchSize) {
+                    sink.accept(chunk);
+                    replayed += chunk.size();
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                sink.accept(chunk);
+                replayed += chunk.size();
+            }
+        }
+
+        Files.delete(replaying);
+        log.info("audit spill replayed records={}", replayed);
+    }
+}
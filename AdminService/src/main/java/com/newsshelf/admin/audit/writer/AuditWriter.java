@@ -0,0 +1,12 @@
+package com.newsshelf.admin.audit.writer;
+
+import com.newsshelf.admin.audit.model.AuditRecord;
+
+import java.util.List;
+
+public interface AuditWriter {
+
+    void submit(AuditRecord record);
+
+    void submitAll(List<AuditRecord> records);
+}
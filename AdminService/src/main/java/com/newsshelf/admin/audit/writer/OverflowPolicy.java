@@ -0,0 +1,7 @@
+package com.newsshelf.admin.audit.writer;
+
+public enum OverflowPolicy {
+    BLOCK,
+    DROP,
+    SPILL
+}
@@ -0,0 +1,351 @@
+package com.newsshelf.admin.audit.writer;
+
+import com.newsshelf.admin.audit.model.AuditRecord;
+import com.newsshelf.admin.audit.repository.AuditRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind audit pipeline: request threads enqueue records, a single flusher thread
+ * groups them into JDBC batches by size or after {@code flush-interval}, whichever comes first.
+ * Records lost to a full queue are counted, and the flusher logs one summary per {@code flush-interval}.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding(AuditRecord.class)
+public class WriteBehindAuditWriter implements AuditWriter, SmartLifecycle {
+
+    private final AuditRecordRepository repository;
+    private final AuditSpillFile spillFile;
+    private final BlockingQueue<AuditRecord> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration blockTimeout;
+    private final Duration shutdownTimeout;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean virtualThreads;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final LongAdder unreportedDrops = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+    private long lastDropReport;
+
+    public WriteBehindAuditWriter(
+            AuditRecordRepository repository,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${audit.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.writer.batch-size:200}") int batchSize,
+            @Value("${audit.writer.flush-interval:200ms}") Duration flushInterval,
+            @Value("${audit.writer.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${audit.writer.block-timeout:1s}") Duration blockTimeout,
+            @Value("${audit.writer.shutdown-timeout:10s}") Duration shutdownTimeout,
+            @Value("${audit.writer.spill-dir:${java.io.tmpdir}/admin-audit}") Path spillDir,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.repository = repository;
+        this.spillFile = new AuditSpillFile(spillDir, jsonMapper);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.virtualThreads = virtualThreads;
+
+        Gauge.builder("admin.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit records waiting for the flusher")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("admin.audit.batch.size")
+                .description("Records per JDBC batch insert")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("admin.audit.flush")
+                .description("Latency of one JDBC batch insert")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("admin.audit.dropped")
+                .description("Audit records discarded because the queue was full or the insert failed")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("admin.audit.spilled")
+                .description("Audit records written to the spill file")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("admin.audit.flush.failed")
+                .description("Failed JDBC batch inserts")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("admin.audit.rejected")
+                .description("Audit records the database refused (constraint or type violation); never retried")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void submit(AuditRecord record) {
+        if (!running) {
+            // before start / after drain there is no flusher, so write through
+            writeBatch(List.of(record));
+            return;
+        }
+
+        if (queue.offer(record)) return;
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(record, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropOverflow();
+            }
+            case SPILL -> spill(List.of(record));
+            case DROP -> dropOverflow();
+        }
+    }
+
+    @Override
+    public void submitAll(List<AuditRecord> records) {
+        if (records.isEmpty()) return;
+
+        if (!running) {
+            writeBatch(records);
+            return;
+        }
+
+        // bulk operations produce their audit trail at once; keep it together when it fits
+        if (records.size() <= queue.remainingCapacity()) {
+            queue.addAll(records);
+            return;
+        }
+
+        for (AuditRecord record : records) {
+            submit(record);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon(true);
+        flusher = builder.name("audit-writer").start(this::runFlusher);
+        log.info("audit writer started batchSize={} flushInterval={} overflowPolicy={}",
+                batchSize, flushInterval, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher == null) return;
+
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // anything that raced with the flag flip is flushed on the caller's thread
+        List<AuditRecord> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            writeBatch(rest.subList(i, Math.min(rest.size(), i + batchSize)));
+        }
+        reportDrops();
+        log.info("audit writer stopped remaining={}", rest.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server (which runs at a higher phase), so in-flight requests can still enqueue.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void runFlusher() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            if (System.nanoTime() - lastDropReport >= flushInterval.toNanos()) {
+                reportDrops();
+            }
+            try {
+                AuditRecord first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+
+                    AuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("audit flusher iteration failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * A full queue drops records at request rate; logging each one would add disk I/O exactly when the writer
+     * is already behind.
+     */
+    private void dropOverflow() {
+        droppedCounter.increment();
+        unreportedDrops.increment();
+    }
+
+    private void reportDrops() {
+        lastDropReport = System.nanoTime();
+        long dropped = unreportedDrops.sumThenReset();
+        if (dropped > 0) {
+            log.warn("audit queue full, records dropped count={} overflowPolicy={}", dropped, overflowPolicy);
+        }
+    }
+
+    /**
+     * Drops counted but not logged yet.
+     */
+    long unreportedDrops() {
+        return unreportedDrops.sum();
+    }
+
+    private void writeBatch(List<AuditRecord> batch) {
+        if (batch.isEmpty()) return;
+
+        long start = System.nanoTime();
+        try {
+            repository.insertBatch(batch);
+            batchSizeSummary.record(batch.size());
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("audit batch saved size={}", batch.size());
+
+        } catch (DataIntegrityViolationException e) {
+            failedCounter.increment();
+            // one bad record fails the whole batch; retrying it would fail again, so isolate it instead
+            log.warn("audit batch rejected size={} reason={}, retrying records one by one", batch.size(), e.getMessage());
+            if (batch.size() == 1) {
+                reject(batch.getFirst(), e);
+            } else {
+                for (AuditRecord record : batch) {
+                    writeOne(record);
+                }
+            }
+
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("audit batch insert failed size={} reason={}", batch.size(), e.getMessage(), e);
+            retainOrDrop(batch);
+        }
+    }
+
+    private void writeOne(AuditRecord record) {
+        try {
+            repository.insertBatch(List.of(record));
+        } catch (DataIntegrityViolationException e) {
+            reject(record, e);
+        } catch (Exception e) {
+            log.warn("audit insert failed correlationId={} reason={}", record.correlationId(), e.getMessage());
+            retainOrDrop(List.of(record));
+        }
+    }
+
+    private void reject(AuditRecord record, DataIntegrityViolationException e) {
+        rejectedCounter.increment();
+        log.error("audit record rejected actionType={} correlationId={} actor={} targetId={} reason={}",
+                record.actionType(), record.correlationId(), record.actorUserId(), record.targetId(),
+                e.getMostSpecificCause().getMessage());
+    }
+
+    private void retainOrDrop(List<AuditRecord> records) {
+        if (overflowPolicy == OverflowPolicy.SPILL) {
+            spill(records);
+        } else {
+            droppedCounter.increment(records.size());
+        }
+    }
+
+    private void spill(List<AuditRecord> records) {
+        try {
+            spillFile.append(records);
+            spilledCounter.increment(records.size());
+        } catch (Exception e) {
+            droppedCounter.increment(records.size());
+            log.error("audit spill failed, records dropped size={}", records.size(), e);
+        }
+    }
+
+    private void replaySpill() {
+        if (overflowPolicy != OverflowPolicy.SPILL || !spillFile.hasPending()) return;
+
+        try {
+            spillFile.replay(batchSize, this::replayChunk);
+        } catch (Exception e) {
+            log.warn("audit spill replay failed, will retry reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Other failures propagate and keep the spill file for the next attempt; rows already written by then
+     * are skipped by the insert's ON CONFLICT.
+     */
+    private void replayChunk(List<AuditRecord> chunk) {
+        try {
+            repository.insertBatch(chunk);
+        } catch (DataIntegrityViolationException e) {
+            for (AuditRecord record : chunk) {
+                try {
+                    repository.insertBatch(List.of(record));
+                } catch (DataIntegrityViolationException rejected) {
+                    reject(record, rejected);
+                }
+            }
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.newsshelf.admin.controller;
 
 import com.newsshelf.admin.dto.request.AssignRoleRequest;
+import com.newsshelf.admin.dto.request.BlockUserRequest;
+import com.newsshelf.admin.dto.request.BulkDeleteRequest;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
 import com.newsshelf.admin.dto.response.ListUsersResponse;
 import com.newsshelf.admin.service.AdminService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(path = {"", "/api/admin", "/api/v1/admin"})
@@ -28,10 +35,23 @@ public class AdminController {
 
     @GetMapping("/users")
     public ResponseEntity<ListUsersResponse> listUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int size
+    ) {
+        return ResponseEntity.ok(adminService.listUsers(role, status, page, size));
+    }
+
+
+    @GetMapping(path = "/users", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamUsers(
             @RequestParam(required = false) String role,
             @RequestParam(required = false) String status
     ) {
-        return ResponseEntity.ok(adminService.listUsers(role, status));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> adminService.streamUsers(role, status, out));
     }
 
 
@@ -44,6 +64,33 @@ public class AdminController {
     }
 
 
+    @DeleteMapping("/users")
+    public ResponseEntity<BulkDeleteResponse> deleteUsers(
+            @Valid @RequestBody BulkDeleteRequest request
+    ) {
+        return ResponseEntity.ok(adminService.deleteUsers(request.ids()));
+    }
+
+
+    @PutMapping("/users/{userId}/block")
+    public ResponseEntity<Void> blockUser(
+            @PathVariable String userId,
+            @Valid @RequestBody BlockUserRequest request
+    ) {
+        adminService.blockUser(userId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+
+    @DeleteMapping("/users/{userId}/block")
+    public ResponseEntity<Void> unblockUser(
+            @PathVariable String userId
+    ) {
+        adminService.unblockUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable String commentId
@@ -53,6 +100,14 @@ public class AdminController {
     }
 
 
+    @DeleteMapping("/comments")
+    public ResponseEntity<BulkDeleteResponse> deleteComments(
+            @Valid @RequestBody BulkDeleteRequest request
+    ) {
+        return ResponseEntity.ok(adminService.deleteComments(request.ids()));
+    }
+
+
     @DeleteMapping("/posts/{postId}")
     public ResponseEntity<Void> deletePost(
             @PathVariable String postId
@@ -60,4 +115,12 @@ public class AdminController {
         adminService.deletePost(postId);
         return ResponseEntity.noContent().build();
     }
+
+
+    @DeleteMapping("/posts")
+    public ResponseEntity<BulkDeleteResponse> deletePosts(
+            @Valid @RequestBody BulkDeleteRequest request
+    ) {
+        return ResponseEntity.ok(adminService.deletePosts(request.ids()));
+    }
 }
@@ -0,0 +1,85 @@
+package com.newsshelf.admin.controller;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.query.AuditQuery;
+import com.newsshelf.admin.audit.service.AuditQueryService;
+import com.newsshelf.admin.audit.service.AuditQueryService.ExportFormat;
+import com.newsshelf.admin.dto.response.AuditDailyCountResponse;
+import com.newsshelf.admin.dto.response.AuditPageResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping(path = {"", "/api/admin", "/api/v1/admin"})
+@RequiredArgsConstructor
+public class AuditController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final AuditQueryService auditQueryService;
+
+
+    @GetMapping("/audit")
+    public ResponseEntity<AuditPageResponse> find(
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) ActionStatus status,
+            @RequestParam(required = false) TargetType targetType,
+            @RequestParam(required = false) String targetId,
+            @RequestParam(required = false) UUID jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit
+    ) {
+        var query = new AuditQuery(actor, actionType, status, targetType, targetId, jobId, from, to);
+        return ResponseEntity.ok(auditQueryService.find(query, cursor, limit));
+    }
+
+
+    @GetMapping("/audit/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) ActionStatus status,
+            @RequestParam(required = false) TargetType targetType,
+            @RequestParam(required = false) String targetId,
+            @RequestParam(required = false) UUID jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        var query = new AuditQuery(actor, actionType, status, targetType, targetId, jobId, from, to);
+
+        return ResponseEntity.ok()
+                .contentType(format == ExportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .body(out -> auditQueryService.export(query, format, out));
+    }
+
+
+    @GetMapping("/audit/daily")
+    public ResponseEntity<List<AuditDailyCountResponse>> daily(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(auditQueryService.daily(from, to));
+    }
+}
@@ -0,0 +1,72 @@
+package com.newsshelf.admin.controller;
+
+import com.newsshelf.admin.dto.request.SubmitJobRequest;
+import com.newsshelf.admin.dto.response.JobResponse;
+import com.newsshelf.admin.job.service.AdminJobService;
+import com.newsshelf.admin.job.service.JobEventStream;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = {"", "/api/admin", "/api/v1/admin"})
+@RequiredArgsConstructor
+public class JobController {
+
+    private final AdminJobService adminJobService;
+    private final JobEventStream jobEventStream;
+
+
+    @PostMapping("/jobs")
+    public ResponseEntity<JobResponse> submit(
+            @Valid @RequestBody SubmitJobRequest request
+    ) {
+        var job = request.type().criteriaBased()
+                ? adminJobService.moderate(request.type(), request.criteria(), request.dryRun())
+                : adminJobService.submit(request.type(), request.ids());
+        return ResponseEntity.accepted().body(JobResponse.of(job));
+    }
+
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<JobResponse> status(
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.ok(JobResponse.of(adminJobService.get(jobId)));
+    }
+
+
+    @GetMapping(path = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @PathVariable UUID jobId
+    ) {
+        return jobEventStream.open(jobId);
+    }
+
+
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<JobResponse> resume(
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.accepted().body(JobResponse.of(adminJobService.resume(jobId)));
+    }
+
+
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<JobResponse> cancel(
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.ok(JobResponse.of(adminJobService.cancel(jobId)));
+    }
+}
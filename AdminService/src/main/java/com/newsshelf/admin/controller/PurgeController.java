@@ -0,0 +1,44 @@
+package com.newsshelf.admin.controller;
+
+import com.newsshelf.admin.dto.request.PurgeUserRequest;
+import com.newsshelf.admin.dto.response.PurgeJobResponse;
+import com.newsshelf.admin.purge.service.UserPurgeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping(path = {"", "/api/admin", "/api/v1/admin"})
+@RequiredArgsConstructor
+public class PurgeController {
+
+    private final UserPurgeService userPurgeService;
+
+
+    @PostMapping("/users/{userId}/purge")
+    public ResponseEntity<PurgeJobResponse> purgeUser(
+            @PathVariable String userId,
+            @Valid @RequestBody PurgeUserRequest request
+    ) {
+        var job = userPurgeService.start(userId, request.author());
+        return ResponseEntity.accepted().body(PurgeJobResponse.of(job));
+    }
+
+
+    @GetMapping("/users/purge/{jobId}")
+    public ResponseEntity<PurgeJobResponse> purgeStatus(
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.ok(PurgeJobResponse.of(userPurgeService.get(jobId)));
+    }
+}
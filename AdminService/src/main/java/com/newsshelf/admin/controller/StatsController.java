@@ -0,0 +1,49 @@
+package com.newsshelf.admin.controller;
+
+import com.newsshelf.admin.dto.response.StatsResponse;
+import com.newsshelf.admin.stats.AdminStats;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping(path = {"", "/api/admin", "/api/v1/admin"})
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final AdminStats adminStats;
+
+
+    @GetMapping("/stats")
+    public ResponseEntity<StatsResponse> stats(
+            @RequestParam(required = false) String window,
+            @RequestParam(defaultValue = "10") @Min(0) @Max(100) int top
+    ) {
+        Duration selected = window == null ? adminStats.windows().getFirst() : parse(window);
+        if (!adminStats.windows().contains(selected)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown window " + window + ", available: " + adminStats.windows());
+        }
+        return ResponseEntity.ok(adminStats.snapshot(selected, top));
+    }
+
+    private static Duration parse(String window) {
+        try {
+            return DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid window " + window);
+        }
+    }
+}
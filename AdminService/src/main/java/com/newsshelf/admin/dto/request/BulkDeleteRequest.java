@@ -0,0 +1,14 @@
+package com.newsshelf.admin.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkDeleteRequest(
+        @NotEmpty
+        @Size(max = 1000, message = "ids must contain <= 1000 items")
+        List<@NotBlank String> ids
+) {
+}
@@ -0,0 +1,14 @@
+package com.newsshelf.admin.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+
+/**
+ * {@code author} is the byline the user's posts carry in NewsService (News.Author, a display name);
+ * user ids never appear there, so it cannot be defaulted.
+ */
+public record PurgeUserRequest(
+        @NotBlank @Size(max = 255) String author
+) {
+}
@@ -0,0 +1,24 @@
+package com.newsshelf.admin.dto.request;
+
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * {@code ids} for the DELETE_ types, {@code criteria} (and optionally {@code dryRun}) for the MODERATE_ ones;
+ * the service checks which one the type needs. The upper bound on {@code ids} is {@code admin.jobs.max-items}.
+ */
+public record SubmitJobRequest(
+        @NotNull
+        JobType type,
+
+        List<@NotBlank String> ids,
+
+        ModerationCriteria criteria,
+
+        boolean dryRun
+) {
+}
@@ -0,0 +1,12 @@
+package com.newsshelf.admin.dto.response;
+
+import java.time.LocalDate;
+
+
+public record AuditDailyCountResponse(
+        LocalDate day,
+        String actionType,
+        String status,
+        long count
+) {
+}
@@ -0,0 +1,28 @@
+package com.newsshelf.admin.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+
+public record AuditPageResponse(
+        List<AuditEntry> items,
+        String nextCursor
+) {
+    public record AuditEntry(
+            long id,
+            UUID correlationId,
+            String actionType,
+            String status,
+            String actorUserId,
+            String actorRoles,
+            String targetType,
+            String targetId,
+            OffsetDateTime startedAt,
+            OffsetDateTime finishedAt,
+            Long durationMs,
+            boolean coalesced,
+            UUID jobId
+    ) {
+    }
+}
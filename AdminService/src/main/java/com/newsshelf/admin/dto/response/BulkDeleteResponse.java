@@ -0,0 +1,24 @@
+package com.newsshelf.admin.dto.response;
+
+import java.util.Map;
+
+
+public record BulkDeleteResponse(
+        Map<String, ItemResult> results,
+        int succeeded,
+        int failed
+) {
+    public static BulkDeleteResponse of(Map<String, ItemResult> results) {
+        int succeeded = (int) results.values().stream().filter(ItemResult::success).count();
+        return new BulkDeleteResponse(results, succeeded, results.size() - succeeded);
+    }
+
+    public record ItemResult(
+            int status,
+            String reason
+    ) {
+        public boolean success() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
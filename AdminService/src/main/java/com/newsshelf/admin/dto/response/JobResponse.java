@@ -0,0 +1,44 @@
+package com.newsshelf.admin.dto.response;
+
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobStatus;
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+
+public record JobResponse(
+        UUID id,
+        JobType type,
+        JobStatus status,
+        ModerationCriteria criteria,
+        boolean dryRun,
+        int total,
+        int processed,
+        int succeeded,
+        int failed,
+        String error,
+        double itemsPerSecond,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime finishedAt
+) {
+    public static JobResponse of(AdminJob job) {
+        return new JobResponse(job.id(), job.type(), job.status(), job.criteria(), job.dryRun(),
+                job.total(), job.processed(), job.succeeded(), job.failed(), job.error(), itemsPerSecond(job),
+                job.createdAt(), job.startedAt(), job.updatedAt(), job.finishedAt());
+    }
+
+    /**
+     * Average since the job first started, as of its last checkpoint.
+     */
+    private static double itemsPerSecond(AdminJob job) {
+        if (job.startedAt() == null || job.processed() == 0) return 0;
+        long millis = Duration.between(job.startedAt(), job.updatedAt()).toMillis();
+        return millis <= 0 ? 0 : Math.round(job.processed() * 10_000.0 / millis) / 10.0;
+    }
+}
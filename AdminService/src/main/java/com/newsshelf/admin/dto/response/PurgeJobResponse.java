@@ -0,0 +1,30 @@
+package com.newsshelf.admin.dto.response;
+
+import com.newsshelf.admin.purge.model.PurgeJob;
+import com.newsshelf.admin.purge.model.PurgePhase;
+import com.newsshelf.admin.purge.model.PurgeStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+
+public record PurgeJobResponse(
+        UUID id,
+        String userId,
+        PurgePhase phase,
+        PurgeStatus status,
+        int postsDeleted,
+        int postsFailed,
+        int commentsDeleted,
+        int commentsFailed,
+        String error,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime finishedAt
+) {
+    public static PurgeJobResponse of(PurgeJob job) {
+        return new PurgeJobResponse(job.id(), job.userId(), job.phase(), job.status(),
+                job.postsDeleted(), job.postsFailed(), job.commentsDeleted(), job.commentsFailed(),
+                job.error(), job.createdAt(), job.updatedAt(), job.finishedAt());
+    }
+}
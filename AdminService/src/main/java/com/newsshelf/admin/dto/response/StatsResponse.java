@@ -0,0 +1,36 @@
+package com.newsshelf.admin.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+
+public record StatsResponse(
+        long windowSeconds,
+        Instant asOf,
+        List<ActionCount> actions,
+        List<DownstreamCount> downstreams,
+        List<ActorCount> topActors
+) {
+    public record ActionCount(
+            String actionType,
+            String status,
+            long count,
+            double perMinute
+    ) {
+    }
+
+    public record DownstreamCount(
+            String downstream,
+            long calls,
+            long failed,
+            long rejected,
+            double failureRate
+    ) {
+    }
+
+    public record ActorCount(
+            String actor,
+            long count
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.newsshelf.admin.job.model;
+
+import com.newsshelf.admin.id.UuidV7;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import lombok.With;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A job's state without its item ids; those stay in the row and are read one chunk at a time.
+ * A moderation job has criteria instead of items, and its total grows as matches are found.
+ */
+@With
+public record AdminJob(
+        UUID id,
+        JobType type,
+        JobStatus status,
+        String actorUserId,
+        ModerationCriteria criteria,
+        boolean dryRun,
+        int total,
+        int processed,
+        int succeeded,
+        int failed,
+        String error,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime finishedAt
+) {
+    public static AdminJob queue(JobType type, String actorUserId, int total, OffsetDateTime now) {
+        return new AdminJob(UuidV7.next(), type, JobStatus.QUEUED, actorUserId, null, false, total, 0, 0, 0,
+                null, now, null, now, null);
+    }
+
+    public static AdminJob moderate(JobType type, String actorUserId, ModerationCriteria criteria, boolean dryRun,
+                                    OffsetDateTime now) {
+        return new AdminJob(UuidV7.next(), type, JobStatus.QUEUED, actorUserId, criteria, dryRun, 0, 0, 0, 0,
+                null, now, null, now, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.newsshelf.admin.job.model;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    /**
+     * The instance running the job stopped heartbeating; resumable from its last checkpoint.
+     */
+    INTERRUPTED,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean finished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.newsshelf.admin.job.model;
+
+import com.newsshelf.admin.security.role.Role;
+
+import java.util.Set;
+
+/**
+ * Operations that can run as a job, with the roles allowed to submit them (same as the synchronous endpoint).
+ * The MODERATE_ types delete whatever matches the job's criteria instead of a list of ids.
+ */
+public enum JobType {
+    DELETE_USERS(Set.of(Role.ADMIN), false),
+    DELETE_POSTS(Set.of(Role.ADMIN, Role.PUBLISHER), false),
+    DELETE_COMMENTS(Set.of(Role.ADMIN, Role.PUBLISHER), false),
+    MODERATE_POSTS(Set.of(Role.ADMIN, Role.PUBLISHER), true),
+    MODERATE_COMMENTS(Set.of(Role.ADMIN, Role.PUBLISHER), true);
+
+    private final Set<Role> allowedRoles;
+    private final boolean criteriaBased;
+
+    JobType(Set<Role> allowedRoles, boolean criteriaBased) {
+        this.allowedRoles = allowedRoles;
+        this.criteriaBased = criteriaBased;
+    }
+
+    public boolean criteriaBased() {
+        return criteriaBased;
+    }
+
+    public boolean allows(Set<Role> roles) {
+        for (Role role : roles) {
+            if (allowedRoles.contains(role)) return true;
+        }
+        return false;
+    }
+}
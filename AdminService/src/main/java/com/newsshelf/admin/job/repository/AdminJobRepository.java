@@ -0,0 +1,213 @@
+package com.newsshelf.admin.job.repository;
+
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobStatus;
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AdminJobRepository {
+
+    // item_ids is left out on purpose: status reads should not detoast the whole id list
+    private static final String COLUMNS = """
+            id, job_type, status, actor_user_id,
+            criteria_author, criteria_from, criteria_to, criteria_keyword, dry_run,
+            total, processed, succeeded, failed, error,
+            created_at, started_at, updated_at, finished_at
+            """;
+
+    private static final RowMapper<AdminJob> ROW_MAPPER = (rs, rowNum) -> new AdminJob(
+            rs.getObject("id", UUID.class),
+            JobType.valueOf(rs.getString("job_type")),
+            JobStatus.valueOf(rs.getString("status")),
+            rs.getString("actor_user_id"),
+            criteria(rs),
+            rs.getBoolean("dry_run"),
+            rs.getInt("total"),
+            rs.getInt("processed"),
+            rs.getInt("succeeded"),
+            rs.getInt("failed"),
+            rs.getString("error"),
+            rs.getObject("created_at", OffsetDateTime.class),
+            rs.getObject("started_at", OffsetDateTime.class),
+            rs.getObject("updated_at", OffsetDateTime.class),
+            rs.getObject("finished_at", OffsetDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param itemIds the job's items, or {@code null} for a moderation job
+     */
+    public void insert(AdminJob job, List<String> itemIds) {
+        ModerationCriteria criteria = job.criteria();
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement("""
+                    INSERT INTO admin_job (
+                        id, job_type, status, actor_user_id, item_ids,
+                        criteria_author, criteria_from, criteria_to, criteria_keyword, dry_run,
+                        total, processed, succeeded, failed,
+                        error, created_at, started_at, updated_at, finished_at
+                    ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """);
+            ps.setObject(1, job.id());
+            ps.setString(2, job.type().name());
+            ps.setString(3, job.status().name());
+            ps.setString(4, job.actorUserId());
+            ps.setArray(5, itemIds == null ? null : con.createArrayOf("text", itemIds.toArray()));
+            ps.setString(6, criteria == null ? null : criteria.author());
+            ps.setObject(7, criteria == null ? null : toOffset(criteria.from()));
+            ps.setObject(8, criteria == null ? null : toOffset(criteria.to()));
+            ps.setString(9, criteria == null ? null : criteria.keyword());
+            ps.setBoolean(10, job.dryRun());
+            ps.setInt(11, job.total());
+            ps.setInt(12, job.processed());
+            ps.setInt(13, job.succeeded());
+            ps.setInt(14, job.failed());
+            ps.setString(15, job.error());
+            ps.setObject(16, job.createdAt());
+            ps.setObject(17, job.startedAt());
+            ps.setObject(18, job.updatedAt());
+            ps.setObject(19, job.finishedAt());
+            return ps;
+        });
+    }
+
+    public Optional<AdminJob> findById(UUID id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM admin_job WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    /**
+     * Items {@code [from, from + count)} in submission order.
+     */
+    public List<String> findItems(UUID id, int from, int count) {
+        // PostgreSQL array slices are 1-based and inclusive
+        List<List<String>> rows = jdbcTemplate.query("SELECT item_ids[? : ?] FROM admin_job WHERE id = ?",
+                (rs, rowNum) -> toList(rs.getArray(1)), from + 1, from + count, id);
+        return rows.isEmpty() ? List.of() : rows.getFirst();
+    }
+
+    /**
+     * Moves a queued job to RUNNING; false if it was cancelled or picked up elsewhere in the meantime.
+     */
+    public boolean start(UUID id, OffsetDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE admin_job
+                SET status = 'RUNNING', started_at = COALESCE(started_at, ?), updated_at = ?
+                WHERE id = ? AND status = 'QUEUED'
+                """, now, now, id) == 1;
+    }
+
+    /**
+     * Persists progress of a running job; false once the job has been cancelled, which tells the worker to stop.
+     * The total is written too because a moderation job only learns it while running.
+     */
+    public boolean checkpoint(AdminJob job) {
+        return jdbcTemplate.update("""
+                        UPDATE admin_job
+                        SET total = ?, processed = ?, succeeded = ?, failed = ?, updated_at = ?
+                        WHERE id = ? AND status = 'RUNNING'
+                        """,
+                job.total(), job.processed(), job.succeeded(), job.failed(), job.updatedAt(), job.id()) == 1;
+    }
+
+    public boolean finish(AdminJob job) {
+        return jdbcTemplate.update("""
+                        UPDATE admin_job
+                        SET status = ?, total = ?, processed = ?, succeeded = ?, failed = ?, error = ?,
+                            updated_at = ?, finished_at = ?
+                        WHERE id = ? AND status = 'RUNNING'
+                        """,
+                job.status().name(), job.total(), job.processed(), job.succeeded(), job.failed(), job.error(),
+                job.updatedAt(), job.finishedAt(), job.id()) == 1;
+    }
+
+    public boolean cancel(UUID id, OffsetDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE admin_job
+                SET status = 'CANCELLED', updated_at = ?, finished_at = ?
+                WHERE id = ? AND status IN ('QUEUED', 'RUNNING', 'INTERRUPTED')
+                """, now, now, id) == 1;
+    }
+
+    public boolean requeue(UUID id, OffsetDateTime now) {
+        return jdbcTemplate.update("""
+                UPDATE admin_job
+                SET status = 'QUEUED', updated_at = ?
+                WHERE id = ? AND status = 'INTERRUPTED'
+                """, now, id) == 1;
+    }
+
+    public void delete(UUID id) {
+        jdbcTemplate.update("DELETE FROM admin_job WHERE id = ?", id);
+    }
+
+    /**
+     * Heartbeat for jobs owned by this instance, queued or running.
+     */
+    public void touch(Collection<UUID> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement("""
+                    UPDATE admin_job SET updated_at = NOW()
+                    WHERE id = ANY(?) AND status IN ('QUEUED', 'RUNNING')
+                    """);
+            ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Marks unfinished jobs whose owner stopped heartbeating (crash, restart) as INTERRUPTED.
+     */
+    public int interruptStale(Duration staleAfter) {
+        return jdbcTemplate.update("""
+                UPDATE admin_job SET status = 'INTERRUPTED', updated_at = NOW()
+                WHERE status IN ('QUEUED', 'RUNNING') AND updated_at < NOW() - make_interval(secs => ?)
+                """, staleAfter.toSeconds());
+    }
+
+    private static ModerationCriteria criteria(ResultSet rs) throws SQLException {
+        var criteria = new ModerationCriteria(
+                rs.getString("criteria_author"),
+                toInstant(rs.getObject("criteria_from", OffsetDateTime.class)),
+                toInstant(rs.getObject("criteria_to", OffsetDateTime.class)),
+                rs.getString("criteria_keyword"));
+        return criteria.isEmpty() ? null : criteria;
+    }
+
+    private static Instant toInstant(OffsetDateTime value) {
+        return value == null ? null : value.toInstant();
+    }
+
+    private static OffsetDateTime toOffset(Instant value) {
+        return value == null ? null : value.atOffset(ZoneOffset.UTC);
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) return List.of();
+        try {
+            return List.of((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+}
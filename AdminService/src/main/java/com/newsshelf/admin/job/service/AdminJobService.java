@@ -0,0 +1,30 @@
+package com.newsshelf.admin.job.service;
+
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AdminJobService {
+
+    /**
+     * Persists the job and queues it on this instance's worker pool; returns before any item is processed.
+     */
+    AdminJob submit(JobType type, List<String> ids);
+
+    /**
+     * Queues a moderation job deleting whatever matches {@code criteria}; a dry run only counts the matches.
+     */
+    AdminJob moderate(JobType type, ModerationCriteria criteria, boolean dryRun);
+
+    AdminJob get(UUID jobId);
+
+    AdminJob cancel(UUID jobId);
+
+    /**
+     * Requeues an INTERRUPTED job; it continues after its last checkpoint under the caller's credentials.
+     */
+    AdminJob resume(UUID jobId);
+}
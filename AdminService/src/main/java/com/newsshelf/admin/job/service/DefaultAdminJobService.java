@@ -0,0 +1,446 @@
+package com.newsshelf.admin.job.service;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.audit.service.AuditJobContext;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse.ItemResult;
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobStatus;
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.job.repository.AdminJobRepository;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import com.newsshelf.admin.moderation.service.ModerationScanner;
+import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.service.comment.CommentAdminService;
+import com.newsshelf.admin.service.post.PostAdminService;
+import com.newsshelf.admin.service.user.UserAdminService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs bulk operations off the request thread on a fixed pool of {@code admin.jobs.workers} threads with a
+ * queue of {@code admin.jobs.queue-capacity}; a full queue rejects the submission with 503. Items are taken
+ * from the job row {@code admin.jobs.chunk-size} at a time and handed to the same service method the
+ * synchronous endpoint uses, so downstream concurrency stays bounded by its bulk-concurrency.
+ * Progress is checkpointed after every chunk, and a cancelled job stops at its next checkpoint.
+ *
+ * <p>A moderation job has no item list: {@link ModerationScanner} pages through the downstream content on
+ * a thread of its own while this worker deletes the previous batch. Its total is the number matched so
+ * far; a resumed job searches again, which finds only what is left.
+ *
+ * <p>Like a purge, a job runs with the security context of whoever submitted it, because that token
+ * authorizes the downstream calls. Tokens are never persisted, so a job whose instance died is marked
+ * INTERRUPTED once its heartbeat is older than {@code admin.jobs.stale-after}, and resumed explicitly.
+ */
+@Slf4j
+@Service
+public class DefaultAdminJobService implements AdminJobService {
+
+    private final AdminJobRepository repository;
+    private final UserAdminService userAdminService;
+    private final PostAdminService postAdminService;
+    private final CommentAdminService commentAdminService;
+    private final AdminActionService adminActionService;
+    private final ModerationScanner moderationScanner;
+    private final int chunkSize;
+    private final int maxItems;
+    private final Duration staleAfter;
+
+    private final Set<UUID> owned = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService executor;
+
+    public DefaultAdminJobService(
+            AdminJobRepository repository,
+            UserAdminService userAdminService,
+            PostAdminService postAdminService,
+            CommentAdminService commentAdminService,
+            AdminActionService adminActionService,
+            ModerationScanner moderationScanner,
+            MeterRegistry meterRegistry,
+            @Value("${admin.jobs.workers:2}") int workerCount,
+            @Value("${admin.jobs.queue-capacity:50}") int queueCapacity,
+            @Value("${admin.jobs.chunk-size:100}") int chunkSize,
+            @Value("${admin.jobs.max-items:100000}") int maxItems,
+            @Value("${admin.jobs.stale-after:2m}") Duration staleAfter
+    ) {
+        this.repository = repository;
+        this.userAdminService = userAdminService;
+        this.postAdminService = postAdminService;
+        this.commentAdminService = commentAdminService;
+        this.adminActionService = adminActionService;
+        this.moderationScanner = moderationScanner;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+        this.staleAfter = staleAfter;
+
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("admin-job-", 0).factory());
+        this.executor = new DelegatingSecurityContextExecutorService(workers);
+
+        Gauge.builder("admin.jobs.active", workers, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("admin.jobs.queued", workers, w -> w.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public AdminJob submit(JobType type, List<String> ids) {
+        if (!type.allows(currentRoles())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to run " + type);
+        }
+        if (type.criteriaBased()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, type + " takes criteria, not ids");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must not be empty");
+        }
+
+        // duplicates would be processed twice and skew the counters
+        List<String> items = List.copyOf(new LinkedHashSet<>(ids));
+        if (items.size() > maxItems) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must contain <= " + maxItems + " items");
+        }
+
+        AdminJob job = AdminJob.queue(type, currentActor(), items.size(), now());
+        repository.insert(job, items);
+        launchOrDrop(job);
+
+        log.info("submitJob success jobId={} type={} items={}", job.id(), type, items.size());
+        return job;
+    }
+
+    @Override
+    public AdminJob moderate(JobType type, ModerationCriteria criteria, boolean dryRun) {
+        if (!type.allows(currentRoles())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to run " + type);
+        }
+        if (!type.criteriaBased()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, type + " takes ids, not criteria");
+        }
+        if (criteria == null || criteria.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "criteria must not be empty");
+        }
+        if (criteria.from() != null && criteria.to() != null && !criteria.from().isBefore(criteria.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "criteria.from must be before criteria.to");
+        }
+
+        AdminJob job = AdminJob.moderate(type, currentActor(), criteria, dryRun, now());
+        repository.insert(job, null);
+        launchOrDrop(job);
+
+        log.info("submitJob success jobId={} type={} criteria={} dryRun={}", job.id(), type, criteria, dryRun);
+        return job;
+    }
+
+    @Override
+    public AdminJob get(UUID jobId) {
+        AdminJob job = repository.findById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
+
+        // other actors' jobs are invisible rather than forbidden, except to admins
+        if (!currentRoles().contains(Role.ADMIN) && !Objects.equals(job.actorUserId(), currentActor())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found");
+        }
+        return job;
+    }
+
+    @Override
+    public AdminJob cancel(UUID jobId) {
+        AdminJob job = get(jobId);
+        if (!repository.cancel(jobId, now())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job already " + job.status());
+        }
+
+        // a running worker notices at its next checkpoint and stops without a summary of its own
+        adminActionService.logJob(jobId, ActionStatus.FAILED, job.createdAt().toInstant());
+        log.info("cancelJob success jobId={} processed={}", jobId, job.processed());
+        return get(jobId);
+    }
+
+    @Override
+    public AdminJob resume(UUID jobId) {
+        AdminJob job = get(jobId);
+        if (!job.type().allows(currentRoles())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not allowed to run " + job.type());
+        }
+        if (!repository.requeue(jobId, now())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job is " + job.status() + ", not INTERRUPTED");
+        }
+
+        // if rejected the job stays QUEUED without an owner, and the stale sweep interrupts it again
+        if (!launch(jobId)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Job queue is full");
+        }
+
+        log.info("resumeJob success jobId={} processed={}", jobId, job.processed());
+        return get(jobId);
+    }
+
+    /**
+     * Heartbeats this instance's jobs and interrupts those of instances that went away.
+     */
+    @Scheduled(fixedDelayString = "${admin.jobs.heartbeat-interval:30s}",
+            initialDelayString = "${admin.jobs.heartbeat-interval:30s}")
+    public void heartbeat() {
+        repository.touch(List.copyOf(owned));
+
+        int interrupted = repository.interruptStale(staleAfter);
+        if (interrupted > 0) {
+            log.warn("job heartbeat interrupted={} staleAfter={}", interrupted, staleAfter);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // running jobs stop before their next chunk and keep their last checkpoint
+        executor.shutdownNow();
+    }
+
+    private void launchOrDrop(AdminJob job) {
+        if (!launch(job.id())) {
+            repository.delete(job.id());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Job queue is full");
+        }
+    }
+
+    private boolean launch(UUID jobId) {
+        owned.add(jobId);
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    owned.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            owned.remove(jobId);
+            log.warn("job rejected jobId={} queued={}", jobId, workers.getQueue().size());
+            return false;
+        }
+    }
+
+    private void run(UUID jobId) {
+        if (!repository.start(jobId, now())) {
+            log.info("job skipped jobId={} reason=no longer queued", jobId);
+            return;
+        }
+
+        AdminJob job = repository.findById(jobId).orElseThrow().withStatus(JobStatus.RUNNING);
+        log.info("job start jobId={} type={} total={} processed={}", jobId, job.type(), job.total(), job.processed());
+
+        AdminJob current;
+        try {
+            current = AuditJobContext.callInJob(jobId,
+                    () -> job.type().criteriaBased() ? moderate(job) : process(job));
+            if (current == null) return;
+            current = current.withStatus(JobStatus.COMPLETED);
+
+        } catch (JobFailed e) {
+            current = e.job.withStatus(JobStatus.FAILED).withError(truncate(e.getMessage()));
+            log.error("job error jobId={} type={} processed={}", jobId, job.type(), current.processed(), e.getCause());
+
+        } catch (RuntimeException e) {
+            // progress could not be recorded (database); the stale sweep marks the job INTERRUPTED
+            log.error("job error jobId={} type={}", jobId, job.type(), e);
+            return;
+        }
+
+        OffsetDateTime now = now();
+        if (!repository.finish(current.withUpdatedAt(now).withFinishedAt(now))) {
+            log.info("job cancelled jobId={} processed={}", jobId, current.processed());
+            return;
+        }
+
+        adminActionService.logJob(jobId,
+                current.status() == JobStatus.COMPLETED && current.failed() == 0 ? ActionStatus.SUCCESS : ActionStatus.FAILED,
+                job.createdAt().toInstant());
+        log.info("job success jobId={} status={} succeeded={} failed={}",
+                jobId, current.status(), current.succeeded(), current.failed());
+    }
+
+    /**
+     * @return the job after its last chunk, or {@code null} if it stopped early (cancelled, shutting down)
+     */
+    private AdminJob process(AdminJob job) {
+        AdminJob current = job;
+
+        while (current.processed() < current.total()) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("job stopped jobId={} processed={} reason=shutdown", job.id(), current.processed());
+                return null;
+            }
+
+            List<String> ids = repository.findItems(job.id(), current.processed(), chunkSize);
+            if (ids.isEmpty()) break;
+
+            ChunkOutcome outcome;
+            try {
+                outcome = ChunkOutcome.of(execute(job.type(), ids));
+            } catch (RuntimeException e) {
+                throw new JobFailed(current, e);
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                // items of an interrupted chunk report 503; redo the chunk on resume instead of counting them
+                log.info("job stopped jobId={} processed={} reason=shutdown", job.id(), current.processed());
+                return null;
+            }
+
+            current = current
+                    .withProcessed(current.processed() + ids.size())
+                    .withSucceeded(current.succeeded() + outcome.succeeded())
+                    .withFailed(current.failed() + outcome.failed())
+                    .withUpdatedAt(now());
+            if (!repository.checkpoint(current)) {
+                log.info("job cancelled jobId={} processed={}", job.id(), current.processed());
+                return null;
+            }
+            log.info("job progress jobId={} processed={}/{} failed={}",
+                    job.id(), current.processed(), current.total(), current.failed());
+        }
+        return current;
+    }
+
+    /**
+     * @return the job once nothing is left to match, or {@code null} if it stopped early
+     */
+    private AdminJob moderate(AdminJob job) {
+        // a rerun search no longer finds what was deleted, so deletes continue their counters;
+        // a dry run deleted nothing and counts again from zero
+        AdminJob current = job.dryRun() ? job.withTotal(0).withProcessed(0).withSucceeded(0).withFailed(0) : job;
+        long base = current.processed();
+
+        try (var matches = moderationScanner.open(job.id(), job.type(), job.criteria(), chunkSize)) {
+            while (true) {
+                List<String> ids;
+                try {
+                    ids = matches.next();
+                } catch (RuntimeException e) {
+                    throw new JobFailed(current, e);
+                }
+
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("job stopped jobId={} processed={} reason=shutdown", job.id(), current.processed());
+                    return null;
+                }
+                if (ids == null) break;
+
+                ChunkOutcome outcome;
+                if (job.dryRun()) {
+                    outcome = ChunkOutcome.NONE;
+                } else {
+                    try {
+                        outcome = ChunkOutcome.of(execute(job.type(), ids));
+                    } catch (RuntimeException e) {
+                        throw new JobFailed(current, e);
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("job stopped jobId={} processed={} reason=shutdown", job.id(), current.processed());
+                        return null;
+                    }
+                }
+
+                current = current
+                        .withTotal(saturate(base + matches.matched()))
+                        .withProcessed(current.processed() + ids.size())
+                        .withSucceeded(current.succeeded() + outcome.succeeded())
+                        .withFailed(current.failed() + outcome.failed())
+                        .withUpdatedAt(now());
+                if (!repository.checkpoint(current)) {
+                    log.info("job cancelled jobId={} processed={}", job.id(), current.processed());
+                    return null;
+                }
+                log.info("job progress jobId={} processed={}/{} scanned={} failed={}",
+                        job.id(), current.processed(), current.total(), matches.scanned(), current.failed());
+            }
+        }
+        return current.withTotal(current.processed());
+    }
+
+    private BulkDeleteResponse execute(JobType type, List<String> ids) {
+        return switch (type) {
+            case DELETE_USERS -> userAdminService.deleteUsers(ids);
+            case DELETE_POSTS, MODERATE_POSTS -> postAdminService.deletePosts(ids);
+            case DELETE_COMMENTS, MODERATE_COMMENTS -> commentAdminService.deleteComments(ids);
+        };
+    }
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        return auth.getPrincipal() instanceof AdminPrincipal p ? p.userId() : auth.getName();
+    }
+
+    private static Set<Role> currentRoles() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof AdminPrincipal p ? p.roles() : Set.of();
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static int saturate(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    private static String truncate(String value) {
+        if (value == null) return null;
+        return value.length() <= 512 ? value : value.substring(0, 512);
+    }
+
+    /**
+     * A 404 counts as done: the item is gone, which is what a resumed chunk will find for items it
+     * already deleted before the interruption.
+     */
+    private record ChunkOutcome(int succeeded, int failed) {
+
+        static final ChunkOutcome NONE = new ChunkOutcome(0, 0);
+
+        static ChunkOutcome of(BulkDeleteResponse response) {
+            int succeeded = 0;
+            for (ItemResult r : response.results().values()) {
+                if (r.success() || r.status() == HttpStatus.NOT_FOUND.value()) succeeded++;
+            }
+            return new ChunkOutcome(succeeded, response.results().size() - succeeded);
+        }
+    }
+
+    private static final class JobFailed extends RuntimeException {
+
+        private final transient AdminJob job;
+
+        private JobFailed(AdminJob job, RuntimeException cause) {
+            super(cause.getMessage(), cause);
+            this.job = job;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.newsshelf.admin.job.service;
+
+import com.newsshelf.admin.dto.response.JobResponse;
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobStatus;
+import com.newsshelf.admin.job.repository.AdminJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-sent events of a job's state. The row is polled every {@code admin.jobs.stream-interval} rather
+ * than pushed by the worker, so a stream works on any replica, not only the one running the job; an event
+ * is sent whenever the row changed, and the stream ends once the job stops running.
+ * One scheduler thread serves all streams; no request thread is held while the job runs.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding(JobResponse.class)
+public class JobEventStream {
+
+    private final AdminJobService jobService;
+    private final AdminJobRepository repository;
+    private final Duration interval;
+    private final Duration timeout;
+
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("admin-job-events").daemon().factory());
+
+    public JobEventStream(
+            AdminJobService jobService,
+            AdminJobRepository repository,
+            @Value("${admin.jobs.stream-interval:1s}") Duration interval,
+            @Value("${admin.jobs.stream-timeout:30m}") Duration timeout
+    ) {
+        this.jobService = jobService;
+        this.repository = repository;
+        this.interval = interval;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter open(UUID jobId) {
+        // access check on the request thread, where the caller's security context is
+        AdminJob initial = jobService.get(jobId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // the first poll may run before scheduleWithFixedDelay has returned its handle
+        CompletableFuture<ScheduledFuture<?>> task = new CompletableFuture<>();
+        var poller = new Poller(jobId, emitter, task, initial);
+
+        emitter.onCompletion(() -> task.thenAccept(t -> t.cancel(false)));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+
+        task.complete(scheduler.scheduleWithFixedDelay(poller, 0, interval.toMillis(), TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private final class Poller implements Runnable {
+
+        private final UUID jobId;
+        private final SseEmitter emitter;
+        private final CompletableFuture<ScheduledFuture<?>> task;
+        private AdminJob pending;
+        private OffsetDateTime sentVersion;
+
+        private Poller(UUID jobId, SseEmitter emitter, CompletableFuture<ScheduledFuture<?>> task, AdminJob initial) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+            this.task = task;
+            this.pending = initial;
+        }
+
+        @Override
+        public void run() {
+            try {
+                AdminJob job = pending != null ? pending : repository.findById(jobId).orElse(null);
+                pending = null;
+                if (job == null) {
+                    stop();
+                    return;
+                }
+
+                if (!job.updatedAt().equals(sentVersion)) {
+                    emitter.send(SseEmitter.event().name("job").id(job.updatedAt().toString()).data(JobResponse.of(job)));
+                    sentVersion = job.updatedAt();
+                }
+                if (job.status().finished() || job.status() == JobStatus.INTERRUPTED) {
+                    stop();
+                }
+
+            } catch (IOException | IllegalStateException e) {
+                // client went away
+                task.thenAccept(t -> t.cancel(false));
+
+            } catch (RuntimeException e) {
+                log.warn("job stream fail jobId={} reason={}", jobId, e.getMessage());
+                stop();
+            }
+        }
+
+        private void stop() {
+            task.thenAccept(t -> t.cancel(false));
+            emitter.complete();
+        }
+    }
+}
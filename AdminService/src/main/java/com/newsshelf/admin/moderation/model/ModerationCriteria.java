@@ -0,0 +1,51 @@
+package com.newsshelf.admin.moderation.model;
+
+import java.time.Instant;
+
+/**
+ * What a moderation job matches; every given criterion must hold. {@code author} is the byline for posts
+ * (exact match) and the author's user id for comments; {@code keyword} is a case-insensitive substring of
+ * the title or body; the range is {@code [from, to)} on publication or creation time.
+ */
+public record ModerationCriteria(
+        String author,
+        Instant from,
+        Instant to,
+        String keyword
+) {
+    public ModerationCriteria {
+        author = blankToNull(author);
+        keyword = blankToNull(keyword);
+    }
+
+    /**
+     * A job must be narrowed by something; an empty criteria set would match every item.
+     */
+    public boolean isEmpty() {
+        return author == null && from == null && to == null && keyword == null;
+    }
+
+    public boolean matches(String itemAuthor, Instant at, String... texts) {
+        if (author != null && !author.equals(itemAuthor)) return false;
+        if (from != null && (at == null || at.isBefore(from))) return false;
+        if (to != null && (at == null || !at.isBefore(to))) return false;
+        if (keyword == null) return true;
+
+        for (String text : texts) {
+            if (text != null && containsIgnoreCase(text, keyword)) return true;
+        }
+        return false;
+    }
+
+    // regionMatches instead of lower-casing every post body
+    private static boolean containsIgnoreCase(String text, String needle) {
+        for (int i = 0, last = text.length() - needle.length(); i <= last; i++) {
+            if (text.regionMatches(true, i, needle, 0, needle.length())) return true;
+        }
+        return false;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,197 @@
+package com.newsshelf.admin.moderation.service;
+
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import com.newsshelf.admin.service.resilience.DownstreamGuard;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds posts and comments matching {@link ModerationCriteria}. The downstream filters are only a
+ * pre-selection (NewsService matches authors by substring, the comment service only filters by author);
+ * every item is checked against the criteria here before its id is taken.
+ */
+@Component
+@RegisterReflectionForBinding(ModerationContentClient.CommentPage.class)
+public class ModerationContentClient {
+
+    private final RestClient newsServiceClient;
+    private final RestClient commentServiceClient;
+    private final DownstreamGuard newsGuard;
+    private final DownstreamGuard commentsGuard;
+    private final JsonMapper jsonMapper;
+
+    public ModerationContentClient(
+            @Qualifier("newsServiceClient") RestClient newsServiceClient,
+            @Qualifier("commentServiceClient") RestClient commentServiceClient,
+            DownstreamGuards downstreamGuards,
+            JsonMapper jsonMapper
+    ) {
+        this.newsServiceClient = newsServiceClient;
+        this.commentServiceClient = commentServiceClient;
+        this.newsGuard = downstreamGuards.forService("news", "NewsApi");
+        this.commentsGuard = downstreamGuards.forService("comments", "CommentService");
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Writes the ids of matching posts to {@code spool}, one per line.
+     * NewsService search is not paginated and answers with one array, so the body is parsed as a stream
+     * and drained to disk at network speed instead of being held open while deletes run. The keyword is
+     * not sent: NewsService text search is case-sensitive and would drop matches.
+     */
+    public PostSpool spoolMatchingPosts(ModerationCriteria criteria, Path spool) {
+        PostSpool result = newsGuard.call(() -> newsServiceClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/news/search")
+                        .queryParamIfPresent("author", Optional.ofNullable(criteria.author()))
+                        .queryParamIfPresent("fromDate", Optional.ofNullable(criteria.from()))
+                        .queryParamIfPresent("toDate", Optional.ofNullable(criteria.to()))
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange((req, res) -> {
+                    if (!res.getStatusCode().is2xxSuccessful()) {
+                        throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                "NewsApi unavailable: " + res.getStatusCode());
+                    }
+                    return writeMatchingPostIds(res.getBody(), criteria, spool);
+                }));
+        return result == null ? new PostSpool(0, 0) : result;
+    }
+
+    /**
+     * One keyset page of comments strictly after {@code afterId}, narrowed to the criteria. The cursor for
+     * the next page is the last id scanned, not the last id matched.
+     */
+    public CommentScan scanComments(ModerationCriteria criteria, String afterId, int limit) {
+        CommentPage page = commentsGuard.call(() -> commentServiceClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/comments")
+                        .queryParamIfPresent("authorId", Optional.ofNullable(criteria.author()))
+                        .queryParamIfPresent("afterId", Optional.ofNullable(afterId))
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .onStatus(s -> s.is4xxClientError() || s.is5xxServerError(), (req, res) -> {
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                            "CommentService unavailable: " + res.getStatusCode());
+                })
+                .body(CommentPage.class));
+
+        if (page == null || page.items() == null || page.items().isEmpty()) {
+            return new CommentScan(List.of(), afterId, 0);
+        }
+
+        List<String> matched = new ArrayList<>();
+        String lastId = afterId;
+        for (CommentItem item : page.items()) {
+            if (item == null || item.id() == null) continue;
+            lastId = item.id();
+            if (criteria.matches(item.authorId() != null ? item.authorId() : criteria.author(),
+                    parseTime(item.createdAt()), item.text())) {
+                matched.add(item.id());
+            }
+        }
+        return new CommentScan(matched, lastId, page.items().size());
+    }
+
+    private PostSpool writeMatchingPostIds(InputStream body, ModerationCriteria criteria, Path spool)
+            throws IOException {
+        long scanned = 0;
+        long matched = 0;
+
+        try (JsonParser parser = jsonMapper.createParser(body);
+             BufferedWriter out = Files.newBufferedWriter(spool, StandardCharsets.UTF_8)) {
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "NewsApi returned malformed body");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String id = null;
+                String author = null;
+                String title = null;
+                String content = null;
+                String publishedAt = null;
+
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+
+                    if (!value.isScalarValue()) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    switch (field) {
+                        case "id" -> id = parser.getString();
+                        case "author" -> author = parser.getString();
+                        case "title" -> title = parser.getString();
+                        case "content" -> content = parser.getString();
+                        case "publishedAt" -> publishedAt = parser.getString();
+                        default -> {
+                        }
+                    }
+                }
+
+                scanned++;
+                if (id != null && criteria.matches(author, parseTime(publishedAt), title, content)) {
+                    out.write(id);
+                    out.newLine();
+                    matched++;
+                }
+            }
+        }
+
+        return new PostSpool(scanned, matched);
+    }
+
+    /**
+     * NewsService serializes DateTime without an offset; its timestamps are UTC.
+     */
+    static Instant parseTime(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    public record PostSpool(long scanned, long matched) {
+    }
+
+    public record CommentScan(List<String> matchedIds, String lastId, int scanned) {
+    }
+
+    record CommentPage(List<CommentItem> items) {
+    }
+
+    record CommentItem(String id, String authorId, String text, String createdAt) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.newsshelf.admin.moderation.service;
+
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Produces the ids matching a moderation job's criteria, batch by batch, on a background thread. At most
+ * {@code admin.moderation.prefetch} batches wait in memory, so the next page is being fetched while the
+ * caller deletes the current batch, and a slow consumer throttles the scan instead of growing a buffer.
+ * Posts are matched into a disk spool first (NewsService answers with one unpaginated array); comments are
+ * paged by keyset {@code admin.moderation.page-size} at a time.
+ *
+ * <p>The scan runs with the caller's security context, which authorizes the downstream reads.
+ */
+@Slf4j
+@Component
+public class ModerationScanner {
+
+    private static final List<String> END = Collections.unmodifiableList(new ArrayList<>());
+
+    private final ModerationContentClient contentClient;
+    private final MeterRegistry meterRegistry;
+    private final int prefetch;
+    private final int pageSize;
+    private final Path spoolDir;
+
+    public ModerationScanner(
+            ModerationContentClient contentClient,
+            MeterRegistry meterRegistry,
+            @Value("${admin.moderation.prefetch:2}") int prefetch,
+            @Value("${admin.moderation.page-size:500}") int pageSize,
+            @Value("${admin.moderation.spool-dir:${java.io.tmpdir}/admin-moderation}") Path spoolDir
+    ) {
+        this.contentClient = contentClient;
+        this.meterRegistry = meterRegistry;
+        this.prefetch = prefetch;
+        this.pageSize = pageSize;
+        this.spoolDir = spoolDir;
+    }
+
+    /**
+     * Starts scanning; the returned stream must be closed, which stops the scan if it is still running.
+     */
+    public Matches open(UUID jobId, JobType type, ModerationCriteria criteria, int batchSize) {
+        if (!type.criteriaBased()) {
+            throw new IllegalArgumentException(type + " is not a moderation job");
+        }
+
+        var matches = new Matches(jobId, type, criteria, batchSize);
+        matches.producer.start();
+        return matches;
+    }
+
+    public final class Matches implements AutoCloseable {
+
+        private final UUID jobId;
+        private final JobType type;
+        private final ModerationCriteria criteria;
+        private final int batchSize;
+        private final BlockingQueue<List<String>> batches = new ArrayBlockingQueue<>(prefetch);
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final Counter scannedCounter;
+        private final Counter matchedCounter;
+        private final Thread producer;
+        private final long startedNanos = System.nanoTime();
+        private volatile RuntimeException failure;
+        private boolean done;
+
+        private Matches(UUID jobId, JobType type, ModerationCriteria criteria, int batchSize) {
+            this.jobId = jobId;
+            this.type = type;
+            this.criteria = criteria;
+            this.batchSize = batchSize;
+            this.scannedCounter = meterRegistry.counter("admin.moderation.scanned", "type", type.name());
+            this.matchedCounter = meterRegistry.counter("admin.moderation.matched", "type", type.name());
+            this.producer = Thread.ofVirtual()
+                    .name("admin-moderation-" + jobId)
+                    .unstarted(new DelegatingSecurityContextRunnable(this::produce));
+        }
+
+        /**
+         * The next batch of matching ids, waiting for the scan if needed.
+         *
+         * @return {@code null} once the scan is exhausted, or if the calling thread was interrupted
+         * @throws RuntimeException the downstream failure that ended the scan
+         */
+        public List<String> next() {
+            if (done) return null;
+            try {
+                List<String> batch = batches.take();
+                if (batch != END) return batch;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            done = true;
+            if (failure != null) throw failure;
+            return null;
+        }
+
+        /**
+         * Items matched so far; for posts this is the final count as soon as the spool is written.
+         */
+        public long matched() {
+            return matched.get();
+        }
+
+        public long scanned() {
+            return scanned.get();
+        }
+
+        @Override
+        public void close() {
+            producer.interrupt();
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000);
+            log.info("moderation scan done jobId={} type={} scanned={} matched={} elapsedMs={} matchedPerSec={}",
+                    jobId, type, scanned.get(), matched.get(), elapsedMs, matched.get() * 1000 / elapsedMs);
+        }
+
+        private void produce() {
+            try {
+                try {
+                    if (type == JobType.MODERATE_POSTS) {
+                        producePosts();
+                    } else {
+                        produceComments();
+                    }
+                } catch (RuntimeException e) {
+                    failure = e;
+                    log.warn("moderation scan fail jobId={} type={} reason={}", jobId, type, e.getMessage());
+                }
+                batches.put(END);
+
+            } catch (InterruptedException e) {
+                // closed by the consumer, nobody is waiting for the end marker
+            }
+        }
+
+        private void producePosts() throws InterruptedException {
+            Path spool = null;
+            try {
+                Files.createDirectories(spoolDir);
+                spool = Files.createTempFile(spoolDir, "moderation-" + jobId, ".ids");
+                var listed = contentClient.spoolMatchingPosts(criteria, spool);
+                scannedCounter.increment(listed.scanned());
+                scanned.set(listed.scanned());
+                matchedCounter.increment(listed.matched());
+                matched.set(listed.matched());
+                log.info("moderation posts listed jobId={} scanned={} matched={}",
+                        jobId, listed.scanned(), listed.matched());
+
+                try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                    List<String> batch = new ArrayList<>(batchSize);
+                    String id;
+                    while ((id = reader.readLine()) != null) {
+                        batch.add(id);
+                        if (batch.size() == batchSize) {
+                            batches.put(batch);
+                            batch = new ArrayList<>(batchSize);
+                        }
+                    }
+                    if (!batch.isEmpty()) batches.put(batch);
+                }
+
+            } catch (IOException e) {
+                throw new UncheckedIOException("Moderation spool failed", e);
+
+            } finally {
+                deleteQuietly(spool);
+            }
+        }
+
+        private void produceComments() throws InterruptedException {
+            List<String> batch = new ArrayList<>(batchSize);
+            String cursor = null;
+
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedException();
+
+                var page = contentClient.scanComments(criteria, cursor, pageSize);
+                scannedCounter.increment(page.scanned());
+                scanned.addAndGet(page.scanned());
+                matchedCounter.increment(page.matchedIds().size());
+                matched.addAndGet(page.matchedIds().size());
+
+                for (String id : page.matchedIds()) {
+                    batch.add(id);
+                    if (batch.size() == batchSize) {
+                        batches.put(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+
+                if (page.scanned() < pageSize) break;
+                cursor = page.lastId();
+            }
+
+            if (!batch.isEmpty()) batches.put(batch);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("moderation spool cleanup failed path={} reason={}", path, e.getMessage());
+        }
+    }
+}
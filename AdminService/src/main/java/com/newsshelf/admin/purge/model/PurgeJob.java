@@ -0,0 +1,35 @@
+package com.newsshelf.admin.purge.model;
+
+import com.newsshelf.admin.id.UuidV7;
+import lombok.With;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@With
+public record PurgeJob(
+        UUID id,
+        String userId,
+        String author,
+        String actorUserId,
+        PurgePhase phase,
+        PurgeStatus status,
+        String commentCursor,
+        int postsDeleted,
+        int postsFailed,
+        int commentsDeleted,
+        int commentsFailed,
+        String error,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        OffsetDateTime finishedAt
+) {
+    public static PurgeJob start(String userId, String author, String actorUserId, OffsetDateTime now) {
+        return new PurgeJob(UuidV7.next(), userId, author, actorUserId, PurgePhase.POSTS, PurgeStatus.RUNNING,
+                null, 0, 0, 0, 0, null, now, now, null);
+    }
+
+    public int failed() {
+        return postsFailed + commentsFailed;
+    }
+}
@@ -0,0 +1,11 @@
+package com.newsshelf.admin.purge.model;
+
+/**
+ * Phases run in declaration order; a resumed job starts at the phase it checkpointed.
+ */
+public enum PurgePhase {
+    POSTS,
+    COMMENTS,
+    ACCOUNT,
+    DONE
+}
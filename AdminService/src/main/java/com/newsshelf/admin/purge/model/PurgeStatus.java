@@ -0,0 +1,7 @@
+package com.newsshelf.admin.purge.model;
+
+public enum PurgeStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
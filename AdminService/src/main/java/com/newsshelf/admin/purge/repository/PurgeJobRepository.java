@@ -0,0 +1,89 @@
+package com.newsshelf.admin.purge.repository;
+
+import com.newsshelf.admin.purge.model.PurgeJob;
+import com.newsshelf.admin.purge.model.PurgePhase;
+import com.newsshelf.admin.purge.model.PurgeStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PurgeJobRepository {
+
+    private static final RowMapper<PurgeJob> ROW_MAPPER = (rs, rowNum) -> new PurgeJob(
+            rs.getObject("id", UUID.class),
+            rs.getString("user_id"),
+            rs.getString("author"),
+            rs.getString("actor_user_id"),
+            PurgePhase.valueOf(rs.getString("phase")),
+            PurgeStatus.valueOf(rs.getString("status")),
+            rs.getString("comment_cursor"),
+            rs.getInt("posts_deleted"),
+            rs.getInt("posts_failed"),
+            rs.getInt("comments_deleted"),
+            rs.getInt("comments_failed"),
+            rs.getString("error"),
+            rs.getObject("created_at", OffsetDateTime.class),
+            rs.getObject("updated_at", OffsetDateTime.class),
+            rs.getObject("finished_at", OffsetDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(PurgeJob job) {
+        jdbcTemplate.update("""
+                        INSERT INTO user_purge_job (
+                            id, user_id, author, actor_user_id, phase, status, comment_cursor,
+                            posts_deleted, posts_failed, comments_deleted, comments_failed,
+                            error, created_at, updated_at, finished_at
+                        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                job.id(), job.userId(), job.author(), job.actorUserId(), job.phase().name(), job.status().name(),
+                job.commentCursor(), job.postsDeleted(), job.postsFailed(), job.commentsDeleted(),
+                job.commentsFailed(), job.error(), job.createdAt(), job.updatedAt(), job.finishedAt());
+    }
+
+    /**
+     * Persists progress; also serves as the heartbeat that keeps other replicas from claiming the job.
+     */
+    public void checkpoint(PurgeJob job) {
+        jdbcTemplate.update("""
+                        UPDATE user_purge_job
+                        SET phase = ?, status = ?, comment_cursor = ?,
+                            posts_deleted = ?, posts_failed = ?, comments_deleted = ?, comments_failed = ?,
+                            error = ?, updated_at = ?, finished_at = ?
+                        WHERE id = ?
+                        """,
+                job.phase().name(), job.status().name(), job.commentCursor(),
+                job.postsDeleted(), job.postsFailed(), job.commentsDeleted(), job.commentsFailed(),
+                job.error(), job.updatedAt(), job.finishedAt(), job.id());
+    }
+
+    public Optional<PurgeJob> findById(UUID id) {
+        return jdbcTemplate.query("SELECT * FROM user_purge_job WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public Optional<PurgeJob> findRunningByUser(String userId) {
+        return jdbcTemplate.query("SELECT * FROM user_purge_job WHERE user_id = ? AND status = 'RUNNING'",
+                ROW_MAPPER, userId).stream().findFirst();
+    }
+
+    /**
+     * Takes over a running job whose owner stopped checkpointing (crash, restart) for longer than {@code staleAfter}.
+     */
+    public boolean claimStale(UUID id, Duration staleAfter) {
+        return jdbcTemplate.update("""
+                        UPDATE user_purge_job
+                        SET updated_at = NOW()
+                        WHERE id = ? AND status = 'RUNNING' AND updated_at < NOW() - make_interval(secs => ?)
+                        """,
+                id, staleAfter.toSeconds()) == 1;
+    }
+}
@@ -0,0 +1,353 @@
+package com.newsshelf.admin.purge.service;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse.ItemResult;
+import com.newsshelf.admin.purge.model.PurgeJob;
+import com.newsshelf.admin.purge.model.PurgePhase;
+import com.newsshelf.admin.purge.model.PurgeStatus;
+import com.newsshelf.admin.purge.repository.PurgeJobRepository;
+import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.service.comment.CommentAdminService;
+import com.newsshelf.admin.service.post.PostAdminService;
+import com.newsshelf.admin.service.user.UserAdminService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes a user's posts, then comments, then the account, in batches of {@code admin.purge.batch-size}.
+ * Deletion within a batch goes through the bulk delete path, so its concurrency is the downstream's
+ * bulk-concurrency. Progress is checkpointed after every batch; only one batch of ids is ever in memory,
+ * the post id list is spooled to disk.
+ *
+ * <p>A job runs with the security context of the admin who started it (its token authorizes the
+ * downstream deletes), so a job interrupted by a restart is resumed by requesting the purge again
+ * once its last checkpoint is older than {@code admin.purge.stale-after}.
+ */
+@Slf4j
+@Service
+public class DefaultUserPurgeService implements UserPurgeService {
+
+    private final PurgeJobRepository repository;
+    private final PurgeContentClient contentClient;
+    private final PostAdminService postAdminService;
+    private final CommentAdminService commentAdminService;
+    private final UserAdminService userAdminService;
+    private final AdminActionService adminActionService;
+    private final int batchSize;
+    private final Duration staleAfter;
+    private final Path spoolDir;
+
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    public DefaultUserPurgeService(
+            PurgeJobRepository repository,
+            PurgeContentClient contentClient,
+            PostAdminService postAdminService,
+            CommentAdminService commentAdminService,
+            UserAdminService userAdminService,
+            AdminActionService adminActionService,
+            @Value("${admin.purge.batch-size:100}") int batchSize,
+            @Value("${admin.purge.stale-after:2m}") Duration staleAfter,
+            @Value("${admin.purge.spool-dir:${java.io.tmpdir}/admin-purge}") Path spoolDir
+    ) {
+        this.repository = repository;
+        this.contentClient = contentClient;
+        this.postAdminService = postAdminService;
+        this.commentAdminService = commentAdminService;
+        this.userAdminService = userAdminService;
+        this.adminActionService = adminActionService;
+        this.batchSize = batchSize;
+        this.staleAfter = staleAfter;
+        this.spoolDir = spoolDir;
+    }
+
+    @Override
+    public PurgeJob start(String userId, String author) {
+        if (author == null || author.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "author is required");
+        }
+
+        var existing = repository.findRunningByUser(userId);
+        if (existing.isPresent()) {
+            return resume(existing.get());
+        }
+
+        String matchAuthor = author.trim();
+        PurgeJob job = PurgeJob.start(userId, matchAuthor, currentActor(), now());
+
+        try {
+            repository.insert(job);
+        } catch (DuplicateKeyException e) {
+            // another request created the user's job between our lookup and insert
+            return repository.findRunningByUser(userId).orElseThrow(() -> e);
+        }
+
+        log.info("purgeUser start jobId={} userId={} author={}", job.id(), userId, matchAuthor);
+        launch(job);
+        return job;
+    }
+
+    @Override
+    public PurgeJob get(UUID jobId) {
+        return repository.findById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Purge job not found"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // interrupted jobs stay RUNNING at their last checkpoint and are resumed on the next request
+        executor.shutdownNow();
+    }
+
+    private PurgeJob resume(PurgeJob job) {
+        if (running.contains(job.id())) return job;
+
+        if (!repository.claimStale(job.id(), staleAfter)) {
+            log.info("purgeUser busy jobId={} userId={} lastCheckpoint={}", job.id(), job.userId(), job.updatedAt());
+            return job;
+        }
+
+        log.info("purgeUser resume jobId={} userId={} phase={}", job.id(), job.userId(), job.phase());
+        launch(job);
+        return job;
+    }
+
+    private void launch(PurgeJob job) {
+        if (!running.add(job.id())) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    running.remove(job.id());
+                }
+            });
+        } catch (RuntimeException e) {
+            running.remove(job.id());
+            throw e;
+        }
+    }
+
+    private void run(PurgeJob job) {
+        PurgeJob current = job;
+
+        try {
+            if (current.phase() == PurgePhase.POSTS) current = purgePosts(current);
+            if (current.phase() == PurgePhase.COMMENTS) current = purgeComments(current);
+            if (current.phase() == PurgePhase.ACCOUNT) current = purgeAccount(current);
+
+            current = finish(current, PurgeStatus.COMPLETED, null);
+            log.info("purgeUser success jobId={} userId={} posts={} comments={}",
+                    current.id(), current.userId(), current.postsDeleted(), current.commentsDeleted());
+
+        } catch (PurgeAborted e) {
+            current = finish(e.job, PurgeStatus.FAILED, e.getMessage());
+            log.warn("purgeUser fail jobId={} userId={} phase={} reason={}",
+                    current.id(), current.userId(), current.phase(), e.getMessage());
+
+        } catch (RuntimeException e) {
+            current = finish(current, PurgeStatus.FAILED, e.getMessage());
+            log.error("purgeUser error jobId={} userId={} phase={}", current.id(), current.userId(), current.phase(), e);
+        }
+
+        adminActionService.log(ActionType.PURGE_USER, TargetType.USER, current.userId(),
+                current.status() == PurgeStatus.COMPLETED ? ActionStatus.SUCCESS : ActionStatus.FAILED,
+                current.createdAt().toInstant());
+    }
+
+    private PurgeJob purgePosts(PurgeJob job) {
+        PurgeJob current = job;
+        Path spool = null;
+
+        try {
+            Files.createDirectories(spoolDir);
+            spool = Files.createTempFile(spoolDir, "purge-" + job.id(), ".ids");
+            long total = contentClient.spoolPostIds(job.author(), spool);
+            log.info("purgeUser posts listed jobId={} count={}", job.id(), total);
+            if (total == 0) {
+                // a wrong byline matches nothing; going on would delete the account and orphan its posts
+                throw new PurgeAborted(current, "no posts carry the author '" + job.author()
+                        + "'; the account is kept. Check the author, or delete an account without posts directly");
+            }
+
+            try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                List<String> batch = new ArrayList<>(batchSize);
+                String id;
+                while ((id = reader.readLine()) != null) {
+                    batch.add(id);
+                    if (batch.size() == batchSize) {
+                        current = deletePostBatch(current, batch);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) current = deletePostBatch(current, batch);
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Purge spool failed", e);
+
+        } finally {
+            deleteQuietly(spool);
+        }
+
+        current = current.withPhase(PurgePhase.COMMENTS).withUpdatedAt(now());
+        repository.checkpoint(current);
+        return current;
+    }
+
+    private PurgeJob deletePostBatch(PurgeJob job, List<String> ids) {
+        BatchOutcome outcome = BatchOutcome.of(postAdminService.deletePosts(List.copyOf(ids)));
+
+        PurgeJob current = job
+                .withPostsDeleted(job.postsDeleted() + outcome.deleted())
+                .withPostsFailed(job.postsFailed() + outcome.failed())
+                .withUpdatedAt(now());
+        repository.checkpoint(current);
+        log.info("purgeUser progress jobId={} phase=POSTS deleted={} failed={}",
+                current.id(), current.postsDeleted(), current.postsFailed());
+
+        if (outcome.deleted() == 0) {
+            throw new PurgeAborted(current, "NewsApi rejected a whole batch of deletes; rerun the purge to retry");
+        }
+        return current;
+    }
+
+    private PurgeJob purgeComments(PurgeJob job) {
+        PurgeJob current = job;
+
+        while (true) {
+            List<String> ids = contentClient.commentIds(current.userId(), current.commentCursor(), batchSize);
+            if (ids.isEmpty()) break;
+
+            BatchOutcome outcome = BatchOutcome.of(commentAdminService.deleteComments(ids));
+            current = current
+                    .withCommentCursor(ids.getLast())
+                    .withCommentsDeleted(current.commentsDeleted() + outcome.deleted())
+                    .withCommentsFailed(current.commentsFailed() + outcome.failed())
+                    .withUpdatedAt(now());
+            repository.checkpoint(current);
+            log.info("purgeUser progress jobId={} phase=COMMENTS deleted={} failed={}",
+                    current.id(), current.commentsDeleted(), current.commentsFailed());
+
+            if (outcome.deleted() == 0) {
+                throw new PurgeAborted(current,
+                        "CommentService rejected a whole batch of deletes; rerun the purge to retry");
+            }
+            if (ids.size() < batchSize) break;
+        }
+
+        current = current.withPhase(PurgePhase.ACCOUNT).withUpdatedAt(now());
+        repository.checkpoint(current);
+        return current;
+    }
+
+    private PurgeJob purgeAccount(PurgeJob job) {
+        if (job.postsDeleted() + job.postsFailed() == 0) {
+            throw new PurgeAborted(job, "the user's posts were never identified; the account is kept");
+        }
+        if (job.failed() > 0) {
+            // keep the account while content remains, so a rerun can still find it by author
+            throw new PurgeAborted(job, job.failed() + " items could not be deleted; rerun the purge to retry");
+        }
+
+        try {
+            userAdminService.deleteUser(job.userId());
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) throw e;
+        }
+
+        PurgeJob current = job.withPhase(PurgePhase.DONE).withUpdatedAt(now());
+        repository.checkpoint(current);
+        return current;
+    }
+
+    private PurgeJob finish(PurgeJob job, PurgeStatus status, String error) {
+        OffsetDateTime now = now();
+        PurgeJob finished = job
+                .withStatus(status)
+                .withError(error == null ? null : truncate(error))
+                .withUpdatedAt(now)
+                .withFinishedAt(now);
+        repository.checkpoint(finished);
+        return finished;
+    }
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        return auth.getPrincipal() instanceof AdminPrincipal p ? p.userId() : auth.getName();
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 512 ? value : value.substring(0, 512);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("purge spool cleanup failed path={} reason={}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * A 404 means the item is already gone, which is what the purge wants.
+     */
+    private record BatchOutcome(int deleted, int failed) {
+
+        static BatchOutcome of(BulkDeleteResponse response) {
+            int deleted = 0;
+            for (ItemResult r : response.results().values()) {
+                if (r.success() || r.status() == HttpStatus.NOT_FOUND.value()) deleted++;
+            }
+            return new BatchOutcome(deleted, response.results().size() - deleted);
+        }
+    }
+
+    private static final class PurgeAborted extends RuntimeException {
+
+        private final transient PurgeJob job;
+
+        private PurgeAborted(PurgeJob job, String message) {
+            super(message);
+            this.job = job;
+        }
+    }
+}
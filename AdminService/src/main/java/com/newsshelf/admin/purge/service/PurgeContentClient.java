@@ -0,0 +1,144 @@
+package com.newsshelf.admin.purge.service;
+
+import com.newsshelf.admin.service.resilience.DownstreamGuard;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lists a user's content in NewsService and the comment service without holding it in memory.
+ */
+@Component
+@RegisterReflectionForBinding(PurgeContentClient.CommentPage.class)
+public class PurgeContentClient {
+
+    private final RestClient newsServiceClient;
+    private final RestClient commentServiceClient;
+    private final DownstreamGuard newsGuard;
+    private final DownstreamGuard commentsGuard;
+    private final JsonMapper jsonMapper;
+
+    public PurgeContentClient(
+            @Qualifier("newsServiceClient") RestClient newsServiceClient,
+            @Qualifier("commentServiceClient") RestClient commentServiceClient,
+            DownstreamGuards downstreamGuards,
+            JsonMapper jsonMapper
+    ) {
+        this.newsServiceClient = newsServiceClient;
+        this.commentServiceClient = commentServiceClient;
+        this.newsGuard = downstreamGuards.forService("news", "NewsApi");
+        this.commentsGuard = downstreamGuards.forService("comments", "CommentService");
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Writes the ids of posts authored by {@code author} to {@code spool}, one per line, and returns how many.
+     * NewsService only offers a substring author search returning one array, so the body is parsed as a
+     * stream and only exact author matches are kept; a user named "ann" must not purge "joanna".
+     */
+    public long spoolPostIds(String author, Path spool) {
+        Long count = newsGuard.call(() -> newsServiceClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/news/search/by-author")
+                        .queryParam("author", author)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange((req, res) -> {
+                    if (!res.getStatusCode().is2xxSuccessful()) {
+                        throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                "NewsApi unavailable: " + res.getStatusCode());
+                    }
+                    return writeMatchingIds(res.getBody(), author, spool);
+                }));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * One keyset page of the user's comment ids, ascending, strictly after {@code afterId}.
+     */
+    public List<String> commentIds(String userId, String afterId, int limit) {
+        CommentPage page = commentsGuard.call(() -> commentServiceClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/comments")
+                        .queryParam("authorId", userId)
+                        .queryParamIfPresent("afterId", Optional.ofNullable(afterId))
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .onStatus(s -> s.is4xxClientError() || s.is5xxServerError(), (req, res) -> {
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                            "CommentService unavailable: " + res.getStatusCode());
+                })
+                .body(CommentPage.class));
+
+        if (page == null || page.items() == null) return List.of();
+
+        List<String> ids = new ArrayList<>(page.items().size());
+        for (CommentRef item : page.items()) {
+            if (item != null && item.id() != null) ids.add(item.id());
+        }
+        return ids;
+    }
+
+    private long writeMatchingIds(InputStream body, String author, Path spool) throws IOException {
+        long count = 0;
+
+        try (JsonParser parser = jsonMapper.createParser(body);
+             BufferedWriter out = Files.newBufferedWriter(spool, StandardCharsets.UTF_8)) {
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "NewsApi returned malformed body");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String id = null;
+                String itemAuthor = null;
+
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+
+                    if ("id".equals(field) && value.isScalarValue()) {
+                        id = parser.getString();
+                    } else if ("author".equals(field) && value == JsonToken.VALUE_STRING) {
+                        itemAuthor = parser.getString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+
+                if (id != null && author.equals(itemAuthor)) {
+                    out.write(id);
+                    out.newLine();
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    record CommentPage(List<CommentRef> items) {
+    }
+
+    record CommentRef(String id) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.newsshelf.admin.purge.service;
+
+import com.newsshelf.admin.purge.model.PurgeJob;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.util.UUID;
+
+public interface UserPurgeService {
+
+    /**
+     * Starts a purge of the user's posts, comments and account, or resumes the user's unfinished one.
+     * Irreversible, so the role is checked here rather than left to the URL rules in front of the controller.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    PurgeJob start(String userId, String author);
+
+    @PreAuthorize("hasRole('ADMIN')")
+    PurgeJob get(UUID jobId);
+}
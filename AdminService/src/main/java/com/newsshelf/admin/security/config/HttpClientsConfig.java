@@ -1,40 +1,82 @@
 package com.newsshelf.admin.security.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 @Configuration
-public class HttpClientsConfig {
+public class HttpClientsConfig implements DisposableBean {
 
-    @Bean
-    public RestClient newsServiceClient(
-            @Value("${services.news.base-url}") String baseUrl
+    private final Environment env;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final JsonMapper jsonMapper;
+    private final List<DisposableBean> transports = new CopyOnWriteArrayList<>();
+
+    public HttpClientsConfig(
+            Environment env,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            JsonMapper jsonMapper
     ) {
-        return buildClient(baseUrl);
+        this.env = env;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.jsonMapper = jsonMapper;
     }
 
     @Bean
-    public RestClient commentServiceClient(
-            @Value("${services.comments.base-url}") String baseUrl
-    ) {
-        return buildClient(baseUrl);
+    public RestClient newsServiceClient() {
+        return buildClient(HttpTransportSettings.from(env, "news"));
     }
 
     @Bean
-    public RestClient userServiceClient(
-            @Value("${services.user.base-url}") String baseUrl
-    ) {
-        return buildClient(baseUrl);
+    public RestClient commentServiceClient() {
+        return buildClient(HttpTransportSettings.from(env, "comments"));
     }
 
-    private RestClient buildClient(String baseUrl) {
+    @Bean
+    public RestClient userServiceClient() {
+        return buildClient(HttpTransportSettings.from(env, "user"));
+    }
+
+    RestClient buildClient(HttpTransportSettings settings) {
         return RestClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(settings.baseUrl())
+                .requestFactory(requestFactory(settings))
+                .observationRegistry(observationRegistry)
+                .observationConvention(new DownstreamObservationConvention(settings.name()))
+                // the application mapper (Blackbird, shared buffer pool) instead of a fresh reflective one per client
+                .configureMessageConverters(converters ->
+                        converters.registerDefaults().withJsonConverter(new JacksonJsonHttpMessageConverter(jsonMapper)))
                 .requestInterceptor((request, body, execution) -> {
                     var auth = SecurityContextHolder.getContext().getAuthentication();
                     if (auth != null && auth.getDetails() instanceof String token && !token.isBlank()) {
@@ -45,4 +87,87 @@ public class HttpClientsConfig {
                 .build();
     }
 
+    private ClientHttpRequestFactory requestFactory(HttpTransportSettings settings) {
+        return switch (settings.version()) {
+            case HTTP_1_1 -> pooledFactory(settings);
+            case HTTP_2 -> http2Factory(settings);
+        };
+    }
+
+    /**
+     * HTTP/1.1 keep-alive pool: bounded per downstream, idle connections evicted in the background.
+     * HttpClient negotiates gzip/deflate and decompresses transparently unless compression is turned off.
+     */
+    private ClientHttpRequestFactory pooledFactory(HttpTransportSettings settings) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                        .setTimeToLive(TimeValue.of(settings.keepAlive()))
+                        .build())
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.of(settings.idleEvictAfter()))
+                .evictExpiredConnections()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.poolAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(settings.readTimeout()))
+                        .build());
+        if (!settings.compression()) {
+            builder.disableContentCompression();
+        }
+        var httpClient = builder.build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, settings.name())
+                .bindTo(meterRegistry);
+
+        var factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        transports.add(factory);
+        return factory;
+    }
+
+    /**
+     * HTTP/2 multiplexes requests over a single connection, so no pool is needed;
+     * the JDK client applies {@code total-timeout} to the whole exchange.
+     */
+    private ClientHttpRequestFactory http2Factory(HttpTransportSettings settings) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+
+        var factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.totalTimeout());
+        factory.enableCompression(settings.compression());
+        transports.add(httpClient::close);
+        return factory;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DisposableBean transport : transports) {
+            transport.destroy();
+        }
+    }
+
+    /**
+     * Tags {@code http.client.requests} with the logical downstream name instead of the host.
+     */
+    private static final class DownstreamObservationConvention extends DefaultClientRequestObservationConvention {
+
+        private final String downstream;
+
+        private DownstreamObservationConvention(String downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        protected KeyValue clientName(ClientRequestObservationContext context) {
+            return KeyValue.of("client.name", downstream);
+        }
+    }
 }
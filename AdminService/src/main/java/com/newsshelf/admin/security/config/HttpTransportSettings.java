@@ -0,0 +1,48 @@
+package com.newsshelf.admin.security.config;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Transport tuning for one downstream, read from {@code services.<name>.http.*}.
+ */
+record HttpTransportSettings(
+        String name,
+        String baseUrl,
+        HttpVersion version,
+        int maxConnections,
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration totalTimeout,
+        Duration poolAcquireTimeout,
+        Duration idleEvictAfter,
+        Duration keepAlive,
+        boolean compression
+) {
+    enum HttpVersion {
+        HTTP_1_1,
+        HTTP_2
+    }
+
+    static HttpTransportSettings from(Environment env, String name) {
+        Binder binder = Binder.get(env);
+        String prefix = "services." + name + ".";
+        String http = prefix + "http.";
+
+        return new HttpTransportSettings(
+                name,
+                env.getRequiredProperty(prefix + "base-url"),
+                binder.bind(http + "version", HttpVersion.class).orElse(HttpVersion.HTTP_1_1),
+                binder.bind(http + "max-connections", Integer.class).orElse(50),
+                binder.bind(http + "connect-timeout", Duration.class).orElse(Duration.ofSeconds(2)),
+                binder.bind(http + "read-timeout", Duration.class).orElse(Duration.ofSeconds(5)),
+                binder.bind(http + "total-timeout", Duration.class).orElse(Duration.ofSeconds(10)),
+                binder.bind(http + "pool-acquire-timeout", Duration.class).orElse(Duration.ofSeconds(1)),
+                binder.bind(http + "idle-evict-after", Duration.class).orElse(Duration.ofSeconds(30)),
+                binder.bind(http + "keep-alive", Duration.class).orElse(Duration.ofMinutes(1)),
+                binder.bind(http + "compression", Boolean.class).orElse(true)
+        );
+    }
+}
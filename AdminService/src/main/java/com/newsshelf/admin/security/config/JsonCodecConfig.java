@@ -0,0 +1,20 @@
+package com.newsshelf.admin.security.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Replaces reflective property access with generated lambdas in the application JsonMapper, which Spring MVC
+ * and the downstream RestClients share. Buffer reuse needs no setup: Jackson 3 already recycles buffers
+ * through a concurrent pool per factory, which unlike the thread-local pool also works on virtual threads.
+ */
+@Configuration
+public class JsonCodecConfig {
+
+    @Bean
+    public JacksonModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -1,10 +1,17 @@
 package com.newsshelf.admin.security.config;
 
 import com.newsshelf.admin.security.filter.AdminAuthFilter;
+import com.newsshelf.admin.security.filter.RequestIdFilter;
+import com.newsshelf.admin.security.ratelimit.RateLimitFilter;
+import com.newsshelf.admin.security.ratelimit.RateLimiter;
+import com.newsshelf.admin.security.revocation.RevocationList;
 import com.newsshelf.admin.security.token.TokenAuthService;
 import com.newsshelf.admin.security.token.jwt.JwtClaimsParser;
 import com.newsshelf.admin.security.token.jwt.JwtTokenAuthService;
 import com.newsshelf.admin.security.token.jwt.JwtVerifier;
+import com.newsshelf.admin.security.token.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +23,10 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
 
 
 @Slf4j
@@ -23,6 +34,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /**
+     * Every admin controller answers under each of these prefixes; see their {@code @RequestMapping}.
+     */
+    static final List<String> ROUTE_PREFIXES = List.of("", "/api/admin", "/api/v1/admin");
+
     @Value("${security.jwt.secret}")
     private String secret;
 
@@ -35,29 +51,59 @@ public class SecurityConfig {
     @Value("${security.jwt.roles-claim-aliases:}")
     private String rolesClaimAliases;
 
+    @Value("${security.jwt.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    @Value("${security.jwt.cache.max-ttl:5m}")
+    private Duration tokenCacheMaxTtl;
+
     @Bean
-    public TokenAuthService tokenAuthService() {
+    public TokenAuthService tokenAuthService(MeterRegistry meterRegistry) {
         var verifier = new JwtVerifier(secret, issuer);
         var parser = new JwtClaimsParser(rolesClaim, rolesClaimAliases);
-        return new JwtTokenAuthService(verifier, parser);
+        var cache = new VerifiedTokenCache(tokenCacheMaxSize, tokenCacheMaxTtl);
+        return new JwtTokenAuthService(verifier, parser, cache, meterRegistry);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenAuthService tokenAuthService) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            TokenAuthService tokenAuthService,
+            ObservationRegistry observationRegistry,
+            RevocationList revocationList,
+            RateLimiter rateLimiter,
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry
+    ) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.FORWARD).permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.FORWARD, DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/error").permitAll()
-                        .requestMatchers("/comments/**").hasAnyRole("ADMIN", "PUBLISHER")
-                        .requestMatchers("/posts/**").hasAnyRole("ADMIN", "PUBLISHER")
-                        .requestMatchers("/users/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "METRICS")
+                        .requestMatchers(adminRoutes("/comments/**")).hasAnyRole("ADMIN", "PUBLISHER")
+                        .requestMatchers(adminRoutes("/posts/**")).hasAnyRole("ADMIN", "PUBLISHER")
+                        .requestMatchers(adminRoutes("/users/**")).hasRole("ADMIN")
+                        .requestMatchers(adminRoutes("/audit/**")).hasRole("ADMIN")
+                        .requestMatchers(adminRoutes("/stats")).hasRole("ADMIN")
+                        .requestMatchers(adminRoutes("/jobs/**")).hasAnyRole("ADMIN", "PUBLISHER")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new AdminAuthFilter(tokenAuthService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new AdminAuthFilter(tokenAuthService, observationRegistry, revocationList), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RequestIdFilter(), AdminAuthFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, jsonMapper, meterRegistry), AdminAuthFilter.class)
                 .build();
     }
+
+    /**
+     * A rule for an admin route must hold under every prefix, or the prefixed path falls through to
+     * {@code authenticated()}.
+     */
+    static String[] adminRoutes(String pattern) {
+        return ROUTE_PREFIXES.stream().map(prefix -> prefix + pattern).toArray(String[]::new);
+    }
 }
@@ -1,9 +1,12 @@
 package com.newsshelf.admin.security.filter;
 
-import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.security.principal.AdminAuthenticationToken;
+import com.newsshelf.admin.security.revocation.RevocationList;
 import com.newsshelf.admin.security.token.AuthPayload;
 import com.newsshelf.admin.security.token.TokenAuthService;
 import com.newsshelf.admin.security.token.TokenExtractor;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,19 +14,18 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 public class AdminAuthFilter extends OncePerRequestFilter {
 
     private final TokenAuthService tokenAuthService;
+    private final ObservationRegistry observationRegistry;
+    private final RevocationList revocationList;
 
     @Override
     protected void doFilterInternal(
@@ -40,29 +42,28 @@ public class AdminAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        var tokenOpt = TokenExtractor.extractBearer(request);
-        if (tokenOpt.isEmpty()) {
+        String rawToken = TokenExtractor.bearerOrNull(request);
+        if (rawToken == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String rawToken = tokenOpt.get();
-
         try {
-            AuthPayload payload = tokenAuthService.authenticate(rawToken);
-
-            var authorities = payload.roles().stream()
-                    .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
-                    .collect(Collectors.toSet());
+            AuthPayload payload = Observation.createNotStarted("admin.auth", observationRegistry)
+                    .observe(() -> tokenAuthService.authenticate(rawToken));
 
-            var principal = new AdminPrincipal(payload.userId(), payload.roles());
+            if (revocationList.isRevoked(payload.userId())) {
+                log.warn("AUTH REVOKED userId={} method={} path={}", payload.userId(), method, path);
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token revoked");
+                return;
+            }
 
-            var auth = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-            auth.setDetails(rawToken);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            SecurityContextHolder.getContext().setAuthentication(new AdminAuthenticationToken(payload, rawToken));
 
-            log.debug("AUTH OK userId={} roles={} method={} path={}",
-                    payload.userId(), payload.roles(), method, path);
+            if (log.isDebugEnabled()) {
+                log.debug("AUTH OK userId={} roles={} method={} path={}",
+                        payload.userId(), payload.roles(), method, path);
+            }
 
             filterChain.doFilter(request, response);
 
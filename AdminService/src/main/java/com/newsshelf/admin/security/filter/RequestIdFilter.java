@@ -0,0 +1,64 @@
+package com.newsshelf.admin.security.filter;
+
+import com.newsshelf.admin.audit.service.AuditRequestContext;
+import com.newsshelf.admin.id.UuidV7;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Runs first: takes the caller's X-Request-ID when it is a UUID, otherwise generates a time-ordered one,
+ * echoes it on the response and binds it for the request's audit entry (see {@link AuditRequestContext}).
+ */
+@Slf4j
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-ID";
+
+    private static final int UUID_LENGTH = 36;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        UUID requestId = parse(request.getHeader(HEADER));
+        if (requestId == null) {
+            requestId = UuidV7.next();
+        }
+
+        response.setHeader(HEADER, requestId.toString());
+        AuditRequestContext.bind(requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AuditRequestContext.clear();
+        }
+    }
+
+    static UUID parse(String header) {
+        if (header == null) return null;
+
+        String value = header.strip();
+        // UUID.fromString also accepts shortened groups such as 1-2-3-4-5
+        if (value.length() != UUID_LENGTH) {
+            log.debug("request id ignored reason=not a UUID value={}", value.length() > 64 ? value.substring(0, 64) : value);
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            log.debug("request id ignored reason=not a UUID value={}", value);
+            return null;
+        }
+    }
+}
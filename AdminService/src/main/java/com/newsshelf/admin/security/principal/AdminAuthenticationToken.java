@@ -0,0 +1,68 @@
+package com.newsshelf.admin.security.principal;
+
+import com.newsshelf.admin.security.role.RoleSets;
+import com.newsshelf.admin.security.token.AuthPayload;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.Collection;
+
+/**
+ * Authentication for a verified bearer token. Unlike UsernamePasswordAuthenticationToken it does not
+ * copy its authorities: it hands out the shared list from {@link RoleSets}.
+ * The raw token is exposed as details so downstream calls can forward it.
+ */
+public final class AdminAuthenticationToken implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final AdminPrincipal principal;
+    private final String token;
+
+    public AdminAuthenticationToken(AuthPayload payload, String token) {
+        this.principal = new AdminPrincipal(payload.userId(), payload.roles());
+        this.token = token;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return RoleSets.authorities(principal.roles());
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return token;
+    }
+
+    @Override
+    public AdminPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        throw new IllegalArgumentException("AdminAuthenticationToken is immutable");
+    }
+
+    @Override
+    public String getName() {
+        return principal.userId();
+    }
+
+    @Override
+    public String toString() {
+        return "AdminAuthenticationToken[userId=" + principal.userId() + ", roles=" + principal.roles() + "]";
+    }
+}
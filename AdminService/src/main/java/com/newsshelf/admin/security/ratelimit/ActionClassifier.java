@@ -0,0 +1,50 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import com.newsshelf.admin.audit.model.ActionType;
+
+/**
+ * Maps a request to the {@link ActionType} its controller method audits, or {@code null} for requests
+ * that are not rate limited (audit queries, job status, actuator). Mirrors the AdminController, PurgeController
+ * and JobController mappings, including their {@code /api/admin} and {@code /api/v1/admin} prefixes.
+ */
+final class ActionClassifier {
+
+    private static final String[] PREFIXES = {"/api/v1/admin", "/api/admin"};
+
+    private ActionClassifier() {
+    }
+
+    static ActionType classify(String method, String uri) {
+        String path = stripPrefix(uri);
+
+        if (path.startsWith("/posts")) return "DELETE".equals(method) ? ActionType.DELETE_POST : null;
+        if (path.startsWith("/comments")) return "DELETE".equals(method) ? ActionType.DELETE_COMMENT : null;
+        if (path.startsWith("/jobs")) return "POST".equals(method) ? ActionType.RUN_JOB : null;
+        if (!path.startsWith("/users")) return null;
+
+        return switch (method) {
+            case "GET" -> path.length() == "/users".length() ? ActionType.LIST_USERS : null;
+            case "PATCH" -> path.endsWith("/role") ? ActionType.ASSIGN_ROLE : null;
+            case "PUT" -> path.endsWith("/block") ? ActionType.BLOCK_USER : null;
+            case "POST" -> path.endsWith("/purge") ? ActionType.PURGE_USER : null;
+            case "DELETE" -> path.endsWith("/block") ? ActionType.UNBLOCK_USER : ActionType.DELETE_USER;
+            default -> null;
+        };
+    }
+
+    /**
+     * Bulk deletes carry their ids in the body: DELETE on /users, /posts or /comments without an id.
+     */
+    static boolean isBulkDelete(String method, String uri) {
+        if (!"DELETE".equals(method)) return false;
+        String path = stripPrefix(uri);
+        return path.equals("/users") || path.equals("/posts") || path.equals("/comments");
+    }
+
+    private static String stripPrefix(String uri) {
+        for (String prefix : PREFIXES) {
+            if (uri.startsWith(prefix)) return uri.substring(prefix.length());
+        }
+        return uri;
+    }
+}
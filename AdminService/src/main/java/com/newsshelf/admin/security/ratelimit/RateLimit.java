@@ -0,0 +1,23 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token bucket expressed as GCRA parameters: one token every {@code intervalNanos}, and up to
+ * {@code burst} requests back to back, which is a {@code toleranceNanos} head start on the schedule.
+ */
+record RateLimit(long intervalNanos, long toleranceNanos) {
+
+    static RateLimit perMinute(int requestsPerMinute, int burst) {
+        long interval = Duration.ofMinutes(1).toNanos() / requestsPerMinute;
+        return new RateLimit(interval, interval * (Math.max(burst, 1) - 1));
+    }
+
+    /**
+     * The more permissive of two limits, used when an actor holds several roles.
+     */
+    static RateLimit mostPermissive(RateLimit a, RateLimit b) {
+        if (a == null || b == null) return null;
+        return a.intervalNanos() <= b.intervalNanos() ? a : b;
+    }
+}
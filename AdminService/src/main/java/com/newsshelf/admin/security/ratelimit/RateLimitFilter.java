@@ -0,0 +1,192 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.security.principal.AdminPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs after AdminAuthFilter: throttles authenticated actors per {@link ActionType} and answers 429 with
+ * Retry-After once their bucket is empty. Anonymous requests pass through to authorization.
+ *
+ * <p>A bulk delete costs one token per id in its body, so it cannot delete hundreds of items on the budget
+ * of a single delete. The body is buffered up to {@link #MAX_COUNTED_BODY} to count the ids and then replayed
+ * to the controller; a larger body is charged a full bucket.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final int MAX_COUNTED_BODY = 256 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final JsonMapper jsonMapper;
+    private final Counter[] rejected;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.jsonMapper = jsonMapper;
+        this.rejected = new Counter[ActionType.values().length];
+        for (ActionType action : ActionType.values()) {
+            rejected[action.ordinal()] = Counter.builder("admin.rate-limit.rejected")
+                    .description("Requests answered 429 by the per-actor rate limiter")
+                    .tag("action", action.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        ActionType action = ActionClassifier.classify(request.getMethod(), request.getRequestURI());
+
+        if (action == null || auth == null || !(auth.getPrincipal() instanceof AdminPrincipal principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest chained = request;
+        int permits = 1;
+        if (ActionClassifier.isBulkDelete(request.getMethod(), request.getRequestURI())) {
+            var buffered = new BufferedBodyRequest(request);
+            permits = buffered.complete ? countIds(buffered.head) : Integer.MAX_VALUE;
+            chained = buffered;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(principal.userId(), principal.roles(), action, permits);
+        if (waitNanos == 0) {
+            filterChain.doFilter(chained, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        rejected[action.ordinal()].increment();
+        log.warn("RATE LIMITED userId={} action={} retryAfter={}s", principal.userId(), action, retryAfterSeconds);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests");
+    }
+
+    /**
+     * Number of entries in the {@code ids} array; a body the controller will reject anyway costs one token.
+     */
+    private int countIds(byte[] body) {
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return 1;
+
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!"ids".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int count = 0;
+                JsonToken item;
+                while ((item = parser.nextToken()) != null && item != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                    count++;
+                }
+                return Math.max(1, count);
+            }
+            return 1;
+
+        } catch (JacksonException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Reads up to {@link #MAX_COUNTED_BODY} bytes of the body and replays them, followed by whatever was
+     * left unread, to the rest of the chain.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean complete;
+        private final InputStream body;
+
+        BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream in = request.getInputStream();
+            this.head = in.readNBytes(MAX_COUNTED_BODY + 1);
+            this.complete = head.length <= MAX_COUNTED_BODY;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(head), in);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return body.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return body.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Buffered request bodies are read synchronously");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.security.role.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per actor and {@link ActionType}. Each bucket is a single long (GCRA's theoretical arrival
+ * time) in a per-actor {@link AtomicLongArray}, updated by CAS, so actors never contend with each other and
+ * nothing takes a lock. Limits come from {@code admin.rate-limit.<role>.requests-per-minute} and
+ * {@code .burst}, overridable per action under {@code admin.rate-limit.<role>.<action>.*}; an actor with
+ * several roles gets the most permissive one.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final ActionType[] ACTIONS = ActionType.values();
+
+    private final Map<Role, RateLimit[]> limitsByRole = new EnumMap<>(Role.class);
+    private final Map<String, ActorBuckets> actors = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public RateLimiter(Environment env) {
+        this(env, System::nanoTime);
+    }
+
+    RateLimiter(Environment env, LongSupplier nanoTime) {
+        Binder binder = Binder.get(env);
+        for (Role role : Role.values()) {
+            limitsByRole.put(role, limits(binder, role));
+        }
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return 0 if the request may proceed, otherwise how long in nanoseconds until it would be admitted
+     */
+    public long tryAcquire(String actorId, Set<Role> roles, ActionType action) {
+        return tryAcquire(actorId, roles, action, 1);
+    }
+
+    /**
+     * Takes {@code permits} tokens at once, as a bulk request does for each of its items. A request never costs
+     * more than the bucket holds, so a large one is admitted once the bucket is full instead of never.
+     *
+     * @return 0 if the request may proceed, otherwise how long in nanoseconds until it would be admitted
+     */
+    public long tryAcquire(String actorId, Set<Role> roles, ActionType action, int permits) {
+        ActorBuckets buckets = actors.get(actorId);
+        if (buckets == null || !buckets.hasRoles(roles)) {
+            // a changed role set swaps the limits but keeps what was consumed, so alternating tokens
+            // with different roles cannot hand an actor fresh buckets
+            buckets = actors.compute(actorId, (id, current) -> current == null
+                    ? new ActorBuckets(roles, limitsFor(roles))
+                    : current.hasRoles(roles) ? current : current.withRoles(roles, limitsFor(roles)));
+        }
+        return buckets.tryAcquire(action.ordinal(), permits, nanoTime.getAsLong());
+    }
+
+    /**
+     * Drops actors whose buckets have all refilled: such an entry behaves exactly like a fresh one, so removing
+     * it loses nothing. This replaces access-time expiry, whose per-read bookkeeping cost more than the bucket
+     * itself. A request racing the removal may land on the dropped entry and go uncounted once.
+     */
+    @Scheduled(fixedDelayString = "${admin.rate-limit.sweep-interval:1m}")
+    public void sweep() {
+        long now = nanoTime.getAsLong();
+        int before = actors.size();
+        actors.entrySet().removeIf(e -> e.getValue().refilledAt(now));
+        log.debug("rate limit sweep success actors={} removed={}", actors.size(), before - actors.size());
+    }
+
+    int trackedActors() {
+        return actors.size();
+    }
+
+    private RateLimit[] limitsFor(Set<Role> roles) {
+        RateLimit[] limits = new RateLimit[ACTIONS.length];
+        boolean first = true;
+        for (Role role : roles) {
+            RateLimit[] roleLimits = limitsByRole.get(role);
+            for (int i = 0; i < limits.length; i++) {
+                limits[i] = first ? roleLimits[i] : RateLimit.mostPermissive(limits[i], roleLimits[i]);
+            }
+            first = false;
+        }
+        if (first) {
+            limits = limitsByRole.get(Role.READER);
+        }
+        return limits;
+    }
+
+    private static RateLimit[] limits(Binder binder, Role role) {
+        String base = "admin.rate-limit." + role.name().toLowerCase(Locale.ROOT) + ".";
+        int rpm = binder.bind(base + "requests-per-minute", Integer.class).orElse(60);
+        int burst = binder.bind(base + "burst", Integer.class).orElse(10);
+
+        RateLimit[] limits = new RateLimit[ACTIONS.length];
+        for (ActionType action : ACTIONS) {
+            String key = base + action.name().toLowerCase(Locale.ROOT).replace('_', '-') + ".";
+            int actionRpm = binder.bind(key + "requests-per-minute", Integer.class).orElse(rpm);
+            int actionBurst = binder.bind(key + "burst", Integer.class).orElse(burst);
+            // 0 or less disables limiting for that action
+            limits[action.ordinal()] = actionRpm > 0 ? RateLimit.perMinute(actionRpm, actionBurst) : null;
+        }
+        return limits;
+    }
+
+    private static final class ActorBuckets {
+
+        private final Set<Role> roles;
+        private final RateLimit[] limits;
+        private final AtomicLongArray arrivals;
+
+        ActorBuckets(Set<Role> roles, RateLimit[] limits) {
+            this(roles, limits, new AtomicLongArray(limits.length));
+            for (int i = 0; i < limits.length; i++) arrivals.set(i, Long.MIN_VALUE);
+        }
+
+        private ActorBuckets(Set<Role> roles, RateLimit[] limits, AtomicLongArray arrivals) {
+            this.roles = roles;
+            this.limits = limits;
+            this.arrivals = arrivals;
+        }
+
+        boolean hasRoles(Set<Role> other) {
+            // role sets are interned by RoleSets, so the identity check almost always settles it
+            return roles == other || roles.equals(other);
+        }
+
+        ActorBuckets withRoles(Set<Role> roles, RateLimit[] limits) {
+            return new ActorBuckets(roles, limits, arrivals);
+        }
+
+        long tryAcquire(int slot, int permits, long now) {
+            RateLimit limit = limits[slot];
+            if (limit == null) return 0;
+
+            long extra = Math.min(Math.max(permits, 1) - 1L, limit.toleranceNanos() / limit.intervalNanos());
+            long cost = (extra + 1) * limit.intervalNanos();
+            while (true) {
+                long arrival = arrivals.get(slot);
+                long scheduled = Math.max(arrival, now);
+                long wait = scheduled + cost - limit.intervalNanos() - limit.toleranceNanos() - now;
+                if (wait > 0) return wait;
+                if (arrivals.compareAndSet(slot, arrival, scheduled + cost)) return 0;
+            }
+        }
+
+        boolean refilledAt(long now) {
+            for (int i = 0; i < arrivals.length(); i++) {
+                if (arrivals.get(i) > now) return false;
+            }
+            return true;
+        }
+    }
+}
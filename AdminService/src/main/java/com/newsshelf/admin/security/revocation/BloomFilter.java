@@ -0,0 +1,88 @@
+package com.newsshelf.admin.security.revocation;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over strings. Lookups hash the string's chars in place, so
+ * {@link #mightContain} neither locks nor allocates; additions return a new filter.
+ */
+final class BloomFilter {
+
+    private static final long SEED_1 = 0xcbf29ce484222325L;
+    private static final long SEED_2 = 0x9E3779B97F4A7C15L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private final long[] bits;
+    private final long mask;
+    private final int hashes;
+    private final int capacity;
+
+    private BloomFilter(long[] bits, int hashes, int capacity) {
+        this.bits = bits;
+        this.mask = (long) bits.length * Long.SIZE - 1;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Sized for {@code capacity} entries at false-positive rate {@code fpp}; the bit count is rounded
+     * up to a power of two so probes are a mask instead of a division.
+     */
+    static BloomFilter create(Collection<String> values, int capacity, double fpp) {
+        int n = Math.max(capacity, 1);
+        double optimalBits = -n * Math.log(fpp) / (Math.log(2) * Math.log(2));
+        long bitCount = Long.highestOneBit(Math.max(Long.SIZE, (long) Math.ceil(optimalBits)) - 1) << 1;
+        int hashes = Math.max(1, (int) Math.round(bitCount / (double) n * Math.log(2)));
+
+        BloomFilter filter = new BloomFilter(new long[(int) (bitCount / Long.SIZE)], Math.min(hashes, 16), n);
+        for (String value : values) filter.set(value);
+        return filter;
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value, SEED_1);
+        long h2 = hash(value, SEED_2) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    BloomFilter with(Collection<String> values) {
+        BloomFilter copy = new BloomFilter(Arrays.copyOf(bits, bits.length), hashes, capacity);
+        for (String value : values) copy.set(value);
+        return copy;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private void set(String value) {
+        long h1 = hash(value, SEED_1);
+        long h2 = hash(value, SEED_2) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= PRIME;
+        }
+        // murmur3 fmix64: FNV alone spreads short, similar ids poorly across the high bits
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,239 @@
+package com.newsshelf.admin.security.revocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory view of user_revocation consulted by the auth filter on every request. A Bloom filter answers
+ * "definitely not revoked" without locking or allocating; only possible hits reach the exact map. Both live
+ * in one immutable snapshot swapped on change. Local revocations apply immediately; other replicas' changes
+ * arrive through {@link #refresh()}, which only rebuilds the filter when entries have left the set.
+ */
+@Slf4j
+@Component
+public class RevocationList implements InitializingBean {
+
+    private static final long PERMANENT = Long.MAX_VALUE;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final UserRevocationRepository repository;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+    private final Clock clock;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+    private OffsetDateTime syncedUpTo;
+
+    @Autowired
+    public RevocationList(
+            UserRevocationRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${security.revocation.sync-overlap:1m}") Duration syncOverlap
+    ) {
+        this(repository, meterRegistry, falsePositiveRate, syncOverlap, Clock.systemUTC());
+    }
+
+    RevocationList(
+            UserRevocationRepository repository,
+            MeterRegistry meterRegistry,
+            double falsePositiveRate,
+            Duration syncOverlap,
+            Clock clock
+    ) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("security.revocation.false-positive-rate must be in (0, 1)");
+        }
+        this.repository = repository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.clock = clock;
+        this.snapshot = build(Map.of());
+
+        Gauge.builder("admin.auth.revocations", this, list -> list.snapshot.expiresAt.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String userId) {
+        Snapshot current = snapshot;
+        if (userId == null || !current.filter.mightContain(userId)) {
+            return false;
+        }
+        Long expiresAt = current.expiresAt.get(userId);
+        return expiresAt != null && expiresAt > clock.millis();
+    }
+
+    /**
+     * @param until {@code null} to revoke until explicitly lifted
+     */
+    public void revoke(String userId, String reason, String actorUserId, Instant until) {
+        repository.revoke(userId, reason, actorUserId, until == null ? null : until.atOffset(ZoneOffset.UTC));
+
+        synchronized (writeLock) {
+            Map<String, Long> next = new HashMap<>(snapshot.expiresAt);
+            next.put(userId, until == null ? PERMANENT : until.toEpochMilli());
+            publish(next, false);
+        }
+    }
+
+    /**
+     * Permanent revocation for a batch, e.g. users just deleted: one round trip and one snapshot swap.
+     */
+    public void revokeAll(List<String> userIds, String reason, String actorUserId) {
+        if (userIds.isEmpty()) return;
+        repository.revokeAll(userIds, reason, actorUserId);
+
+        synchronized (writeLock) {
+            Map<String, Long> next = new HashMap<>(snapshot.expiresAt);
+            for (String userId : userIds) next.put(userId, PERMANENT);
+            publish(next, false);
+        }
+    }
+
+    public boolean lift(String userId) {
+        boolean lifted = repository.lift(userId);
+
+        synchronized (writeLock) {
+            if (snapshot.expiresAt.containsKey(userId)) {
+                Map<String, Long> next = new HashMap<>(snapshot.expiresAt);
+                next.remove(userId);
+                publish(next, true);
+            }
+        }
+        return lifted;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("revocation load fail reason={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Pulls rows changed since the last sync. The window overlaps the previous one because updated_at is set
+     * at statement time, so a slow transaction can commit a row older than what was already read.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:15s}",
+            initialDelayString = "${security.revocation.refresh-interval:15s}")
+    public void refresh() {
+        if (syncedUpTo == null) {
+            reload();
+            return;
+        }
+
+        List<UserRevocation> changes = repository.findChangedSince(syncedUpTo.minus(syncOverlap));
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        synchronized (writeLock) {
+            Map<String, Long> next = new HashMap<>(snapshot.expiresAt);
+            boolean removed = pruneExpired(next);
+            boolean changed = false;
+
+            for (UserRevocation change : changes) {
+                if (change.activeAt(now)) {
+                    long expiresAt = expiresAtMillis(change);
+                    changed |= !Objects.equals(next.put(change.userId(), expiresAt), expiresAt);
+                } else {
+                    removed |= next.remove(change.userId()) != null;
+                }
+                if (change.updatedAt().isAfter(syncedUpTo)) {
+                    syncedUpTo = change.updatedAt();
+                }
+            }
+
+            if (changed || removed) {
+                publish(next, removed);
+                log.info("revocation refresh success entries={} changes={} rebuilt={}",
+                        next.size(), changes.size(), removed);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${security.revocation.cleanup-cron:0 45 3 * * *}", zone = "UTC")
+    public void cleanup() {
+        int deleted = repository.deleteExpiredBefore(Duration.ofDays(1));
+        log.info("revocation cleanup success deleted={}", deleted);
+    }
+
+    private void reload() {
+        List<UserRevocation> active = repository.findActive();
+
+        synchronized (writeLock) {
+            Map<String, Long> next = new HashMap<>(active.size() * 2);
+            OffsetDateTime latest = OffsetDateTime.now(clock).minus(syncOverlap);
+            for (UserRevocation revocation : active) {
+                next.put(revocation.userId(), expiresAtMillis(revocation));
+                if (revocation.updatedAt().isAfter(latest)) {
+                    latest = revocation.updatedAt();
+                }
+            }
+            publish(next, true);
+            syncedUpTo = latest;
+        }
+        log.info("revocation load success entries={}", active.size());
+    }
+
+    private boolean pruneExpired(Map<String, Long> entries) {
+        long now = clock.millis();
+        boolean pruned = false;
+        for (Iterator<Long> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next() <= now) {
+                it.remove();
+                pruned = true;
+            }
+        }
+        return pruned;
+    }
+
+    /**
+     * Additions set bits on a copy of the current filter; removals and capacity overruns rebuild it from the
+     * exact map, since a Bloom filter cannot forget.
+     */
+    private void publish(Map<String, Long> entries, boolean rebuild) {
+        Snapshot current = snapshot;
+        if (rebuild || entries.size() > current.filter.capacity()) {
+            snapshot = build(entries);
+            return;
+        }
+
+        List<String> added = new ArrayList<>();
+        for (String userId : entries.keySet()) {
+            if (!current.expiresAt.containsKey(userId)) added.add(userId);
+        }
+        snapshot = new Snapshot(current.filter.with(added), Map.copyOf(entries));
+    }
+
+    private Snapshot build(Map<String, Long> entries) {
+        int capacity = Math.max(MIN_CAPACITY, entries.size() * 2);
+        return new Snapshot(BloomFilter.create(entries.keySet(), capacity, falsePositiveRate), Map.copyOf(entries));
+    }
+
+    private static long expiresAtMillis(UserRevocation revocation) {
+        return revocation.expiresAt() == null ? PERMANENT : revocation.expiresAt().toInstant().toEpochMilli();
+    }
+
+    private record Snapshot(BloomFilter filter, Map<String, Long> expiresAt) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.newsshelf.admin.security.revocation;
+
+import java.time.OffsetDateTime;
+
+/**
+ * @param expiresAt {@code null} while the revocation stands until lifted
+ */
+public record UserRevocation(
+        String userId,
+        OffsetDateTime expiresAt,
+        OffsetDateTime updatedAt
+) {
+    public boolean activeAt(OffsetDateTime now) {
+        return expiresAt == null || expiresAt.isAfter(now);
+    }
+}
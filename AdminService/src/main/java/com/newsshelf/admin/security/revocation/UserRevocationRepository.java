@@ -0,0 +1,77 @@
+package com.newsshelf.admin.security.revocation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRevocationRepository {
+
+    private static final RowMapper<UserRevocation> ROW_MAPPER = (rs, rowNum) -> new UserRevocation(
+            rs.getString("user_id"),
+            rs.getObject("expires_at", OffsetDateTime.class),
+            rs.getObject("updated_at", OffsetDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void revoke(String userId, String reason, String actorUserId, OffsetDateTime expiresAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO user_revocation (user_id, reason, actor_user_id, revoked_at, expires_at, updated_at)
+                        VALUES (?, ?, ?, NOW(), ?, NOW())
+                        ON CONFLICT (user_id) DO UPDATE
+                        SET reason = EXCLUDED.reason, actor_user_id = EXCLUDED.actor_user_id,
+                            revoked_at = EXCLUDED.revoked_at, expires_at = EXCLUDED.expires_at, updated_at = NOW()
+                        """,
+                userId, reason, actorUserId, expiresAt);
+    }
+
+    public void revokeAll(List<String> userIds, String reason, String actorUserId) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO user_revocation (user_id, reason, actor_user_id, revoked_at, expires_at, updated_at)
+                        VALUES (?, ?, ?, NOW(), NULL, NOW())
+                        ON CONFLICT (user_id) DO UPDATE
+                        SET reason = EXCLUDED.reason, actor_user_id = EXCLUDED.actor_user_id,
+                            revoked_at = EXCLUDED.revoked_at, expires_at = NULL, updated_at = NOW()
+                        """,
+                userIds, userIds.size(), (ps, userId) -> {
+                    ps.setString(1, userId);
+                    ps.setString(2, reason);
+                    ps.setString(3, actorUserId);
+                });
+    }
+
+    public boolean lift(String userId) {
+        return jdbcTemplate.update("""
+                UPDATE user_revocation
+                SET expires_at = NOW(), updated_at = NOW()
+                WHERE user_id = ? AND (expires_at IS NULL OR expires_at > NOW())
+                """, userId) == 1;
+    }
+
+    public List<UserRevocation> findActive() {
+        return jdbcTemplate.query("""
+                SELECT user_id, expires_at, updated_at FROM user_revocation
+                WHERE expires_at IS NULL OR expires_at > NOW()
+                """, ROW_MAPPER);
+    }
+
+    public List<UserRevocation> findChangedSince(OffsetDateTime since) {
+        return jdbcTemplate.query("""
+                SELECT user_id, expires_at, updated_at FROM user_revocation
+                WHERE updated_at > ?
+                ORDER BY updated_at
+                """, ROW_MAPPER, since);
+    }
+
+    public int deleteExpiredBefore(Duration age) {
+        return jdbcTemplate.update("DELETE FROM user_revocation WHERE expires_at < NOW() - make_interval(secs => ?)",
+                age.toSeconds());
+    }
+}
@@ -1,12 +1,44 @@
 package com.newsshelf.admin.security.role;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The ordinal is persisted as a bit of admin_action.actor_roles (see {@link RoleSets#mask}); append new roles
+ * at the end.
+ */
 public enum Role {
     READER,
     PUBLISHER,
-    ADMIN;
+    ADMIN,
+    /**
+     * Scrapes {@code /actuator/prometheus} and {@code /actuator/metrics}; grants no admin route.
+     */
+    METRICS;
+
+    private static final Map<String, Role> BY_CLAIM = new HashMap<>();
+
+    static {
+        for (Role role : values()) {
+            String name = role.name();
+            BY_CLAIM.put(name, role);
+            BY_CLAIM.put(name.toLowerCase(Locale.ROOT), role);
+            BY_CLAIM.put(name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT), role);
+        }
+    }
 
     public static Role from(String raw) {
         if (raw == null || raw.isBlank()) throw new IllegalArgumentException("Role is blank");
         return Role.valueOf(raw.trim().toUpperCase());
     }
+
+    /**
+     * Claim value to role without case conversion for the spellings issuers actually emit
+     * ({@code ADMIN}, {@code admin}, {@code Admin}); anything else goes through {@link #from}.
+     */
+    public static Role fromClaim(String raw) {
+        Role role = raw == null ? null : BY_CLAIM.get(raw);
+        return role != null ? role : from(raw);
+    }
 }
@@ -0,0 +1,70 @@
+package com.newsshelf.admin.security.role;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Canonical role sets and their granted authorities, one instance per role combination.
+ * Both are immutable and shared, so the per-request auth path allocates neither.
+ * A set's mask (bit {@code ordinal} per role) is also how audit rows store the actor's roles.
+ */
+public final class RoleSets {
+
+    private static final Role[] ROLES = Role.values();
+
+    private static final List<Set<Role>> SETS;
+    private static final List<List<GrantedAuthority>> AUTHORITIES;
+
+    static {
+        int combinations = 1 << ROLES.length;
+        List<Set<Role>> sets = new ArrayList<>(combinations);
+        List<List<GrantedAuthority>> authorities = new ArrayList<>(combinations);
+
+        for (int mask = 0; mask < combinations; mask++) {
+            EnumSet<Role> set = EnumSet.noneOf(Role.class);
+            List<GrantedAuthority> granted = new ArrayList<>();
+            for (Role role : ROLES) {
+                if ((mask & (1 << role.ordinal())) != 0) {
+                    set.add(role);
+                    granted.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+                }
+            }
+            sets.add(Collections.unmodifiableSet(set));
+            authorities.add(List.copyOf(granted));
+        }
+
+        SETS = List.copyOf(sets);
+        AUTHORITIES = List.copyOf(authorities);
+    }
+
+    private RoleSets() {
+    }
+
+    public static Set<Role> intern(Collection<Role> roles) {
+        return SETS.get(mask(roles));
+    }
+
+    public static List<GrantedAuthority> authorities(Set<Role> roles) {
+        return AUTHORITIES.get(mask(roles));
+    }
+
+    public static Set<Role> fromMask(int mask) {
+        if (mask < 0 || mask >= SETS.size()) throw new IllegalArgumentException("Unknown role mask " + mask);
+        return SETS.get(mask);
+    }
+
+    public static int mask(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : ROLES) {
+            if (roles.contains(role)) mask |= 1 << role.ordinal();
+        }
+        return mask;
+    }
+}
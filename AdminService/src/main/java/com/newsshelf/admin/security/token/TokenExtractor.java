@@ -14,12 +14,17 @@ public final class TokenExtractor {
     }
 
     public static Optional<String> extractBearer(HttpServletRequest request) {
-        String header = request.getHeader(AUTH_HEADER);
-        if (header == null || header.isBlank()) return Optional.empty();
+        return Optional.ofNullable(bearerOrNull(request));
+    }
 
-        if (!header.startsWith(BEARER)) return Optional.empty();
+    /**
+     * Same as {@link #extractBearer} without the Optional; used on the per-request path.
+     */
+    public static String bearerOrNull(HttpServletRequest request) {
+        String header = request.getHeader(AUTH_HEADER);
+        if (header == null || !header.startsWith(BEARER)) return null;
 
         String token = header.substring(BEARER.length()).trim();
-        return token.isEmpty() ? Optional.empty() : Optional.of(token);
+        return token.isEmpty() ? null : token;
     }
 }
@@ -49,21 +49,18 @@ public class JwtClaimsParser {
     private Set<Role> toRoles(Object value) {
         if (value == null) return Set.of();
 
-        Set<Role> roles = new LinkedHashSet<>();
-
         if (value instanceof String s) {
-            roles.add(Role.from(s));
-            return roles;
+            return EnumSet.of(Role.fromClaim(s));
         }
 
         if (value instanceof Collection<?> col) {
+            Set<Role> roles = EnumSet.noneOf(Role.class);
             for (Object it : col) {
-                if (it != null) roles.add(Role.from(Objects.toString(it)));
+                if (it != null) roles.add(Role.fromClaim(Objects.toString(it)));
             }
             return roles;
         }
 
-        roles.add(Role.from(Objects.toString(value)));
-        return roles;
+        return EnumSet.of(Role.fromClaim(Objects.toString(value)));
     }
 }
@@ -1,23 +1,52 @@
 package com.newsshelf.admin.security.token.jwt;
 
+import com.newsshelf.admin.security.role.RoleSets;
 import com.newsshelf.admin.security.token.AuthPayload;
 import com.newsshelf.admin.security.token.TokenAuthService;
 import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class JwtTokenAuthService implements TokenAuthService {
 
     private final JwtVerifier verifier;
     private final JwtClaimsParser parser;
+    private final VerifiedTokenCache cache;
+    private final Timer verifyTimer;
+
+    public JwtTokenAuthService(
+            JwtVerifier verifier,
+            JwtClaimsParser parser,
+            VerifiedTokenCache cache,
+            MeterRegistry meterRegistry
+    ) {
+        this.verifier = verifier;
+        this.parser = parser;
+        this.cache = cache;
+        this.verifyTimer = Timer.builder("admin.auth.jwt.verify")
+                .description("JWT signature verification and claim parsing on a cache miss")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), "admin.auth.verified-tokens");
+    }
 
     @Override
     public AuthPayload authenticate(String rawToken) {
+        AuthPayload cached = cache.get(rawToken);
+        if (cached != null) return cached;
+
+        long start = System.nanoTime();
         Claims claims = verifier.verify(rawToken);
 
         String userId = parser.userId(claims);
-        var roles = parser.roles(claims);
+        // cached payloads are shared between requests; interned role sets are immutable
+        var payload = new AuthPayload(userId, RoleSets.intern(parser.roles(claims)));
+        verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
-        return new AuthPayload(userId, roles);
+        cache.put(rawToken, payload, claims.getExpiration());
+        return payload;
     }
 }
@@ -1,6 +1,7 @@
 package com.newsshelf.admin.security.token.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -11,23 +12,21 @@ import java.nio.charset.StandardCharsets;
 
 public class JwtVerifier {
 
-    private final SecretKey key;
-    private final String issuer;
+    private final JwtParser parser;
 
     public JwtVerifier(String secret, String issuer) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        this.issuer = issuer;
-    }
-
-    public Claims verify(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         JwtParserBuilder builder = Jwts.parserBuilder().setSigningKey(key);
 
         if (issuer != null && !issuer.isBlank()) {
             builder.requireIssuer(issuer);
         }
 
-        return builder.build()
-                .parseClaimsJws(token)
-                .getBody();
+        // JwtParser is immutable and thread-safe, so one instance serves every request.
+        this.parser = builder.build();
+    }
+
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
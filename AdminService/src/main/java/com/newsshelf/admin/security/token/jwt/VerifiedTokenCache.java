@@ -0,0 +1,150 @@
+package com.newsshelf.admin.security.token.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.newsshelf.admin.security.token.AuthPayload;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified tokens, keyed by the SHA-256 digest of the token so that bearer
+ * tokens are never retained as keys. Digest state and buffers are kept per thread, so a lookup allocates
+ * only its 32-byte key. Every entry expires at the token's {@code exp} or after {@code maxTtl},
+ * whichever comes first.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<Sha256> SHA_256 = ThreadLocal.withInitial(Sha256::new);
+
+    private final Cache<TokenDigest, Entry> cache;
+    private final Duration maxTtl;
+
+    public VerifiedTokenCache(long maximumSize, Duration maxTtl) {
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public AuthPayload get(String token) {
+        TokenDigest key = SHA_256.get().digest(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) return null;
+
+        // Caffeine expires lazily; never hand out a payload past the token's exp.
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.invalidate(key);
+            return null;
+        }
+
+        return entry.payload();
+    }
+
+    public void put(String token, AuthPayload payload, Date expiration) {
+        // Tokens without exp are verified on every request rather than trusted for maxTtl.
+        if (expiration == null) return;
+
+        Instant now = Instant.now();
+        Instant expiresAt = expiration.toInstant();
+        Instant cap = now.plus(maxTtl);
+        if (expiresAt.isAfter(cap)) expiresAt = cap;
+
+        if (expiresAt.isAfter(now)) {
+            cache.put(SHA_256.get().digest(token), new Entry(payload, expiresAt.toEpochMilli()));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<?, ?> nativeCache() {
+        return cache;
+    }
+
+    private record Entry(AuthPayload payload, long expiresAtMillis) {
+    }
+
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+    }
+
+    private static final class Sha256 {
+
+        // Tomcat's default header limit; longer tokens are hashed without the reusable buffer
+        private static final int MAX_BUFFER = 8 * 1024;
+        private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+        private final MessageDigest digest;
+        private final byte[] out = new byte[32];
+        private byte[] buffer = new byte[1024];
+
+        Sha256() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        TokenDigest digest(String token) {
+            int length = token.length();
+            if (length > MAX_BUFFER) return digest(token.getBytes(StandardCharsets.UTF_8));
+            if (buffer.length < length) buffer = new byte[length];
+
+            // bearer tokens are ASCII; anything else takes the UTF-8 path so the key stays the digest of the bytes
+            for (int i = 0; i < length; i++) {
+                char c = token.charAt(i);
+                if (c >= 0x80) return digest(token.getBytes(StandardCharsets.UTF_8));
+                buffer[i] = (byte) c;
+            }
+            digest.update(buffer, 0, length);
+            return finish();
+        }
+
+        private TokenDigest digest(byte[] bytes) {
+            digest.update(bytes);
+            return finish();
+        }
+
+        private TokenDigest finish() {
+            try {
+                digest.digest(out, 0, out.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-256 digest failed", e);
+            }
+            return new TokenDigest(
+                    (long) LONGS.get(out, 0), (long) LONGS.get(out, 8), (long) LONGS.get(out, 16), (long) LONGS.get(out, 24));
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<TokenDigest, Entry> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Entry value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
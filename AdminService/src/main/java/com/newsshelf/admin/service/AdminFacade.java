@@ -1,6 +1,8 @@
 package com.newsshelf.admin.service;
 
 import com.newsshelf.admin.dto.request.AssignRoleRequest;
+import com.newsshelf.admin.dto.request.BlockUserRequest;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
 import com.newsshelf.admin.dto.response.ListUsersResponse;
 import com.newsshelf.admin.service.comment.CommentAdminService;
 import com.newsshelf.admin.service.post.PostAdminService;
@@ -8,6 +10,9 @@ import com.newsshelf.admin.service.user.UserAdminService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.util.List;
+
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +28,13 @@ public class AdminFacade implements AdminService {
     }
 
     @Override
-    public ListUsersResponse listUsers(String role, String status) {
-        return userAdminService.listUsers(role, status);
+    public ListUsersResponse listUsers(String role, String status, int page, int size) {
+        return userAdminService.listUsers(role, status, page, size);
+    }
+
+    @Override
+    public long streamUsers(String role, String status, OutputStream out) {
+        return userAdminService.streamUsers(role, status, out);
     }
 
     @Override
@@ -32,13 +42,38 @@ public class AdminFacade implements AdminService {
         userAdminService.deleteUser(userId);
     }
 
+    @Override
+    public BulkDeleteResponse deleteUsers(List<String> userIds) {
+        return userAdminService.deleteUsers(userIds);
+    }
+
+    @Override
+    public void blockUser(String userId, BlockUserRequest request) {
+        userAdminService.blockUser(userId, request);
+    }
+
+    @Override
+    public void unblockUser(String userId) {
+        userAdminService.unblockUser(userId);
+    }
+
     @Override
     public void deleteComment(String commentId) {
         commentAdminService.deleteComment(commentId);
     }
 
+    @Override
+    public BulkDeleteResponse deleteComments(List<String> commentIds) {
+        return commentAdminService.deleteComments(commentIds);
+    }
+
     @Override
     public void deletePost(String postId) {
         postAdminService.deletePost(postId);
     }
+
+    @Override
+    public BulkDeleteResponse deletePosts(List<String> postIds) {
+        return postAdminService.deletePosts(postIds);
+    }
 }
@@ -1,18 +1,35 @@
 package com.newsshelf.admin.service;
 
 import com.newsshelf.admin.dto.request.AssignRoleRequest;
+import com.newsshelf.admin.dto.request.BlockUserRequest;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
 import com.newsshelf.admin.dto.response.ListUsersResponse;
 
+import java.io.OutputStream;
+import java.util.List;
+
 
 public interface AdminService {
 
     void assignRole(String userId, AssignRoleRequest request);
 
-    ListUsersResponse listUsers(String role, String status);
+    ListUsersResponse listUsers(String role, String status, int page, int size);
+
+    long streamUsers(String role, String status, OutputStream out);
 
     void deleteUser(String userId);
 
+    BulkDeleteResponse deleteUsers(List<String> userIds);
+
+    void blockUser(String userId, BlockUserRequest request);
+
+    void unblockUser(String userId);
+
     void deleteComment(String commentId);
 
+    BulkDeleteResponse deleteComments(List<String> commentIds);
+
     void deletePost(String postId);
+
+    BulkDeleteResponse deletePosts(List<String> postIds);
 }
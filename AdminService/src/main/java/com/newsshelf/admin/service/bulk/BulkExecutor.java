@@ -0,0 +1,82 @@
+package com.newsshelf.admin.service.bulk;
+
+import com.newsshelf.admin.dto.response.BulkDeleteResponse.ItemResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Fans a per-item downstream call out over virtual threads.
+ * The caller's security context travels with every task so the bearer-forwarding interceptor keeps working;
+ * the {@link Semaphore} passed in caps concurrency towards one downstream.
+ */
+@Slf4j
+@Component
+public class BulkExecutor {
+
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    public Map<String, ItemResult> forEach(Collection<String> ids, Semaphore limit, Consumer<String> action) {
+        Map<String, Future<ItemResult>> futures = new LinkedHashMap<>();
+        for (String id : ids) {
+            futures.putIfAbsent(id, executor.submit(() -> run(id, limit, action)));
+        }
+
+        Map<String, ItemResult> results = new LinkedHashMap<>();
+        for (var entry : futures.entrySet()) {
+            results.put(entry.getKey(), await(entry.getValue()));
+        }
+        return results;
+    }
+
+    private static ItemResult run(String id, Semaphore limit, Consumer<String> action) {
+        try {
+            limit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ItemResult(HttpStatus.SERVICE_UNAVAILABLE.value(), "Interrupted");
+        }
+
+        try {
+            action.accept(id);
+            return new ItemResult(HttpStatus.NO_CONTENT.value(), null);
+        } catch (ResponseStatusException e) {
+            return new ItemResult(e.getStatusCode().value(), e.getReason());
+        } catch (Exception e) {
+            log.error("bulk item error id={}", id, e);
+            return new ItemResult(HttpStatus.BAD_GATEWAY.value(), e.getMessage());
+        } finally {
+            limit.release();
+        }
+    }
+
+    private static ItemResult await(Future<ItemResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ItemResult(HttpStatus.SERVICE_UNAVAILABLE.value(), "Interrupted");
+        } catch (ExecutionException e) {
+            return new ItemResult(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getCause().getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,34 @@
+package com.newsshelf.admin.service.coalesce;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Coalescing key for a call made with the caller's bearer token. Every ADMIN is allowed the same
+ * deletes downstream, so ADMIN callers share one execution per target; for other roles the outcome can
+ * depend on who asks (a PUBLISHER may only delete their own content), so they share only with callers
+ * presenting the same token.
+ */
+public record CallerKey(String token, String id) {
+
+    private static final String ADMIN = "ROLE_ADMIN";
+
+    public static CallerKey current(String id) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || isAdmin(auth)) return new CallerKey(null, id);
+        return new CallerKey(auth.getDetails() instanceof String token ? token : null, id);
+    }
+
+    private static boolean isAdmin(Authentication auth) {
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            if (ADMIN.equals(authority.getAuthority())) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "CallerKey[id=" + id + "]";
+    }
+}
@@ -0,0 +1,69 @@
+package com.newsshelf.admin.service.coalesce;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one execution. The first caller runs the work;
+ * callers arriving while it is in flight wait for and share its outcome, success or failure.
+ * Nothing is remembered once the call finishes, so this is not a cache.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Result<V> execute(K key, Supplier<V> work) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = work.get();
+            mine.complete(value);
+            return new Result<>(value, null, false);
+
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            return new Result<>(null, e, false);
+
+        } catch (Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> Result<V> await(CompletableFuture<V> leader) {
+        try {
+            return new Result<>(leader.join(), null, true);
+
+        } catch (CompletionException e) {
+            RuntimeException failure = e.getCause() instanceof RuntimeException re
+                    ? re
+                    : new IllegalStateException("Coalesced call failed", e.getCause());
+            return new Result<>(null, failure, true);
+        }
+    }
+
+    /**
+     * Outcome of one caller; {@code coalesced} is true when the caller reused another caller's execution.
+     */
+    public record Result<V>(V value, RuntimeException failure, boolean coalesced) {
+
+        public V getOrThrow() {
+            if (failure != null) throw failure;
+            return value;
+        }
+    }
+}
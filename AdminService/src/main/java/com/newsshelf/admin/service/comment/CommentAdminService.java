@@ -1,6 +1,12 @@
 package com.newsshelf.admin.service.comment;
 
 
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+
+import java.util.List;
+
 public interface CommentAdminService {
     void deleteComment(String commentId);
+
+    BulkDeleteResponse deleteComments(List<String> commentIds);
 }
@@ -4,44 +4,107 @@ import com.newsshelf.admin.audit.model.ActionStatus;
 import com.newsshelf.admin.audit.model.ActionType;
 import com.newsshelf.admin.audit.model.TargetType;
 import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.service.bulk.BulkExecutor;
+import com.newsshelf.admin.service.coalesce.CallerKey;
+import com.newsshelf.admin.service.coalesce.SingleFlight;
+import com.newsshelf.admin.service.resilience.DownstreamGuard;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
 @Slf4j
 @Service
 public class DefaultCommentAdminService implements CommentAdminService {
 
     private final RestClient commentServiceClient;
     private final AdminActionService adminActionService;
+    private final BulkExecutor bulkExecutor;
+    private final Semaphore bulkLimit;
+    private final DownstreamGuard guard;
+    private final SingleFlight<CallerKey, Void> deletes = new SingleFlight<>();
 
     public DefaultCommentAdminService(
             @Qualifier("commentServiceClient") RestClient commentServiceClient,
-            AdminActionService adminActionService
+            AdminActionService adminActionService,
+            BulkExecutor bulkExecutor,
+            DownstreamGuards downstreamGuards,
+            @Value("${services.comments.bulk-concurrency:16}") int bulkConcurrency
     ) {
         this.commentServiceClient = commentServiceClient;
         this.adminActionService = adminActionService;
+        this.bulkExecutor = bulkExecutor;
+        this.bulkLimit = new Semaphore(bulkConcurrency);
+        this.guard = downstreamGuards.forService("comments", "CommentService");
     }
 
     @Override
     public void deleteComment(String commentId) {
         log.info("deleteComment start commentId={}", commentId);
+        Instant startedAt = Instant.now();
+
+        // concurrent deletes of the same comment share a downstream call (see CallerKey); each caller is still audited
+        var result = deletes.execute(CallerKey.current(commentId), () -> {
+            delete(commentId);
+            return null;
+        });
+
+        try {
+            result.getOrThrow();
+
+            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.SUCCESS, startedAt,
+                    result.coalesced());
+            log.info("deleteComment success commentId={} coalesced={}", commentId, result.coalesced());
 
+        } catch (ResponseStatusException e) {
+            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.FAILED, startedAt,
+                    result.coalesced());
+            log.warn("deleteComment fail commentId={} status={} reason={}",
+                    commentId, e.getStatusCode(), e.getReason());
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkDeleteResponse deleteComments(List<String> commentIds) {
+        log.info("deleteComments start count={}", commentIds.size());
+        Instant startedAt = Instant.now();
+
+        var results = bulkExecutor.forEach(commentIds, bulkLimit, this::delete);
+
+        Map<String, ActionStatus> statuses = new LinkedHashMap<>();
+        results.forEach((id, r) -> statuses.put(id, r.success() ? ActionStatus.SUCCESS : ActionStatus.FAILED));
+        adminActionService.logAll(ActionType.DELETE_COMMENT, TargetType.COMMENT, statuses, startedAt);
+
+        var response = BulkDeleteResponse.of(results);
+        log.info("deleteComments done count={} succeeded={} failed={}",
+                results.size(), response.succeeded(), response.failed());
+        return response;
+    }
+
+    private void delete(String commentId) {
         final int id;
         try {
             id = Integer.parseInt(commentId);
         } catch (NumberFormatException ex) {
             log.warn("deleteComment invalid commentId (not int) commentId={}", commentId);
-            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.FAILED);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "commentId must be integer");
         }
 
         try {
-            commentServiceClient.delete()
+            guard.run(() -> commentServiceClient.delete()
                     .uri("/api/comments/{id}", id)
                     .retrieve()
                     .onStatus(s -> s.value() == 404, (req, res) -> {
@@ -55,19 +118,12 @@ public class DefaultCommentAdminService implements CommentAdminService {
                         throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
                                 "CommentService unavailable: " + res.getStatusCode());
                     })
-                    .toBodilessEntity();
-
-            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.SUCCESS);
-            log.info("deleteComment success commentId={} id={}", commentId, id);
+                    .toBodilessEntity());
 
         } catch (ResponseStatusException e) {
-            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.FAILED);
-            log.warn("deleteComment fail commentId={} id={} status={} reason={}",
-                    commentId, id, e.getStatusCode(), e.getReason());
             throw e;
 
         } catch (Exception e) {
-            adminActionService.log(ActionType.DELETE_COMMENT, TargetType.COMMENT, commentId, ActionStatus.FAILED);
             log.error("deleteComment error commentId={} id={}", commentId, id, e);
             throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to call CommentService", e);
         }
@@ -4,44 +4,107 @@ import com.newsshelf.admin.audit.model.ActionStatus;
 import com.newsshelf.admin.audit.model.ActionType;
 import com.newsshelf.admin.audit.model.TargetType;
 import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.service.bulk.BulkExecutor;
+import com.newsshelf.admin.service.coalesce.CallerKey;
+import com.newsshelf.admin.service.coalesce.SingleFlight;
+import com.newsshelf.admin.service.resilience.DownstreamGuard;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
 @Slf4j
 @Service
 public class DefaultPostAdminService implements PostAdminService {
 
     private final RestClient newsServiceClient;
     private final AdminActionService adminActionService;
+    private final BulkExecutor bulkExecutor;
+    private final Semaphore bulkLimit;
+    private final DownstreamGuard guard;
+    private final SingleFlight<CallerKey, Void> deletes = new SingleFlight<>();
 
     public DefaultPostAdminService(
             @Qualifier("newsServiceClient") RestClient newsServiceClient,
-            AdminActionService adminActionService
+            AdminActionService adminActionService,
+            BulkExecutor bulkExecutor,
+            DownstreamGuards downstreamGuards,
+            @Value("${services.news.bulk-concurrency:16}") int bulkConcurrency
     ) {
         this.newsServiceClient = newsServiceClient;
         this.adminActionService = adminActionService;
+        this.bulkExecutor = bulkExecutor;
+        this.bulkLimit = new Semaphore(bulkConcurrency);
+        this.guard = downstreamGuards.forService("news", "NewsApi");
     }
 
     @Override
     public void deletePost(String postId) {
         log.info("deletePost start postId={}", postId);
+        Instant startedAt = Instant.now();
+
+        // concurrent deletes of the same post share a downstream call (see CallerKey); each caller is still audited
+        var result = deletes.execute(CallerKey.current(postId), () -> {
+            delete(postId);
+            return null;
+        });
+
+        try {
+            result.getOrThrow();
+
+            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.SUCCESS, startedAt,
+                    result.coalesced());
+            log.info("deletePost success postId={} coalesced={}", postId, result.coalesced());
+
+        } catch (ResponseStatusException e) {
+            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.FAILED, startedAt,
+                    result.coalesced());
+            log.warn("deletePost fail postId={} status={} reason={}",
+                    postId, e.getStatusCode(), e.getReason());
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkDeleteResponse deletePosts(List<String> postIds) {
+        log.info("deletePosts start count={}", postIds.size());
+        Instant startedAt = Instant.now();
+
+        var results = bulkExecutor.forEach(postIds, bulkLimit, this::delete);
+
+        Map<String, ActionStatus> statuses = new LinkedHashMap<>();
+        results.forEach((id, r) -> statuses.put(id, r.success() ? ActionStatus.SUCCESS : ActionStatus.FAILED));
+        adminActionService.logAll(ActionType.DELETE_POST, TargetType.POST, statuses, startedAt);
 
+        var response = BulkDeleteResponse.of(results);
+        log.info("deletePosts done count={} succeeded={} failed={}",
+                results.size(), response.succeeded(), response.failed());
+        return response;
+    }
+
+    private void delete(String postId) {
         final int id;
         try {
             id = Integer.parseInt(postId);
         } catch (NumberFormatException ex) {
-            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.FAILED);
             log.warn("deletePost invalid postId postId={}", postId);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "postId must be integer");
         }
 
         try {
-            newsServiceClient.delete()
+            guard.run(() -> newsServiceClient.delete()
                     .uri("/api/news/{id}", id)
                     .retrieve()
                     .onStatus(s -> s.value() == 404, (req, res) -> {
@@ -55,22 +118,14 @@ public class DefaultPostAdminService implements PostAdminService {
                         throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
                                 "NewsApi unavailable: " + res.getStatusCode());
                     })
-                    .toBodilessEntity();
-
-            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.SUCCESS);
-            log.info("deletePost success postId={} id={}", postId, id);
+                    .toBodilessEntity());
 
         } catch (ResponseStatusException e) {
-            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.FAILED);
-            log.warn("deletePost fail postId={} id={} status={} reason={}",
-                    postId, id, e.getStatusCode(), e.getReason());
             throw e;
 
         } catch (Exception e) {
-            adminActionService.log(ActionType.DELETE_POST, TargetType.POST, postId, ActionStatus.FAILED);
             log.error("deletePost error postId={} id={}", postId, id, e);
             throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to call NewsApi", e);
         }
     }
 }
-
@@ -1,6 +1,12 @@
 package com.newsshelf.admin.service.post;
 
 
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+
+import java.util.List;
+
 public interface PostAdminService {
     void deletePost(String postId);
+
+    BulkDeleteResponse deletePosts(List<String> postIds);
 }
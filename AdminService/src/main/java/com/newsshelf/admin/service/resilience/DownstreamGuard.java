@@ -0,0 +1,68 @@
+package com.newsshelf.admin.service.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead + circuit breaker in front of one downstream.
+ * Rejected calls fail fast with 503 so callers audit them like any other failure.
+ */
+@Slf4j
+public class DownstreamGuard {
+
+    private final String displayName;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    DownstreamGuard(
+            String displayName,
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead,
+            Counter circuitOpenRejections,
+            Counter bulkheadFullRejections
+    ) {
+        this.displayName = displayName;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.circuitOpenRejections = circuitOpenRejections;
+        this.bulkheadFullRejections = bulkheadFullRejections;
+    }
+
+    public <T> T call(Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            log.warn("downstream rejected, circuit open downstream={}", displayName);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, displayName + " circuit open");
+
+        } catch (BulkheadFullException e) {
+            bulkheadFullRejections.increment();
+            log.warn("downstream rejected, bulkhead full downstream={}", displayName);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, displayName + " is overloaded");
+        }
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+}
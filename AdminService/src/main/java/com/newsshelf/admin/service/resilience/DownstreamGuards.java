@@ -0,0 +1,111 @@
+package com.newsshelf.admin.service.resilience;
+
+import com.newsshelf.admin.stats.AdminStats;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link DownstreamGuard} per downstream, configured from {@code services.<name>.circuit.*}
+ * and {@code services.<name>.bulkhead.*}. Call outcomes also feed the downstream counters of {@link AdminStats}.
+ */
+@Component
+public class DownstreamGuards {
+
+    private final Environment env;
+    private final MeterRegistry meterRegistry;
+    private final AdminStats stats;
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+    private final Map<String, DownstreamGuard> guards = new ConcurrentHashMap<>();
+
+    public DownstreamGuards(Environment env, MeterRegistry meterRegistry, AdminStats stats) {
+        this.env = env;
+        this.meterRegistry = meterRegistry;
+        this.stats = stats;
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    public DownstreamGuard forService(String name, String displayName) {
+        return guards.computeIfAbsent(name, n -> create(n, displayName));
+    }
+
+    private DownstreamGuard create(String name, String displayName) {
+        Binder binder = Binder.get(env);
+        String circuit = "services." + name + ".circuit.";
+        String bulkhead = "services." + name + ".bulkhead.";
+
+        CircuitBreakerConfig circuitConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(binder.bind(circuit + "failure-rate-threshold", Float.class).orElse(50f))
+                .slowCallRateThreshold(binder.bind(circuit + "slow-call-rate-threshold", Float.class).orElse(80f))
+                .slowCallDurationThreshold(binder.bind(circuit + "slow-call-duration", Duration.class)
+                        .orElse(Duration.ofSeconds(3)))
+                .slidingWindowSize(binder.bind(circuit + "sliding-window-size", Integer.class).orElse(20))
+                .minimumNumberOfCalls(binder.bind(circuit + "minimum-calls", Integer.class).orElse(10))
+                .waitDurationInOpenState(binder.bind(circuit + "open-duration", Duration.class)
+                        .orElse(Duration.ofSeconds(10)))
+                .permittedNumberOfCallsInHalfOpenState(binder.bind(circuit + "half-open-calls", Integer.class)
+                        .orElse(3))
+                .recordException(DownstreamGuards::isDownstreamFailure)
+                .build();
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(binder.bind(bulkhead + "max-concurrent-calls", Integer.class).orElse(32))
+                .maxWaitDuration(binder.bind(bulkhead + "max-wait", Duration.class).orElse(Duration.ofMillis(100)))
+                .build();
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(name, circuitConfig);
+        Bulkhead bh = bulkheads.bulkhead(name, bulkheadConfig);
+
+        AdminStats.DownstreamCounters counters = stats.downstream(name);
+        circuitBreaker.getEventPublisher()
+                .onSuccess(e -> counters.succeeded())
+                .onIgnoredError(e -> counters.succeeded())
+                .onError(e -> counters.failed())
+                .onCallNotPermitted(e -> counters.rejected());
+        bh.getEventPublisher().onCallRejected(e -> counters.rejected());
+
+        return new DownstreamGuard(
+                displayName,
+                circuitBreaker,
+                bh,
+                rejections(name, "circuit_open"),
+                rejections(name, "bulkhead_full")
+        );
+    }
+
+    private Counter rejections(String downstream, String reason) {
+        return Counter.builder("admin.downstream.rejected")
+                .description("Downstream calls rejected without being sent")
+                .tag("downstream", downstream)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 4xx answers (not found, validation) mean the downstream is healthy; only 5xx and transport errors count.
+     */
+    private static boolean isDownstreamFailure(Throwable e) {
+        if (e instanceof ResponseStatusException rse) {
+            return rse.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,208 @@
+package com.newsshelf.admin.service.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests for idempotent reads against one downstream. The first attempt runs on its own thread;
+ * if it has not answered within the hedge delay a second one is sent, the first successful answer wins
+ * and the other attempt is cancelled (its thread interrupted, which aborts the blocking socket read).
+ *
+ * <p>The delay is a percentile of recent first-attempt answer times, or a fixed {@code delay} when configured.
+ * Hedges are paid for from a budget: every call earns {@code budget} of a hedge, capped at {@code burst} hedges,
+ * so extra load stays below {@code budget} times the call rate even when the downstream slows down as a whole.
+ */
+@Slf4j
+public class DownstreamHedge {
+
+    static final int WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final int MIN_SAMPLES = 64;
+    private static final long CREDIT = 1_000;
+
+    private final String displayName;
+    private final boolean enabled;
+    private final double percentile;
+    private final long fixedDelayNanos;
+    private final long minDelayNanos;
+    private final long creditPerCall;
+    private final long maxCredits;
+    private final ExecutorService executor;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter budgetExhausted;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(WINDOW);
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong credits;
+    private volatile long delayNanos = -1;
+
+    DownstreamHedge(
+            String displayName,
+            Settings settings,
+            ExecutorService executor,
+            Counter hedgesSent,
+            Counter hedgesWon,
+            Counter budgetExhausted
+    ) {
+        this.displayName = displayName;
+        this.enabled = settings.enabled();
+        this.percentile = settings.percentile();
+        this.fixedDelayNanos = settings.delay() == null ? -1 : settings.delay().toNanos();
+        this.minDelayNanos = settings.minDelay().toNanos();
+        this.creditPerCall = Math.round(settings.budget() * CREDIT);
+        this.maxCredits = Math.round(settings.burst() * CREDIT);
+        this.credits = new AtomicLong(maxCredits);
+        this.executor = executor;
+        this.hedgesSent = hedgesSent;
+        this.hedgesWon = hedgesWon;
+        this.budgetExhausted = budgetExhausted;
+    }
+
+    /**
+     * Runs an idempotent call, hedging it when enabled. Failures of the winning attempt propagate as thrown;
+     * when both attempts fail the first attempt's failure is rethrown.
+     */
+    public <T> T call(Supplier<T> call) {
+        if (!enabled) return call.get();
+
+        earnCredit();
+        var attempts = new ExecutorCompletionService<T>(executor);
+        long startedAt = System.nanoTime();
+        var primaryNanos = new AtomicLong();
+        Future<T> primary = attempts.submit(() -> {
+            long primaryStartedAt = System.nanoTime();
+            T value = call.get();
+            primaryNanos.set(System.nanoTime() - primaryStartedAt);
+            return value;
+        });
+        Future<T> hedge = null;
+
+        try {
+            long delay = currentDelay();
+            Future<T> done = delay < 0 ? attempts.take() : attempts.poll(delay, TimeUnit.NANOSECONDS);
+
+            if (done == null) {
+                if (spendCredit()) {
+                    hedgesSent.increment();
+                    log.debug("hedge sent downstream={} delayMs={}", displayName, delay / 1_000_000);
+                    hedge = attempts.submit(call::get);
+                } else {
+                    budgetExhausted.increment();
+                }
+                done = attempts.take();
+            }
+
+            if (hedge != null && isFailure(done)) {
+                // one attempt failed; the other may still answer
+                Future<T> second = attempts.take();
+                done = isFailure(second) ? primary : second;
+            }
+
+            T value = result(done);
+            // samples are first-attempt latencies: the primary's own answer time, or for a primary the hedge
+            // beat, its running time at cancellation. That is only a lower bound, but it is past the delay,
+            // so the slow tail keeps its weight instead of dropping out and dragging the percentile down
+            if (done == primary) {
+                record(primaryNanos.get());
+            } else if (!primary.isDone()) {
+                record(System.nanoTime() - startedAt);
+            }
+            if (done == hedge) hedgesWon.increment();
+            return value;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, displayName + " call interrupted");
+
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) hedge.cancel(true);
+        }
+    }
+
+    /**
+     * Delay before hedging in nanoseconds, or -1 while there are too few answers to estimate it.
+     */
+    long currentDelay() {
+        return fixedDelayNanos >= 0 ? fixedDelayNanos : delayNanos;
+    }
+
+    long samples() {
+        return recorded.get();
+    }
+
+    void record(long nanos) {
+        long n = recorded.getAndIncrement();
+        latencies.set((int) (n % WINDOW), nanos);
+        if (fixedDelayNanos < 0 && n + 1 >= MIN_SAMPLES && (n + 1) % RECOMPUTE_EVERY == 0) {
+            recomputeDelay(Math.min(n + 1, WINDOW));
+        }
+    }
+
+    private void recomputeDelay(long samples) {
+        long[] sorted = new long[(int) samples];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = latencies.get(i);
+        Arrays.sort(sorted);
+
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile / 100 * sorted.length) - 1);
+        delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+    }
+
+    private void earnCredit() {
+        long current;
+        do {
+            current = credits.get();
+            if (current >= maxCredits) return;
+        } while (!credits.compareAndSet(current, Math.min(maxCredits, current + creditPerCall)));
+    }
+
+    private boolean spendCredit() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < CREDIT) return false;
+        } while (!credits.compareAndSet(current, current - CREDIT));
+        return true;
+    }
+
+    private static boolean isFailure(Future<?> future) {
+        return future.state() == Future.State.FAILED;
+    }
+
+    private static <T> T result(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Hedged call failed", e.getCause());
+        }
+    }
+
+    /**
+     * {@code services.<name>.hedge.*}; {@code budget} is the share of calls that may be hedged.
+     */
+    record Settings(
+            boolean enabled,
+            double percentile,
+            Duration delay,
+            Duration minDelay,
+            double budget,
+            double burst
+    ) {
+    }
+}
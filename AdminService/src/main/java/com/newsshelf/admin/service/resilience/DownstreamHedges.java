@@ -0,0 +1,75 @@
+package com.newsshelf.admin.service.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One {@link DownstreamHedge} per downstream, configured from {@code services.<name>.hedge.*}; off unless enabled.
+ * Attempts run on virtual threads carrying the caller's security context, so the bearer-forwarding
+ * interceptor works for both attempts.
+ */
+@Component
+public class DownstreamHedges {
+
+    private final Environment env;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    private final Map<String, DownstreamHedge> hedges = new ConcurrentHashMap<>();
+
+    public DownstreamHedges(Environment env, MeterRegistry meterRegistry) {
+        this.env = env;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public DownstreamHedge forService(String name, String displayName) {
+        return hedges.computeIfAbsent(name, n -> create(n, displayName));
+    }
+
+    private DownstreamHedge create(String name, String displayName) {
+        Binder binder = Binder.get(env);
+        String hedge = "services." + name + ".hedge.";
+
+        var settings = new DownstreamHedge.Settings(
+                binder.bind(hedge + "enabled", Boolean.class).orElse(false),
+                binder.bind(hedge + "percentile", Double.class).orElse(95.0),
+                binder.bind(hedge + "delay", Duration.class).orElse(null),
+                binder.bind(hedge + "min-delay", Duration.class).orElse(Duration.ofMillis(5)),
+                binder.bind(hedge + "budget", Double.class).orElse(0.1),
+                binder.bind(hedge + "burst", Double.class).orElse(10.0)
+        );
+
+        return new DownstreamHedge(
+                displayName,
+                settings,
+                executor,
+                hedges(name, "sent"),
+                hedges(name, "won"),
+                hedges(name, "budget_exhausted")
+        );
+    }
+
+    private Counter hedges(String downstream, String outcome) {
+        return Counter.builder("admin.downstream.hedges")
+                .description("Hedged second attempts for slow downstream reads")
+                .tag("downstream", downstream)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -5,45 +5,105 @@ import com.newsshelf.admin.audit.model.ActionType;
 import com.newsshelf.admin.audit.model.TargetType;
 import com.newsshelf.admin.audit.service.AdminActionService;
 import com.newsshelf.admin.dto.request.AssignRoleRequest;
+import com.newsshelf.admin.dto.request.BlockUserRequest;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
 import com.newsshelf.admin.dto.response.ListUsersResponse;
+import com.newsshelf.admin.security.principal.AdminPrincipal;
+import com.newsshelf.admin.security.revocation.RevocationList;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.service.bulk.BulkExecutor;
+import com.newsshelf.admin.service.coalesce.CallerKey;
+import com.newsshelf.admin.service.coalesce.SingleFlight;
+import com.newsshelf.admin.service.resilience.DownstreamGuard;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import com.newsshelf.admin.service.resilience.DownstreamHedge;
+import com.newsshelf.admin.service.resilience.DownstreamHedges;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
+@RegisterReflectionForBinding(ListUsersResponse.class)
 public class DefaultUserAdminService implements UserAdminService {
 
+    private static final int NDJSON_FLUSH_EVERY = 1000;
+    private static final String DELETED_REASON = "user deleted";
+
     private final RestClient userServiceClient;
     private final AdminActionService adminActionService;
+    private final BulkExecutor bulkExecutor;
+    private final Semaphore bulkLimit;
+    private final DownstreamGuard guard;
+    private final DownstreamHedge hedge;
+    private final SingleFlight<CallerKey, Void> deletes = new SingleFlight<>();
+    private final UserListCache userListCache;
+    private final JsonMapper jsonMapper;
+    private final RevocationList revocationList;
 
     public DefaultUserAdminService(
             @Qualifier("userServiceClient") RestClient userServiceClient,
-            AdminActionService adminActionService
+            AdminActionService adminActionService,
+            BulkExecutor bulkExecutor,
+            DownstreamGuards downstreamGuards,
+            DownstreamHedges downstreamHedges,
+            @Value("${services.user.bulk-concurrency:8}") int bulkConcurrency,
+            UserListCache userListCache,
+            JsonMapper jsonMapper,
+            RevocationList revocationList
     ) {
         this.userServiceClient = userServiceClient;
         this.adminActionService = adminActionService;
+        this.bulkExecutor = bulkExecutor;
+        this.bulkLimit = new Semaphore(bulkConcurrency);
+        this.guard = downstreamGuards.forService("user", "UserService");
+        this.hedge = downstreamHedges.forService("user", "UserService");
+        this.userListCache = userListCache;
+        this.jsonMapper = jsonMapper;
+        this.revocationList = revocationList;
     }
 
     @Override
     public void assignRole(String userId, AssignRoleRequest request) {
         String role = request == null ? null : String.valueOf(request.role());
         log.info("assignRole start userId={} role={}", userId, role);
+        Instant startedAt = Instant.now();
 
         if (role == null || role.isBlank()) {
             log.warn("assignRole invalid role userId={} role={}", userId, role);
-            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED);
+            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role is required");
         }
+        if (request.role() == Role.METRICS) {
+            log.warn("assignRole invalid role userId={} role={}", userId, role);
+            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role METRICS is held by scrape tokens only");
+        }
 
         try {
-            userServiceClient.put()
+            guard.run(() -> userServiceClient.put()
                     .uri("/admin/users/{id}/role", userId)
                     .body(request)
                     .retrieve()
@@ -58,34 +118,85 @@ public class DefaultUserAdminService implements UserAdminService {
                         throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
                                 "UserService unavailable: " + res.getStatusCode());
                     })
-                    .toBodilessEntity();
+                    .toBodilessEntity());
 
-            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.SUCCESS);
+            userListCache.invalidateAll();
+            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.SUCCESS, startedAt);
             log.info("assignRole success userId={} role={}", userId, role);
 
         } catch (ResponseStatusException e) {
-            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED);
+            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
             log.warn("assignRole fail userId={} role={} status={} reason={}",
                     userId, role, e.getStatusCode(), e.getReason());
             throw e;
 
         } catch (Exception e) {
-            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED);
+            adminActionService.log(ActionType.ASSIGN_ROLE, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
             log.error("assignRole error userId={} role={}", userId, role, e);
             throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to call UserService", e);
         }
     }
 
     @Override
-    public ListUsersResponse listUsers(String role, String status) {
-        log.info("listUsers start role={} status={}", role, status);
+    public ListUsersResponse listUsers(String role, String status, int page, int size) {
+        var query = new UserListQuery(role, status, page, size);
+        // an unpaged UserService answered with every user once; the other pages are cut from that answer
+        ListUsersResponse all = userListCache.getIfPresent(UserListQuery.all(role, status));
+        return userListCache.get(query, all != null ? q -> page(all, q) : this::fetchUsers);
+    }
+
+    @Override
+    public long streamUsers(String role, String status, OutputStream out) {
+        log.info("streamUsers start role={} status={}", role, status);
+
+        try {
+            Long count = guard.call(() -> userServiceClient.get()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/admin/users")
+                            .queryParamIfPresent("role", Optional.ofNullable(role))
+                            .queryParamIfPresent("status", Optional.ofNullable(status))
+                            .build())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange((req, res) -> {
+                        if (res.getStatusCode().is4xxClientError()) {
+                            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                    "UserService rejected request: " + res.getStatusCode());
+                        }
+                        if (!res.getStatusCode().is2xxSuccessful()) {
+                            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                    "UserService unavailable: " + res.getStatusCode());
+                        }
+                        return copyUsersAsNdjson(res.getBody(), out);
+                    }));
+
+            log.info("streamUsers success role={} status={} count={}", role, status, count);
+            return count == null ? 0 : count;
+
+        } catch (ResponseStatusException e) {
+            log.warn("streamUsers fail role={} status={} statusCode={} reason={}",
+                    role, status, e.getStatusCode(), e.getReason());
+            throw e;
+
+        } catch (Exception e) {
+            log.error("streamUsers error role={} status={}", role, status, e);
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to call UserService", e);
+        }
+    }
+
+    private ListUsersResponse fetchUsers(UserListQuery query) {
+        String role = query.role();
+        String status = query.status();
+        log.info("listUsers start role={} status={} page={} size={}", role, status, query.page(), query.size());
 
         try {
-            ListUsersResponse body = userServiceClient.get()
+            // a pure read: a slow UserService replica is raced by a hedged second request when enabled
+            ListUsersResponse body = guard.call(() -> hedge.call(() -> userServiceClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/admin/users")
                             .queryParamIfPresent("role", Optional.ofNullable(role))
                             .queryParamIfPresent("status", Optional.ofNullable(status))
+                            .queryParam("page", query.page())
+                            .queryParam("size", query.size())
                             .build())
                     .retrieve()
                     .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
@@ -96,14 +207,17 @@ public class DefaultUserAdminService implements UserAdminService {
                         throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
                                 "UserService unavailable: " + res.getStatusCode());
                     })
-                    .body(ListUsersResponse.class);
+                    .body(ListUsersResponse.class)));
 
             if (body == null) {
                 throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "UserService returned empty body");
             }
 
-            log.info("listUsers success role={} status={}", role, status);
-            return body;
+            log.info("listUsers success role={} status={} page={} size={}", role, status, query.page(), query.size());
+            if (isWholeList(body)) {
+                userListCache.put(UserListQuery.all(role, status), body);
+            }
+            return page(body, query);
 
         } catch (ResponseStatusException e) {
             log.warn("listUsers fail role={} status={} statusCode={} reason={}",
@@ -116,12 +230,177 @@ public class DefaultUserAdminService implements UserAdminService {
         }
     }
 
+    /**
+     * UserService versions without paging return the whole list; cut the requested page locally
+     * so page entries and the admin UI hold at most {@code size} users (the list itself is cached once per filter).
+     * A body reporting more users in total than it carries was already paged by UserService.
+     */
+    private static ListUsersResponse page(ListUsersResponse body, UserListQuery query) {
+        List<ListUsersResponse.UserItem> users = body.users() == null ? List.of() : body.users();
+        if (body.total() > users.size()) return body;
+
+        long from = (long) query.page() * query.size();
+        if (from >= users.size()) return new ListUsersResponse(List.of(), users.size());
+        if (from == 0 && users.size() <= query.size()) return body;
+
+        int to = (int) Math.min(from + query.size(), users.size());
+        return new ListUsersResponse(List.copyOf(users.subList((int) from, to)), users.size());
+    }
+
+    private static boolean isWholeList(ListUsersResponse body) {
+        return body.users() != null && body.total() <= body.users().size();
+    }
+
+    private long copyUsersAsNdjson(InputStream in, OutputStream out) throws IOException {
+        long count = 0;
+
+        try (JsonParser parser = jsonMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "UserService returned malformed body");
+            }
+
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!"users".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    ListUsersResponse.UserItem item = parser.readValueAs(ListUsersResponse.UserItem.class);
+                    out.write(jsonMapper.writeValueAsBytes(item));
+                    out.write('\n');
+
+                    if (++count % NDJSON_FLUSH_EVERY == 0) out.flush();
+                }
+            }
+        }
+
+        out.flush();
+        return count;
+    }
+
     @Override
     public void deleteUser(String userId) {
         log.info("deleteUser start userId={}", userId);
+        Instant startedAt = Instant.now();
+
+        // concurrent deletes of the same user share a downstream call (see CallerKey); each caller is still audited
+        var result = deletes.execute(CallerKey.current(userId), () -> {
+            delete(userId);
+            revokeDeleted(List.of(userId));
+            return null;
+        });
 
         try {
-            userServiceClient.delete()
+            result.getOrThrow();
+
+            userListCache.invalidateAll();
+            adminActionService.log(ActionType.DELETE_USER, TargetType.USER, userId, ActionStatus.SUCCESS, startedAt,
+                    result.coalesced());
+            log.info("deleteUser success userId={} coalesced={}", userId, result.coalesced());
+
+        } catch (ResponseStatusException e) {
+            adminActionService.log(ActionType.DELETE_USER, TargetType.USER, userId, ActionStatus.FAILED, startedAt,
+                    result.coalesced());
+            log.warn("deleteUser fail userId={} status={} reason={}",
+                    userId, e.getStatusCode(), e.getReason());
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkDeleteResponse deleteUsers(List<String> userIds) {
+        log.info("deleteUsers start count={}", userIds.size());
+        Instant startedAt = Instant.now();
+
+        var results = bulkExecutor.forEach(userIds, bulkLimit, this::delete);
+        userListCache.invalidateAll();
+        revokeDeleted(results.entrySet().stream().filter(e -> e.getValue().success()).map(Map.Entry::getKey).toList());
+
+        Map<String, ActionStatus> statuses = new LinkedHashMap<>();
+        results.forEach((id, r) -> statuses.put(id, r.success() ? ActionStatus.SUCCESS : ActionStatus.FAILED));
+        adminActionService.logAll(ActionType.DELETE_USER, TargetType.USER, statuses, startedAt);
+
+        var response = BulkDeleteResponse.of(results);
+        log.info("deleteUsers done count={} succeeded={} failed={}",
+                results.size(), response.succeeded(), response.failed());
+        return response;
+    }
+
+    @Override
+    public void blockUser(String userId, BlockUserRequest request) {
+        Instant until = request == null ? null : request.until();
+        log.info("blockUser start userId={} until={}", userId, until);
+        Instant startedAt = Instant.now();
+
+        if (until != null && !until.isAfter(startedAt)) {
+            log.warn("blockUser invalid until userId={} until={}", userId, until);
+            adminActionService.log(ActionType.BLOCK_USER, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "until must be in the future");
+        }
+
+        try {
+            revocationList.revoke(userId, request == null ? null : request.reason(), currentActor(), until);
+
+            adminActionService.log(ActionType.BLOCK_USER, TargetType.USER, userId, ActionStatus.SUCCESS, startedAt);
+            log.info("blockUser success userId={} until={}", userId, until);
+
+        } catch (Exception e) {
+            adminActionService.log(ActionType.BLOCK_USER, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
+            log.error("blockUser error userId={}", userId, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to block user", e);
+        }
+    }
+
+    @Override
+    public void unblockUser(String userId) {
+        log.info("unblockUser start userId={}", userId);
+        Instant startedAt = Instant.now();
+
+        boolean lifted;
+        try {
+            lifted = revocationList.lift(userId);
+
+        } catch (Exception e) {
+            adminActionService.log(ActionType.UNBLOCK_USER, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
+            log.error("unblockUser error userId={}", userId, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to unblock user", e);
+        }
+
+        if (!lifted) {
+            adminActionService.log(ActionType.UNBLOCK_USER, TargetType.USER, userId, ActionStatus.FAILED, startedAt);
+            log.warn("unblockUser fail userId={} reason=not blocked", userId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User is not blocked");
+        }
+
+        adminActionService.log(ActionType.UNBLOCK_USER, TargetType.USER, userId, ActionStatus.SUCCESS, startedAt);
+        log.info("unblockUser success userId={}", userId);
+    }
+
+    /**
+     * Deleted users keep valid tokens until they expire; revoke them so the auth filter rejects those tokens now.
+     * The delete itself already happened, so a failure here is logged rather than surfaced.
+     */
+    private void revokeDeleted(List<String> userIds) {
+        try {
+            revocationList.revokeAll(userIds, DELETED_REASON, currentActor());
+        } catch (Exception e) {
+            log.error("revokeDeleted error count={}", userIds.size(), e);
+        }
+    }
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        return auth.getPrincipal() instanceof AdminPrincipal p ? p.userId() : auth.getName();
+    }
+
+    private void delete(String userId) {
+        try {
+            guard.run(() -> userServiceClient.delete()
                     .uri("/admin/users/{id}", userId)
                     .retrieve()
                     .onStatus(s -> s.value() == 404, (req, res) -> {
@@ -135,19 +414,12 @@ public class DefaultUserAdminService implements UserAdminService {
                         throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
                                 "UserService unavailable: " + res.getStatusCode());
                     })
-                    .toBodilessEntity();
-
-            adminActionService.log(ActionType.DELETE_USER, TargetType.USER, userId, ActionStatus.SUCCESS);
-            log.info("deleteUser success userId={}", userId);
+                    .toBodilessEntity());
 
         } catch (ResponseStatusException e) {
-            adminActionService.log(ActionType.DELETE_USER, TargetType.USER, userId, ActionStatus.FAILED);
-            log.warn("deleteUser fail userId={} status={} reason={}",
-                    userId, e.getStatusCode(), e.getReason());
             throw e;
 
         } catch (Exception e) {
-            adminActionService.log(ActionType.DELETE_USER, TargetType.USER, userId, ActionStatus.FAILED);
             log.error("deleteUser error userId={}", userId, e);
             throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Failed to call UserService", e);
         }
@@ -0,0 +1,76 @@
+package com.newsshelf.admin.service.user;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newsshelf.admin.dto.response.ListUsersResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Short-lived read-through cache for user list pages; the admin UI polls the same pages repeatedly.
+ * Entries are futures so a load runs outside the map's bin lock: a slow page load makes concurrent callers
+ * of the same page wait for it, but never callers of other pages that happen to share a hash bin.
+ */
+@Component
+public class UserListCache {
+
+    private final AsyncCache<UserListQuery, ListUsersResponse> cache;
+
+    public UserListCache(
+            MeterRegistry meterRegistry,
+            @Value("${admin.users.cache.ttl:5s}") Duration ttl,
+            @Value("${admin.users.cache.max-size:1000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "admin.users.list");
+    }
+
+    public ListUsersResponse get(UserListQuery query, Function<UserListQuery, ListUsersResponse> loader) {
+        var mine = new CompletableFuture<ListUsersResponse>();
+        CompletableFuture<ListUsersResponse> entry = cache.get(query, (q, executor) -> mine);
+
+        if (entry == mine) {
+            // failed loads are dropped from the cache by Caffeine, so the next caller retries
+            try {
+                mine.complete(loader.apply(query));
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /**
+     * The cached value if its load has completed; never waits for one in flight.
+     */
+    public ListUsersResponse getIfPresent(UserListQuery query) {
+        return cache.synchronous().getIfPresent(query);
+    }
+
+    public void put(UserListQuery query, ListUsersResponse value) {
+        cache.put(query, CompletableFuture.completedFuture(value));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+}
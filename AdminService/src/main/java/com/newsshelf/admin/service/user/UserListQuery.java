@@ -0,0 +1,16 @@
+package com.newsshelf.admin.service.user;
+
+public record UserListQuery(
+        String role,
+        String status,
+        int page,
+        int size
+) {
+
+    /**
+     * Key of the whole list for a filter; only ever populated from a response that carried every user.
+     */
+    public static UserListQuery all(String role, String status) {
+        return new UserListQuery(role, status, 0, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,244 @@
+package com.newsshelf.admin.stats;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.dto.response.StatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Live counters for the ops dashboard, so it does not have to query admin_action: actions by
+ * {@link ActionType} and {@link ActionStatus}, calls per downstream, and actions per actor, each over the
+ * sliding windows in {@code admin.stats.windows} (sorted, shortest first). Counters are fed where the audit
+ * entry is queued and from the downstream guards' circuit breaker and bulkhead events. Nothing survives a
+ * restart and each instance counts only its own traffic.
+ * <p>
+ * At most {@code admin.stats.max-actors} actors are tracked; a new one replaces one of the quietest over the
+ * longest window, so busy actors keep their counts through a flood of one-off callers.
+ */
+@Slf4j
+@Component
+public class AdminStats {
+
+    private static final ActionType[] ACTIONS = ActionType.values();
+    private static final ActionStatus[] STATUSES = ActionStatus.values();
+
+    private final List<Duration> windows;
+    private final int buckets;
+    private final LongSupplier nanoTime;
+    private final SlidingWindowCounter[] actions;
+    private final Map<String, DownstreamCounters> downstreams = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowCounter> actors = new ConcurrentHashMap<>();
+    private final int maxActors;
+    private final Queue<EvictionCandidate> evictionCandidates = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    public AdminStats(Environment env) {
+        this(env, System::nanoTime);
+    }
+
+    AdminStats(Environment env, LongSupplier nanoTime) {
+        Binder binder = Binder.get(env);
+        this.windows = binder.bind("admin.stats.windows", Bindable.listOf(Duration.class))
+                .orElse(List.of(Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofHours(1)))
+                .stream().sorted().distinct().toList();
+        this.buckets = binder.bind("admin.stats.buckets", Integer.class).orElse(60);
+        this.maxActors = binder.bind("admin.stats.max-actors", Integer.class).orElse(1000);
+        this.nanoTime = nanoTime;
+
+        if (windows.isEmpty() || buckets < 1 || maxActors < 1) {
+            throw new IllegalStateException("admin.stats needs at least one window, one bucket and one actor");
+        }
+
+        this.actions = new SlidingWindowCounter[ACTIONS.length * STATUSES.length];
+        for (int i = 0; i < actions.length; i++) {
+            actions[i] = newCounter();
+        }
+    }
+
+    public List<Duration> windows() {
+        return windows;
+    }
+
+    public void recordAction(ActionType action, ActionStatus status, String actor, long count) {
+        if (count <= 0) return;
+
+        long now = nowMillis();
+        actions[action.ordinal() * STATUSES.length + status.ordinal()].add(now, count);
+        SlidingWindowCounter counter = actors.get(actor);
+        if (counter == null) {
+            if (actors.size() >= maxActors) evictOne(now);
+            counter = actors.computeIfAbsent(actor, a -> newCounter());
+        }
+        counter.add(now, count);
+    }
+
+    /**
+     * Counters of one downstream, created on first use; callers keep the instance.
+     */
+    public DownstreamCounters downstream(String name) {
+        return downstreams.computeIfAbsent(name, n -> new DownstreamCounters());
+    }
+
+    /**
+     * @param window one of {@link #windows()}
+     */
+    public StatsResponse snapshot(Duration window, int topActors) {
+        int w = windows.indexOf(window);
+        if (w < 0) {
+            throw new IllegalArgumentException("Unknown stats window " + window + ", configured: " + windows);
+        }
+
+        long now = nowMillis();
+        double minutes = window.toMillis() / 60_000d;
+
+        List<StatsResponse.ActionCount> actionCounts = new ArrayList<>();
+        for (ActionType action : ACTIONS) {
+            for (ActionStatus status : STATUSES) {
+                long count = actions[action.ordinal() * STATUSES.length + status.ordinal()].sum(w, now);
+                if (count > 0) {
+                    actionCounts.add(new StatsResponse.ActionCount(action.name(), status.name(), count,
+                            count / minutes));
+                }
+            }
+        }
+
+        List<StatsResponse.DownstreamCount> downstreamCounts = new ArrayList<>();
+        downstreams.forEach((name, c) -> {
+            long succeeded = c.succeeded.sum(w, now);
+            long failed = c.failed.sum(w, now);
+            long calls = succeeded + failed;
+            downstreamCounts.add(new StatsResponse.DownstreamCount(name, calls, failed, c.rejected.sum(w, now),
+                    calls == 0 ? 0 : (double) failed / calls));
+        });
+        downstreamCounts.sort(Comparator.comparing(StatsResponse.DownstreamCount::downstream));
+
+        return new StatsResponse(window.toSeconds(), Instant.now(), actionCounts, downstreamCounts,
+                topActors(w, now, topActors));
+    }
+
+    /**
+     * Drops actors with nothing in the longest window; same trade-off as the rate limiter's sweep, an action
+     * racing the removal may go uncounted.
+     */
+    @Scheduled(fixedDelayString = "${admin.stats.sweep-interval:5m}")
+    public void sweep() {
+        long now = nowMillis();
+        int before = actors.size();
+        actors.values().removeIf(c -> c.idle(now));
+        log.debug("stats sweep success actors={} removed={}", actors.size(), before - actors.size());
+    }
+
+    /**
+     * Drops one of the quietest actors. Candidates are collected a tenth of the cap per scan, so a flood of new
+     * actors costs one scan per that many arrivals; a candidate that got busier since the scan is spared.
+     */
+    private void evictOne(long now) {
+        int longest = windows.size() - 1;
+        for (int scan = 0; scan < 2; scan++) {
+            EvictionCandidate candidate;
+            while ((candidate = evictionCandidates.poll()) != null) {
+                SlidingWindowCounter counter = actors.get(candidate.actor());
+                if (counter != null && counter.sum(longest, now) <= candidate.count()
+                        && actors.remove(candidate.actor(), counter)) {
+                    return;
+                }
+            }
+            collectEvictionCandidates(longest, now);
+        }
+    }
+
+    private synchronized void collectEvictionCandidates(int w, long now) {
+        if (!evictionCandidates.isEmpty()) return;
+
+        var quietest = new PriorityQueue<EvictionCandidate>(
+                Comparator.comparingLong(EvictionCandidate::count).reversed());
+        int limit = Math.max(1, maxActors / 10);
+        actors.forEach((actor, counter) -> {
+            long count = counter.sum(w, now);
+            if (quietest.size() < limit) {
+                quietest.add(new EvictionCandidate(actor, count));
+            } else if (count < quietest.peek().count()) {
+                quietest.poll();
+                quietest.add(new EvictionCandidate(actor, count));
+            }
+        });
+        evictionCandidates.addAll(quietest);
+    }
+
+    private List<StatsResponse.ActorCount> topActors(int w, long now, int limit) {
+        if (limit <= 0) return List.of();
+
+        var top = new PriorityQueue<StatsResponse.ActorCount>(Comparator.comparingLong(StatsResponse.ActorCount::count));
+        actors.forEach((actor, counter) -> {
+            long count = counter.sum(w, now);
+            if (count == 0) return;
+            if (top.size() < limit) {
+                top.add(new StatsResponse.ActorCount(actor, count));
+            } else if (count > top.peek().count()) {
+                top.poll();
+                top.add(new StatsResponse.ActorCount(actor, count));
+            }
+        });
+
+        List<StatsResponse.ActorCount> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(StatsResponse.ActorCount::count).reversed()
+                .thenComparing(StatsResponse.ActorCount::actor));
+        return result;
+    }
+
+    private SlidingWindowCounter newCounter() {
+        return new SlidingWindowCounter(windows, buckets);
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong());
+    }
+
+    private record EvictionCandidate(String actor, long count) {
+    }
+
+    /**
+     * Outcomes of calls to one downstream: sent calls that succeeded (4xx answers included, as the circuit
+     * breaker counts them) or failed, and calls rejected by an open circuit or a full bulkhead.
+     */
+    public final class DownstreamCounters {
+
+        private final SlidingWindowCounter succeeded = newCounter();
+        private final SlidingWindowCounter failed = newCounter();
+        private final SlidingWindowCounter rejected = newCounter();
+
+        private DownstreamCounters() {
+        }
+
+        public void succeeded() {
+            succeeded.add(nowMillis(), 1);
+        }
+
+        public void failed() {
+            failed.add(nowMillis(), 1);
+        }
+
+        public void rejected() {
+            rejected.add(nowMillis(), 1);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.newsshelf.admin.stats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Event count over each of several sliding windows. Every window is a ring of buckets; a bucket is one long
+ * holding its tick (time / bucket width, low 32 bits) in the upper half and its count in the lower half, so a
+ * slot moves to a new tick and counts in the same CAS and nothing takes a lock. Reading sums a fixed number of
+ * buckets regardless of traffic. The newest bucket is partial, so a window covers between
+ * {@code window - width} and {@code window} of history.
+ */
+final class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final Ring[] rings;
+
+    SlidingWindowCounter(List<Duration> windows, int buckets) {
+        this.rings = new Ring[windows.size()];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new Ring(Math.max(1, windows.get(i).toMillis() / buckets), buckets);
+        }
+    }
+
+    void add(long nowMillis, long n) {
+        for (Ring ring : rings) {
+            ring.add(nowMillis, n);
+        }
+    }
+
+    long sum(int window, long nowMillis) {
+        return rings[window].sum(nowMillis);
+    }
+
+    /**
+     * @return true if nothing was counted within the longest window, which is last in the list
+     */
+    boolean idle(long nowMillis) {
+        return rings[rings.length - 1].sum(nowMillis) == 0;
+    }
+
+    private static final class Ring {
+
+        private final long widthMillis;
+        private final AtomicLongArray slots;
+
+        private Ring(long widthMillis, int buckets) {
+            this.widthMillis = widthMillis;
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        private void add(long nowMillis, long n) {
+            long tick = Math.floorDiv(nowMillis, widthMillis);
+            int i = (int) Math.floorMod(tick, slots.length());
+            long stamp = (tick & COUNT_MASK) << 32;
+
+            while (true) {
+                long current = slots.get(i);
+                long next = (current & ~COUNT_MASK) == stamp
+                        ? current + Math.min(n, COUNT_MASK - (current & COUNT_MASK))
+                        : stamp | Math.min(n, COUNT_MASK);
+                if (slots.compareAndSet(i, current, next)) return;
+            }
+        }
+
+        private long sum(long nowMillis) {
+            long tick = Math.floorDiv(nowMillis, widthMillis);
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long slot = slots.get(i);
+                long age = (tick - (slot >>> 32)) & COUNT_MASK;
+                if (age < slots.length()) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
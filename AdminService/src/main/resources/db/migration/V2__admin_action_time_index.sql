@@ -0,0 +1,2 @@
+-- unfiltered audit pages walk started_at directly; id breaks ties for keyset pagination
+CREATE INDEX ix_admin_action_time ON admin_action (started_at, id);
@@ -0,0 +1,94 @@
+-- admin_action becomes a RANGE-partitioned table on started_at with one partition per month.
+-- PostgreSQL requires the partition key in every unique constraint, so the primary key and the
+-- correlation uniqueness now include started_at.
+
+ALTER TABLE admin_action RENAME TO admin_action_legacy;
+ALTER INDEX admin_action_pkey RENAME TO admin_action_legacy_pkey;
+ALTER INDEX uq_admin_action_correlation RENAME TO uq_admin_action_legacy_correlation;
+ALTER INDEX ix_admin_action_actor_time RENAME TO ix_admin_action_legacy_actor_time;
+ALTER INDEX ix_admin_action_status_time RENAME TO ix_admin_action_legacy_status_time;
+ALTER INDEX ix_admin_action_type_time RENAME TO ix_admin_action_legacy_type_time;
+ALTER INDEX ix_admin_action_target RENAME TO ix_admin_action_legacy_target;
+ALTER INDEX ix_admin_action_time RENAME TO ix_admin_action_legacy_time;
+
+ALTER SEQUENCE admin_action_id_seq OWNED BY NONE;
+
+CREATE TABLE admin_action
+(
+    id             BIGINT       NOT NULL DEFAULT nextval('admin_action_id_seq'),
+
+    correlation_id UUID         NOT NULL,
+    action_type    VARCHAR(64)  NOT NULL,
+    status         VARCHAR(24)  NOT NULL,
+
+    actor_user_id  VARCHAR(64)  NOT NULL,
+    actor_roles    VARCHAR(255) NOT NULL,
+
+    target_type    VARCHAR(32)  NOT NULL,
+    target_id      VARCHAR(64),
+
+    started_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    finished_at    TIMESTAMPTZ,
+    duration_ms    BIGINT,
+
+    created_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (id, started_at)
+) PARTITION BY RANGE (started_at);
+
+CREATE UNIQUE INDEX uq_admin_action_correlation ON admin_action (correlation_id, started_at);
+CREATE INDEX ix_admin_action_actor_time ON admin_action (actor_user_id, started_at);
+CREATE INDEX ix_admin_action_status_time ON admin_action (status, started_at);
+CREATE INDEX ix_admin_action_type_time ON admin_action (action_type, started_at);
+CREATE INDEX ix_admin_action_target ON admin_action (target_type, target_id);
+CREATE INDEX ix_admin_action_time ON admin_action (started_at, id);
+
+-- catches rows outside every monthly partition instead of failing the insert;
+-- the maintenance job keeps it empty by creating partitions ahead of time
+CREATE TABLE admin_action_default PARTITION OF admin_action DEFAULT;
+
+DO
+$$
+    DECLARE
+        first_month DATE;
+        last_month  DATE := date_trunc('month', NOW() AT TIME ZONE 'UTC')::date + INTERVAL '3 months';
+        m           DATE;
+    BEGIN
+        SELECT COALESCE(date_trunc('month', MIN(started_at) AT TIME ZONE 'UTC')::date,
+                        date_trunc('month', NOW() AT TIME ZONE 'UTC')::date)
+        INTO first_month
+        FROM admin_action_legacy;
+
+        m := first_month;
+        WHILE m <= last_month
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF admin_action FOR VALUES FROM (%L) TO (%L)',
+                        'admin_action_p' || to_char(m, 'YYYYMM'),
+                        m::timestamp AT TIME ZONE 'UTC',
+                        (m + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+                m := (m + INTERVAL '1 month')::date;
+            END LOOP;
+    END
+$$;
+
+INSERT INTO admin_action
+SELECT id, correlation_id, action_type, status, actor_user_id, actor_roles,
+       target_type, target_id, started_at, finished_at, duration_ms, created_at
+FROM admin_action_legacy;
+
+DROP TABLE admin_action_legacy;
+
+ALTER SEQUENCE admin_action_id_seq OWNED BY admin_action.id;
+
+
+CREATE TABLE admin_action_daily
+(
+    day          DATE        NOT NULL,
+    action_type  VARCHAR(64) NOT NULL,
+    status       VARCHAR(24) NOT NULL,
+    action_count BIGINT      NOT NULL,
+    updated_at   TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (day, action_type, status)
+);
@@ -0,0 +1,2 @@
+-- true when the action reused a concurrent identical call instead of reaching the downstream itself
+ALTER TABLE admin_action ADD COLUMN coalesced BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,20 @@
+CREATE TABLE user_purge_job (
+    id               UUID         PRIMARY KEY,
+    user_id          VARCHAR(64)  NOT NULL,
+    author           VARCHAR(255) NOT NULL,
+    actor_user_id    VARCHAR(64),
+    phase            VARCHAR(16)  NOT NULL,
+    status           VARCHAR(16)  NOT NULL,
+    comment_cursor   VARCHAR(64),
+    posts_deleted    INT          NOT NULL DEFAULT 0,
+    posts_failed     INT          NOT NULL DEFAULT 0,
+    comments_deleted INT          NOT NULL DEFAULT 0,
+    comments_failed  INT          NOT NULL DEFAULT 0,
+    error            VARCHAR(512),
+    created_at       TIMESTAMPTZ  NOT NULL,
+    updated_at       TIMESTAMPTZ  NOT NULL,
+    finished_at      TIMESTAMPTZ
+);
+
+-- at most one unfinished purge per user; a second request resumes it instead
+CREATE UNIQUE INDEX ux_user_purge_job_running ON user_purge_job (user_id) WHERE status = 'RUNNING';
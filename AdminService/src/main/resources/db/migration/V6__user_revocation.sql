@@ -0,0 +1,12 @@
+-- users whose tokens AdminAuthFilter must reject; lifting a block expires the row instead of deleting it,
+-- so replicas syncing by updated_at see the change
+CREATE TABLE user_revocation (
+    user_id       VARCHAR(64)  PRIMARY KEY,
+    reason        VARCHAR(255),
+    actor_user_id VARCHAR(64),
+    revoked_at    TIMESTAMPTZ  NOT NULL,
+    expires_at    TIMESTAMPTZ,
+    updated_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX ix_user_revocation_updated ON user_revocation (updated_at);
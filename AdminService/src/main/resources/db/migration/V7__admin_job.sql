@@ -0,0 +1,24 @@
+CREATE TABLE admin_job (
+    id            UUID         PRIMARY KEY,
+    job_type      VARCHAR(32)  NOT NULL,
+    status        VARCHAR(16)  NOT NULL,
+    actor_user_id VARCHAR(64),
+    item_ids      TEXT[]       NOT NULL,
+    total         INT          NOT NULL,
+    processed     INT          NOT NULL DEFAULT 0,
+    succeeded     INT          NOT NULL DEFAULT 0,
+    failed        INT          NOT NULL DEFAULT 0,
+    error         VARCHAR(512),
+    created_at    TIMESTAMPTZ  NOT NULL,
+    started_at    TIMESTAMPTZ,
+    updated_at    TIMESTAMPTZ  NOT NULL,
+    finished_at   TIMESTAMPTZ
+);
+
+-- the heartbeat sweep looks for unfinished jobs whose owner stopped updating them
+CREATE INDEX ix_admin_job_unfinished ON admin_job (updated_at) WHERE status IN ('QUEUED', 'RUNNING');
+CREATE INDEX ix_admin_job_actor_time ON admin_job (actor_user_id, created_at);
+
+-- per-item audit entries written while a job ran; the job's own summary entry has correlation_id = job id
+ALTER TABLE admin_action ADD COLUMN job_id UUID;
+CREATE INDEX ix_admin_action_job ON admin_action (job_id) WHERE job_id IS NOT NULL;
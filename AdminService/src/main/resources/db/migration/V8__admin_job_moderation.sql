@@ -0,0 +1,9 @@
+-- moderation jobs select their items by criteria at run time instead of carrying an id list
+ALTER TABLE admin_job ALTER COLUMN item_ids DROP NOT NULL;
+
+ALTER TABLE admin_job
+    ADD COLUMN criteria_author  VARCHAR(256),
+    ADD COLUMN criteria_from    TIMESTAMPTZ,
+    ADD COLUMN criteria_to      TIMESTAMPTZ,
+    ADD COLUMN criteria_keyword VARCHAR(256),
+    ADD COLUMN dry_run          BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,160 @@
+-- Compact admin_action rows: action type, status and target type become smallint codes (the enums' code()),
+-- actor roles a bitmask (bit = Role ordinal: READER 1, PUBLISHER 2, ADMIN 4, none 0). finished_at and
+-- created_at are dropped: finished_at is started_at + duration_ms, and created_at was never read.
+-- Columns are ordered by alignment (8-byte, uuid, int, smallint, bool, varlena) so no padding is wasted.
+--
+-- Same procedure as V3: the old table and its partitions are renamed away, the new one is created with
+-- partitions for the same months, rows are converted in one pass and the old table is dropped.
+-- Detached admin_action_archive_* tables keep the old layout.
+
+CREATE FUNCTION pg_temp.action_type_code(value TEXT) RETURNS SMALLINT
+    LANGUAGE sql IMMUTABLE STRICT AS
+$$
+SELECT CASE value
+           WHEN 'ASSIGN_ROLE' THEN 1
+           WHEN 'LIST_USERS' THEN 2
+           WHEN 'DELETE_USER' THEN 3
+           WHEN 'DELETE_COMMENT' THEN 4
+           WHEN 'DELETE_POST' THEN 5
+           WHEN 'PURGE_USER' THEN 6
+           WHEN 'BLOCK_USER' THEN 7
+           WHEN 'UNBLOCK_USER' THEN 8
+           WHEN 'RUN_JOB' THEN 9
+           END::SMALLINT
+$$;
+
+CREATE FUNCTION pg_temp.status_code(value TEXT) RETURNS SMALLINT
+    LANGUAGE sql IMMUTABLE STRICT AS
+$$
+SELECT CASE value WHEN 'SUCCESS' THEN 1 WHEN 'FAILED' THEN 2 END::SMALLINT
+$$;
+
+CREATE FUNCTION pg_temp.target_type_code(value TEXT) RETURNS SMALLINT
+    LANGUAGE sql IMMUTABLE STRICT AS
+$$
+SELECT CASE value WHEN 'USER' THEN 1 WHEN 'COMMENT' THEN 2 WHEN 'POST' THEN 3 WHEN 'JOB' THEN 4 END::SMALLINT
+$$;
+
+-- actor_roles held the comma-joined authorities, or UNKNOWN
+CREATE FUNCTION pg_temp.role_mask(value TEXT) RETURNS SMALLINT
+    LANGUAGE sql IMMUTABLE STRICT AS
+$$
+SELECT ((CASE WHEN 'ROLE_READER' = ANY (string_to_array(value, ',')) THEN 1 ELSE 0 END)
+    | (CASE WHEN 'ROLE_PUBLISHER' = ANY (string_to_array(value, ',')) THEN 2 ELSE 0 END)
+    | (CASE WHEN 'ROLE_ADMIN' = ANY (string_to_array(value, ',')) THEN 4 ELSE 0 END))::SMALLINT
+$$;
+
+
+ALTER TABLE admin_action RENAME TO admin_action_legacy;
+ALTER SEQUENCE admin_action_id_seq OWNED BY NONE;
+
+-- partition and index names of the old table would collide with those of the new one
+DO
+$$
+    DECLARE
+        r RECORD;
+    BEGIN
+        FOR r IN
+            SELECT c.relname
+            FROM pg_inherits i
+                     JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'admin_action_legacy'::regclass
+            LOOP
+                EXECUTE format('ALTER TABLE %I RENAME TO %I', r.relname, r.relname || '_legacy');
+            END LOOP;
+
+        FOR r IN
+            SELECT ix.indexrelid::regclass::text AS name, ix.indexrelid AS oid
+            FROM pg_index ix
+            WHERE ix.indrelid = 'admin_action_legacy'::regclass
+               OR ix.indrelid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = 'admin_action_legacy'::regclass)
+            LOOP
+                EXECUTE format('ALTER INDEX %s RENAME TO %I', r.name, 'admin_action_legacy_idx_' || r.oid);
+            END LOOP;
+    END
+$$;
+
+CREATE TABLE admin_action
+(
+    id             BIGINT      NOT NULL DEFAULT nextval('admin_action_id_seq'),
+    started_at     TIMESTAMPTZ NOT NULL,
+
+    correlation_id UUID        NOT NULL,
+    job_id         UUID,
+
+    duration_ms    INT,
+
+    action_type    SMALLINT    NOT NULL,
+    status         SMALLINT    NOT NULL,
+    target_type    SMALLINT    NOT NULL,
+    actor_roles    SMALLINT    NOT NULL,
+
+    coalesced      BOOLEAN     NOT NULL DEFAULT FALSE,
+
+    actor_user_id  VARCHAR(64) NOT NULL,
+    target_id      VARCHAR(64),
+
+    PRIMARY KEY (id, started_at)
+) PARTITION BY RANGE (started_at);
+
+CREATE UNIQUE INDEX uq_admin_action_correlation ON admin_action (correlation_id, started_at);
+CREATE INDEX ix_admin_action_actor_time ON admin_action (actor_user_id, started_at);
+CREATE INDEX ix_admin_action_status_time ON admin_action (status, started_at);
+CREATE INDEX ix_admin_action_type_time ON admin_action (action_type, started_at);
+CREATE INDEX ix_admin_action_target ON admin_action (target_type, target_id);
+CREATE INDEX ix_admin_action_time ON admin_action (started_at, id);
+CREATE INDEX ix_admin_action_job ON admin_action (job_id) WHERE job_id IS NOT NULL;
+
+CREATE TABLE admin_action_default PARTITION OF admin_action DEFAULT;
+
+DO
+$$
+    DECLARE
+        first_month DATE;
+        last_month  DATE := date_trunc('month', NOW() AT TIME ZONE 'UTC')::date + INTERVAL '3 months';
+        m           DATE;
+    BEGIN
+        SELECT LEAST(date_trunc('month', MIN(started_at) AT TIME ZONE 'UTC')::date,
+                     date_trunc('month', NOW() AT TIME ZONE 'UTC')::date)
+        INTO first_month
+        FROM admin_action_legacy;
+
+        m := COALESCE(first_month, date_trunc('month', NOW() AT TIME ZONE 'UTC')::date);
+        WHILE m <= last_month
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF admin_action FOR VALUES FROM (%L) TO (%L)',
+                        'admin_action_p' || to_char(m, 'YYYYMM'),
+                        m::timestamp AT TIME ZONE 'UTC',
+                        (m + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+                m := (m + INTERVAL '1 month')::date;
+            END LOOP;
+    END
+$$;
+
+-- an unknown name yields NULL and fails the NOT NULL constraint instead of being stored as a wrong code
+INSERT INTO admin_action (id, started_at, correlation_id, job_id, duration_ms,
+                          action_type, status, target_type, actor_roles,
+                          coalesced, actor_user_id, target_id)
+SELECT id,
+       started_at,
+       correlation_id,
+       job_id,
+       LEAST(duration_ms, 2147483647)::INT,
+       pg_temp.action_type_code(action_type),
+       pg_temp.status_code(status),
+       pg_temp.target_type_code(target_type),
+       pg_temp.role_mask(actor_roles),
+       coalesced,
+       actor_user_id,
+       target_id
+FROM admin_action_legacy;
+
+DROP TABLE admin_action_legacy;
+
+ALTER SEQUENCE admin_action_id_seq OWNED BY admin_action.id;
+
+
+ALTER TABLE admin_action_daily
+    ALTER COLUMN action_type TYPE SMALLINT USING pg_temp.action_type_code(action_type),
+    ALTER COLUMN status TYPE SMALLINT USING pg_temp.status_code(status);
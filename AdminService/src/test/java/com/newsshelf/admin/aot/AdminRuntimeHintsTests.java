@@ -0,0 +1,30 @@
+package com.newsshelf.admin.aot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminRuntimeHintsTests {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersJjwtReflectiveTypes() {
+        new AdminRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Deserializer")).accepts(hints);
+    }
+
+    @Test
+    void jjwtTypesExistOnTheRuntimeClasspath() throws Exception {
+        for (String type : AdminRuntimeHints.JJWT_TYPES) {
+            Class.forName(type, false, getClass().getClassLoader());
+        }
+    }
+}
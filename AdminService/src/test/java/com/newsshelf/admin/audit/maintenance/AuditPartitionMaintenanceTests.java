@@ -0,0 +1,66 @@
+package com.newsshelf.admin.audit.maintenance;
+
+import com.newsshelf.admin.audit.repository.AuditPartitionRepository;
+import com.newsshelf.admin.audit.repository.AuditRollupRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuditPartitionMaintenanceTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T03:15:00Z"), ZoneOffset.UTC);
+
+    private final AuditPartitionRepository partitions = mock(AuditPartitionRepository.class);
+    private final AuditRollupRepository rollups = mock(AuditRollupRepository.class);
+
+    @Test
+    void precreatesAheadRollsUpAndDropsExpiredPartitions() {
+        when(partitions.tryLock(anyLong())).thenReturn(true);
+        when(partitions.existingPartitions()).thenReturn(List.of(
+                YearMonth.of(2025, 10), YearMonth.of(2025, 11), YearMonth.of(2026, 10)));
+
+        new AuditPartitionMaintenance(partitions, rollups, 2, 12, ExpiredPartitionMode.DROP, 2, CLOCK).run();
+
+        verify(partitions).createPartition(YearMonth.of(2026, 10));
+        verify(partitions).createPartition(YearMonth.of(2026, 11));
+        verify(partitions).createPartition(YearMonth.of(2026, 12));
+        verify(rollups).rollup(LocalDate.of(2026, 10, 16), LocalDate.of(2026, 10, 19));
+        verify(partitions).dropPartition(YearMonth.of(2025, 10));
+        verify(partitions, never()).dropPartition(YearMonth.of(2025, 11));
+        verify(partitions, never()).archivePartition(any());
+    }
+
+    @Test
+    void archiveModeDetachesInsteadOfDropping() {
+        when(partitions.tryLock(anyLong())).thenReturn(true);
+        when(partitions.existingPartitions()).thenReturn(List.of(YearMonth.of(2024, 1)));
+
+        new AuditPartitionMaintenance(partitions, rollups, 0, 12, ExpiredPartitionMode.ARCHIVE, 2, CLOCK).run();
+
+        verify(partitions).archivePartition(YearMonth.of(2024, 1));
+        verify(partitions, never()).dropPartition(any());
+    }
+
+    @Test
+    void skipsWhenAnotherReplicaHoldsTheLock() {
+        when(partitions.tryLock(anyLong())).thenReturn(false);
+
+        new AuditPartitionMaintenance(partitions, rollups, 3, 12, ExpiredPartitionMode.DROP, 2, CLOCK).run();
+
+        verify(partitions, never()).createPartition(any());
+        verifyNoInteractions(rollups);
+    }
+}
@@ -0,0 +1,31 @@
+package com.newsshelf.admin.audit.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditCodesTests {
+
+    @Test
+    void everyConstantRoundTripsThroughItsCode() {
+        for (ActionType type : ActionType.values()) assertThat(ActionType.fromCode(type.code())).isSameAs(type);
+        for (ActionStatus status : ActionStatus.values()) assertThat(ActionStatus.fromCode(status.code())).isSameAs(status);
+        for (TargetType type : TargetType.values()) assertThat(TargetType.fromCode(type.code())).isSameAs(type);
+    }
+
+    @Test
+    void storedCodesMatchTheMigration() {
+        // V9 converted existing rows with these numbers; changing one would relabel stored history
+        assertThat(ActionType.ASSIGN_ROLE.code()).isEqualTo((short) 1);
+        assertThat(ActionType.RUN_JOB.code()).isEqualTo((short) 9);
+        assertThat(ActionStatus.FAILED.code()).isEqualTo((short) 2);
+        assertThat(TargetType.JOB.code()).isEqualTo((short) 4);
+    }
+
+    @Test
+    void unknownCodeIsRejected() {
+        assertThatThrownBy(() -> ActionType.fromCode(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TargetType.fromCode(99)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.newsshelf.admin.audit.query;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditCursorTests {
+
+    @Test
+    void roundTripsAtMicrosecondPrecision() {
+        var cursor = new AuditCursor(Instant.parse("2026-10-18T03:15:42.123456Z"), 987_654_321L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(AuditCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(AuditCursor.decode(null)).isNull();
+        assertThat(AuditCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedAndTamperedCursors() {
+        String valid = new AuditCursor(Instant.parse("2026-10-18T03:15:42Z"), 42).encode();
+
+        for (String cursor : new String[] {
+                "not base64!",
+                encode("1792300542000000"),
+                encode("1792300542000000:forty-two"),
+                encode("yesterday:42"),
+                encode("1792300542000000:42:7"),
+                valid.substring(0, valid.length() - 3) + "%%%"
+        }) {
+            assertThatThrownBy(() -> AuditCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode().value()).isEqualTo(400));
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
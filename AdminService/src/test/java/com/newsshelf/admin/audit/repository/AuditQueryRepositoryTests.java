@@ -0,0 +1,76 @@
+package com.newsshelf.admin.audit.repository;
+
+import com.newsshelf.admin.audit.query.AuditCursor;
+import com.newsshelf.admin.audit.query.AuditQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditQueryRepositoryTests {
+
+    private static final AuditQuery ALL = new AuditQuery(null, null, null, null, null, null, null, null);
+
+    private final NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    private final AuditQueryRepository repository;
+
+    AuditQueryRepositoryTests() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+        repository = new AuditQueryRepository(jdbc, jdbcTemplate);
+    }
+
+    @Test
+    void firstPageHasNoKeysetBound() {
+        repository.findPage(ALL, null, 51);
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc).query(sql.capture(), params.capture(), any(RowMapper.class));
+
+        assertThat(sql.getValue()).doesNotContain(":afterTs").endsWith("ORDER BY started_at DESC, id DESC LIMIT :limit");
+        assertThat(params.getValue().getValue("limit")).isEqualTo(51);
+    }
+
+    @Test
+    void rowsTiedOnStartedAtContinueBelowTheCursorId() {
+        Instant startedAt = Instant.parse("2026-10-18T03:15:42.123456Z");
+
+        repository.findPage(ALL, new AuditCursor(startedAt, 42), 51);
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc).query(sql.capture(), params.capture(), any(RowMapper.class));
+
+        // (started_at, id) < (:afterTs, :afterId): a row at the same instant qualifies only with a lower id
+        assertThat(sql.getValue())
+                .contains("started_at <= :afterTs AND (started_at < :afterTs OR id < :afterId)")
+                .endsWith("ORDER BY started_at DESC, id DESC LIMIT :limit");
+        assertThat(params.getValue().getValue("afterTs")).isEqualTo(Timestamp.from(startedAt));
+        assertThat(params.getValue().getValue("afterId")).isEqualTo(42L);
+    }
+
+    @Test
+    void filtersAreBoundAsParameters() {
+        repository.findPage(new AuditQuery("u-1' OR 1=1 --", null, null, null, null, null, null, null), null, 10);
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc).query(sql.capture(), params.capture(), any(RowMapper.class));
+
+        assertThat(sql.getValue()).contains("actor_user_id = :actor").doesNotContain("OR 1=1");
+        assertThat(params.getValue().getValue("actor")).isEqualTo("u-1' OR 1=1 --");
+    }
+}
@@ -0,0 +1,128 @@
+package com.newsshelf.admin.audit.service;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.AuditRecord;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.writer.AuditWriter;
+import com.newsshelf.admin.stats.AdminStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DefaultAdminActionServiceTests {
+
+    private final AuditWriter writer = mock(AuditWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DefaultAdminActionService service =
+            new DefaultAdminActionService(writer, meterRegistry, ObservationRegistry.NOOP,
+                    new AdminStats(new MockEnvironment()));
+
+    @Test
+    void logRecordsDurationAndTimer() {
+        Instant startedAt = Instant.now().minusMillis(250);
+
+        service.log(ActionType.DELETE_POST, TargetType.POST, "7", ActionStatus.SUCCESS, startedAt);
+
+        var captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(writer).submit(captor.capture());
+        AuditRecord record = captor.getValue();
+        assertThat(record.startedAt().toInstant()).isEqualTo(startedAt);
+        assertThat(record.durationMs()).isGreaterThanOrEqualTo(250);
+
+        var timer = meterRegistry.get("admin.action")
+                .tag("action", "DELETE_POST").tag("outcome", "SUCCESS").tag("bulk", "false").timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void logAllTagsPartialOutcomeAndCountsItems() {
+        Map<String, ActionStatus> statuses = new LinkedHashMap<>();
+        statuses.put("1", ActionStatus.SUCCESS);
+        statuses.put("2", ActionStatus.FAILED);
+        statuses.put("3", ActionStatus.SUCCESS);
+
+        service.logAll(ActionType.DELETE_USER, TargetType.USER, statuses, Instant.now());
+
+        ArgumentCaptor<List<AuditRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).submitAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3).allSatisfy(r -> assertThat(r.durationMs()).isNotNull());
+
+        assertThat(meterRegistry.get("admin.action").tag("outcome", "PARTIAL").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("admin.action.items").tag("outcome", "SUCCESS").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("admin.action.items").tag("outcome", "FAILED").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void entriesWrittenInsideAJobCarryItsId() {
+        UUID jobId = UUID.randomUUID();
+
+        AuditJobContext.callInJob(jobId, () -> {
+            service.logAll(ActionType.DELETE_POST, TargetType.POST, Map.of("1", ActionStatus.SUCCESS), Instant.now());
+            return null;
+        });
+        service.log(ActionType.DELETE_POST, TargetType.POST, "2", ActionStatus.SUCCESS, Instant.now());
+
+        ArgumentCaptor<List<AuditRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(writer).submitAll(batch.capture());
+        assertThat(batch.getValue()).singleElement().satisfies(r -> assertThat(r.jobId()).isEqualTo(jobId));
+
+        var single = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(writer).submit(single.capture());
+        assertThat(single.getValue().jobId()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void requestIdCorrelatesOnlyTheFirstEntryOfTheRequest() {
+        UUID requestId = UUID.randomUUID();
+
+        AuditRequestContext.bind(requestId);
+        try {
+            service.logAll(ActionType.DELETE_POST, TargetType.POST,
+                    Map.of("1", ActionStatus.SUCCESS, "2", ActionStatus.SUCCESS), Instant.now());
+            service.log(ActionType.DELETE_POST, TargetType.POST, "3", ActionStatus.SUCCESS, Instant.now());
+        } finally {
+            AuditRequestContext.clear();
+        }
+
+        ArgumentCaptor<List<AuditRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(writer).submitAll(batch.capture());
+        var single = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(writer).submit(single.capture());
+
+        List<UUID> ids = batch.getValue().stream().map(AuditRecord::correlationId).toList();
+        assertThat(ids.getFirst()).isEqualTo(requestId);
+        assertThat(ids.get(1)).isNotEqualTo(requestId);
+        assertThat(ids.get(1).version()).isEqualTo(7);
+        assertThat(single.getValue().correlationId()).isNotIn(ids).extracting(UUID::version).isEqualTo(7);
+    }
+
+    @Test
+    void jobSummaryIsCorrelatedByJobId() {
+        UUID jobId = UUID.randomUUID();
+
+        service.logJob(jobId, ActionStatus.SUCCESS, Instant.now());
+
+        var captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(writer).submit(captor.capture());
+        assertThat(captor.getValue().correlationId()).isEqualTo(jobId);
+        assertThat(captor.getValue().jobId()).isEqualTo(jobId);
+        assertThat(captor.getValue().actionType()).isEqualTo(ActionType.RUN_JOB);
+        assertThat(captor.getValue().targetId()).isEqualTo(jobId.toString());
+    }
+}
@@ -0,0 +1,120 @@
+package com.newsshelf.admin.audit.service;
+
+import com.newsshelf.admin.audit.query.AuditCursor;
+import com.newsshelf.admin.audit.query.AuditQuery;
+import com.newsshelf.admin.audit.repository.AuditQueryRepository;
+import com.newsshelf.admin.audit.repository.AuditRollupRepository;
+import com.newsshelf.admin.audit.service.AuditQueryService.ExportFormat;
+import com.newsshelf.admin.dto.response.AuditPageResponse.AuditEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultAuditQueryServiceTests {
+
+    private static final AuditQuery ALL = new AuditQuery(null, null, null, null, null, null, null, null);
+    private static final OffsetDateTime AT = OffsetDateTime.parse("2026-10-18T03:15:42.123456Z");
+
+    private final AuditQueryRepository repository = mock(AuditQueryRepository.class);
+    private final DefaultAuditQueryService service = new DefaultAuditQueryService(
+            repository, mock(AuditRollupRepository.class), JsonMapper.builder().build());
+
+    @Test
+    void pagesThroughRowsTiedOnStartedAtWithoutGapsOrRepeats() {
+        // five rows share one instant; the keyset below mirrors the repository's (started_at, id) < cursor
+        List<AuditEntry> rows = List.of(
+                entry(9, AT.plusSeconds(1), "a"),
+                entry(8, AT, "b"), entry(7, AT, "c"), entry(5, AT, "d"), entry(4, AT, "e"), entry(3, AT, "f"),
+                entry(6, AT.minusSeconds(1), "g"));
+        when(repository.findPage(any(), any(), anyInt())).thenAnswer(inv -> {
+            AuditCursor after = inv.getArgument(1);
+            int limit = inv.getArgument(2);
+            return rows.stream()
+                    .sorted(Comparator.comparing(AuditEntry::startedAt).thenComparingLong(AuditEntry::id).reversed())
+                    .filter(e -> after == null || isBefore(e, after))
+                    .limit(limit)
+                    .toList();
+        });
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var page = service.find(ALL, cursor, 2);
+            page.items().forEach(e -> seen.add(e.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(9L, 8L, 7L, 5L, 4L, 3L, 6L);
+    }
+
+    @Test
+    void nextCursorPointsAtTheLastRowOfThePage() {
+        when(repository.findPage(any(), any(), anyInt())).thenReturn(List.of(
+                entry(8, AT, "a"), entry(7, AT, "b"), entry(5, AT, "c")));
+
+        var page = service.find(ALL, null, 2);
+
+        assertThat(page.items()).extracting(AuditEntry::id).containsExactly(8L, 7L);
+        assertThat(AuditCursor.decode(page.nextCursor())).isEqualTo(new AuditCursor(AT.toInstant(), 7));
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() {
+        assertThatThrownBy(() -> service.find(ALL, "bm90LWEtY3Vyc29y", 10))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode().value()).isEqualTo(400));
+    }
+
+    @Test
+    void csvExportQuotesCommasQuotesAndLineBreaks() {
+        doAnswer(inv -> {
+            Consumer<AuditEntry> sink = inv.getArgument(1);
+            sink.accept(entry(1, AT, "plain"));
+            sink.accept(entry(2, AT, "a,b"));
+            sink.accept(entry(3, AT, "say \"hi\""));
+            sink.accept(entry(4, AT, "line\nbreak"));
+            sink.accept(entry(5, AT, "carriage\rreturn"));
+            return null;
+        }).when(repository).stream(any(), any());
+        var out = new ByteArrayOutputStream();
+
+        long rows = service.export(ALL, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(5);
+        assertThat(csv).startsWith("id,correlation_id,action_type,");
+        assertThat(csv)
+                .contains(",POST,plain," + AT + ",")
+                .contains(",POST,\"a,b\"," + AT + ",")
+                .contains(",POST,\"say \"\"hi\"\"\"," + AT + ",")
+                .contains(",POST,\"line\nbreak\"," + AT + ",")
+                .contains(",POST,\"carriage\rreturn\"," + AT + ",");
+    }
+
+    private static boolean isBefore(AuditEntry e, AuditCursor after) {
+        int byTime = e.startedAt().toInstant().compareTo(after.startedAt());
+        return byTime < 0 || byTime == 0 && e.id() < after.id();
+    }
+
+    private static AuditEntry entry(long id, OffsetDateTime startedAt, String targetId) {
+        return new AuditEntry(id, UUID.randomUUID(), "DELETE_POST", "SUCCESS", "admin-1", "ROLE_ADMIN",
+                "POST", targetId, startedAt, null, null, false, null);
+    }
+}
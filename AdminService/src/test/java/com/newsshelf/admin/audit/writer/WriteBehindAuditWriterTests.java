@@ -0,0 +1,174 @@
+package com.newsshelf.admin.audit.writer;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.AuditRecord;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.repository.AuditRecordRepository;
+import com.newsshelf.admin.security.role.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindAuditWriterTests {
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    void groupsRecordsIntoBatchesAndDrainsOnStop() {
+        var repository = new RecordingRepository(false);
+        var writer = writer(repository, OverflowPolicy.DROP, 1000);
+
+        writer.start();
+        for (int i = 0; i < 250; i++) writer.submit(record());
+        writer.stop();
+
+        assertThat(repository.batches.stream().mapToInt(List::size).sum()).isEqualTo(250);
+        assertThat(repository.batches).allSatisfy(b -> assertThat(b.size()).isLessThanOrEqualTo(100));
+        assertThat(repository.batches.size()).isLessThan(250);
+    }
+
+    @Test
+    void failedBatchIsSpilledAndReplayedLater() {
+        var repository = new RecordingRepository(true);
+        var writer = writer(repository, OverflowPolicy.SPILL, 1000);
+
+        writer.start();
+        for (int i = 0; i < 10; i++) writer.submit(record());
+        writer.stop();
+
+        assertThat(repository.batches).isEmpty();
+        assertThat(spillDir.resolve("admin-action-spill.ndjson")).exists();
+
+        repository.failing = false;
+        writer.start();
+        try {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (repository.batches.stream().mapToInt(List::size).sum() < 10
+                    && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            writer.stop();
+        }
+
+        assertThat(repository.batches.stream().mapToInt(List::size).sum()).isEqualTo(10);
+    }
+
+    @Test
+    void rejectedRecordIsIsolatedInsteadOfFailingItsBatch() {
+        var repository = new RecordingRepository(false);
+        var writer = writer(repository, OverflowPolicy.SPILL, 1000);
+        AuditRecord poisoned = record("bad");
+
+        writer.start();
+        for (int i = 0; i < 4; i++) writer.submit(record());
+        writer.submit(poisoned);
+        writer.stop();
+
+        assertThat(repository.batches.stream().flatMap(List::stream).toList())
+                .hasSize(4)
+                .doesNotContain(poisoned);
+        // a record the database refuses would fail every replay, so it is not spilled
+        assertThat(spillDir.resolve("admin-action-spill.ndjson")).doesNotExist();
+    }
+
+    @Test
+    void droppedRecordsAreCountedAndReportedInOneSummary() throws Exception {
+        var repository = new RecordingRepository(false);
+        var meterRegistry = new SimpleMeterRegistry();
+        var writer = writer(repository, OverflowPolicy.DROP, 5, meterRegistry);
+        repository.stalled = new CountDownLatch(1);
+
+        writer.start();
+        writer.submit(record());
+        assertThat(repository.inserting.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 200; i++) writer.submit(record());
+
+        assertThat(meterRegistry.get("admin.audit.dropped").counter().count()).isEqualTo(195);
+        assertThat(writer.unreportedDrops()).isEqualTo(195);
+
+        repository.stalled.countDown();
+        writer.stop();
+
+        assertThat(writer.unreportedDrops()).isZero();
+        assertThat(repository.batches.stream().mapToInt(List::size).sum()).isEqualTo(6);
+    }
+
+    private WriteBehindAuditWriter writer(AuditRecordRepository repository, OverflowPolicy policy, int capacity) {
+        return writer(repository, policy, capacity, new SimpleMeterRegistry());
+    }
+
+    private WriteBehindAuditWriter writer(AuditRecordRepository repository, OverflowPolicy policy, int capacity,
+                                          SimpleMeterRegistry meterRegistry) {
+        return new WriteBehindAuditWriter(
+                repository,
+                JsonMapper.builder().build(),
+                meterRegistry,
+                capacity,
+                100,
+                Duration.ofMillis(20),
+                policy,
+                Duration.ofMillis(100),
+                Duration.ofSeconds(5),
+                spillDir,
+                true
+        );
+    }
+
+    private static AuditRecord record() {
+        return record("42");
+    }
+
+    private static AuditRecord record(String targetId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new AuditRecord(UUID.randomUUID(), ActionType.DELETE_POST, ActionStatus.SUCCESS,
+                "actor", Set.of(Role.ADMIN), TargetType.POST, targetId, now, now, null, false, null);
+    }
+
+    private static final class RecordingRepository extends AuditRecordRepository {
+
+        private final List<List<AuditRecord>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile CountDownLatch stalled;
+        private final CountDownLatch inserting = new CountDownLatch(1);
+
+        RecordingRepository(boolean failing) {
+            super(null);
+            this.failing = failing;
+        }
+
+        @Override
+        public void insertBatch(List<AuditRecord> records) {
+            CountDownLatch latch = stalled;
+            if (latch != null) {
+                inserting.countDown();
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failing) throw new IllegalStateException("database down");
+            if (records.stream().anyMatch(r -> "bad".equals(r.targetId()))) {
+                throw new DataIntegrityViolationException("value too long for type character varying(64)");
+            }
+            batches.add(List.copyOf(records));
+        }
+    }
+}
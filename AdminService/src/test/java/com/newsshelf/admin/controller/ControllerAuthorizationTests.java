@@ -0,0 +1,118 @@
+package com.newsshelf.admin.controller;
+
+import com.newsshelf.admin.audit.service.AuditQueryService;
+import com.newsshelf.admin.dto.request.PurgeUserRequest;
+import com.newsshelf.admin.purge.model.PurgeJob;
+import com.newsshelf.admin.purge.service.UserPurgeService;
+import com.newsshelf.admin.stats.AdminStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Admin-only controllers also answer under /api/admin and /api/v1/admin, so they check the role themselves
+ * instead of relying on URL rules alone.
+ */
+class ControllerAuthorizationTests {
+
+    private static final PurgeUserRequest REQUEST = new PurgeUserRequest("Ірина Мельник");
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(MethodSecurity.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Test
+    void auditIsDeniedToNonAdmins() {
+        var controller = context.getBean(AuditController.class);
+
+        signIn("ROLE_PUBLISHER", "ROLE_READER");
+        assertThatThrownBy(() -> controller.daily(LocalDate.now(), LocalDate.now()))
+                .isInstanceOf(AccessDeniedException.class);
+
+        signIn("ROLE_ADMIN");
+        assertThat(controller.daily(LocalDate.now(), LocalDate.now()).getStatusCode().is2xxSuccessful()).isTrue();
+    }
+
+    @Test
+    void statsAreDeniedToNonAdmins() {
+        var controller = context.getBean(StatsController.class);
+
+        signIn("ROLE_PUBLISHER");
+        assertThatThrownBy(() -> controller.stats(null, 10)).isInstanceOf(AccessDeniedException.class);
+
+        signIn("ROLE_ADMIN");
+        assertThat(controller.stats(null, 10).getBody()).isNotNull();
+    }
+
+    @Test
+    void purgeIsDeniedToNonAdminsAtControllerAndService() {
+        var controller = context.getBean(PurgeController.class);
+        var service = context.getBean(UserPurgeService.class);
+        UserPurgeService target = AopTestUtils.getUltimateTargetObject(service);
+
+        signIn("ROLE_PUBLISHER", "ROLE_READER");
+        assertThatThrownBy(() -> controller.purgeUser("u-2", REQUEST)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> service.start("u-2", "Ірина Мельник")).isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(target);
+
+        signIn("ROLE_ADMIN");
+        when(target.start("u-2", "Ірина Мельник")).thenReturn(PurgeJob.start("u-2", "Ірина Мельник", "u-1", OffsetDateTime.now()));
+        assertThat(controller.purgeUser("u-2", REQUEST).getStatusCode().value()).isEqualTo(202);
+    }
+
+    private static void signIn(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("u-1", null, authorities));
+    }
+
+    @Configuration
+    @EnableMethodSecurity
+    static class MethodSecurity {
+
+        @Bean
+        AuditController auditController() {
+            return new AuditController(mock(AuditQueryService.class));
+        }
+
+        @Bean
+        UserPurgeService purgeTarget() {
+            return mock(UserPurgeService.class);
+        }
+
+        @Bean
+        PurgeController purgeController(UserPurgeService purgeTarget) {
+            return new PurgeController(purgeTarget);
+        }
+
+        @Bean
+        StatsController statsController() {
+            return new StatsController(new AdminStats(new MockEnvironment()));
+        }
+    }
+}
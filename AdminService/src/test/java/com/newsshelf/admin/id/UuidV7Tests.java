@@ -0,0 +1,42 @@
+package com.newsshelf.admin.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Tests {
+
+    @Test
+    void carriesVersionVariantAndTimestamp() {
+        long millis = Instant.parse("2026-03-01T12:00:00.123Z").toEpochMilli();
+
+        UUID uuid = UuidV7.at(millis, new SplittableRandom(1));
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).startsWith(String.format("%08x-%04x-7", millis >>> 16, millis & 0xFFFF));
+        assertThat(UuidV7.timestamp(uuid)).isEqualTo(Instant.ofEpochMilli(millis));
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void laterMillisecondsSortAfterEarlierOnes() {
+        var random = new SplittableRandom(7);
+        List<UUID> ids = new ArrayList<>();
+        for (long millis = 1_700_000_000_000L; millis < 1_700_000_000_200L; millis++) {
+            ids.add(UuidV7.at(millis, random));
+        }
+
+        // both the unsigned byte order Postgres compares uuids in and the canonical string order
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compareUnsigned(
+                a.getMostSignificantBits(), b.getMostSignificantBits()));
+        assertThat(ids.stream().map(UUID::toString).toList()).isSorted();
+    }
+}
@@ -0,0 +1,284 @@
+package com.newsshelf.admin.job.service;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse.ItemResult;
+import com.newsshelf.admin.job.model.AdminJob;
+import com.newsshelf.admin.job.model.JobStatus;
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.job.repository.AdminJobRepository;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import com.newsshelf.admin.moderation.service.ModerationContentClient;
+import com.newsshelf.admin.moderation.service.ModerationContentClient.CommentScan;
+import com.newsshelf.admin.moderation.service.ModerationScanner;
+import com.newsshelf.admin.security.principal.AdminAuthenticationToken;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.token.AuthPayload;
+import com.newsshelf.admin.service.comment.CommentAdminService;
+import com.newsshelf.admin.service.post.PostAdminService;
+import com.newsshelf.admin.service.user.UserAdminService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultAdminJobServiceTests {
+
+    private final AdminJobRepository repository = mock(AdminJobRepository.class);
+    private final UserAdminService users = mock(UserAdminService.class);
+    private final PostAdminService posts = mock(PostAdminService.class);
+    private final CommentAdminService comments = mock(CommentAdminService.class);
+    private final AdminActionService audit = mock(AdminActionService.class);
+    private final ModerationContentClient content = mock(ModerationContentClient.class);
+
+    @TempDir
+    Path spoolDir;
+
+    private final Map<UUID, AdminJob> jobs = new ConcurrentHashMap<>();
+    private final Map<UUID, List<String>> items = new ConcurrentHashMap<>();
+
+    private DefaultAdminJobService service;
+
+    @BeforeEach
+    void setUp() {
+        authenticate("admin-1", Role.ADMIN);
+
+        when(repository.findById(any())).thenAnswer(inv -> Optional.ofNullable(jobs.get(inv.<UUID>getArgument(0))));
+        doAnswer(inv -> {
+            AdminJob job = inv.getArgument(0);
+            jobs.put(job.id(), job);
+            if (inv.getArgument(1) != null) items.put(job.id(), inv.getArgument(1));
+            return null;
+        }).when(repository).insert(any(), any());
+        when(repository.findItems(any(), anyInt(), anyInt())).thenAnswer(inv -> {
+            List<String> all = items.get(inv.<UUID>getArgument(0));
+            int from = inv.getArgument(1);
+            return all.subList(Math.min(from, all.size()), Math.min(from + inv.<Integer>getArgument(2), all.size()));
+        });
+        when(repository.start(any(), any())).thenReturn(true);
+        when(repository.checkpoint(any())).thenReturn(true);
+        when(repository.finish(any())).thenReturn(true);
+
+        when(posts.deletePosts(anyList())).thenAnswer(inv -> allOk(inv.getArgument(0)));
+        when(comments.deleteComments(anyList())).thenAnswer(inv -> allOk(inv.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void submitReturnsQueuedJobAndProcessesItemsInChunks() {
+        service = newService(1, 10, 2);
+
+        AdminJob job = service.submit(JobType.DELETE_POSTS, List.of("p1", "p2", "p2", "p3", "p4", "p5"));
+
+        assertThat(job.status()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.total()).isEqualTo(5);
+        assertThat(job.actorUserId()).isEqualTo("admin-1");
+
+        verify(audit, timeout(5000)).logJob(job.id(), ActionStatus.SUCCESS, job.createdAt().toInstant());
+        verify(posts).deletePosts(List.of("p1", "p2"));
+        verify(posts).deletePosts(List.of("p3", "p4"));
+        verify(posts).deletePosts(List.of("p5"));
+        verify(repository, times(3)).checkpoint(any());
+
+        var finished = ArgumentCaptor.forClass(AdminJob.class);
+        verify(repository).finish(finished.capture());
+        assertThat(finished.getValue().status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(finished.getValue().processed()).isEqualTo(5);
+        assertThat(finished.getValue().succeeded()).isEqualTo(5);
+    }
+
+    @Test
+    void cancelledJobStopsAtItsNextCheckpointWithoutSummary() {
+        service = newService(1, 10, 2);
+        when(repository.checkpoint(any())).thenReturn(false);
+
+        AdminJob job = service.submit(JobType.DELETE_POSTS, List.of("p1", "p2", "p3", "p4"));
+
+        verify(posts, timeout(5000)).deletePosts(List.of("p1", "p2"));
+        verify(posts, after(200).times(1)).deletePosts(anyList());
+        verify(repository, never()).finish(any());
+        verify(audit, never()).logJob(eq(job.id()), any(), any());
+    }
+
+    @Test
+    void fullQueueRejectsSubmissionAndDropsTheRow() throws InterruptedException {
+        service = newService(1, 1, 100);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(posts.deletePosts(anyList())).thenAnswer(inv -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return allOk(inv.getArgument(0));
+        });
+
+        service.submit(JobType.DELETE_POSTS, List.of("p1"));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(JobType.DELETE_POSTS, List.of("p2"));
+
+        assertThatThrownBy(() -> service.submit(JobType.DELETE_POSTS, List.of("p3")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        verify(repository).delete(any());
+
+        release.countDown();
+        verify(audit, timeout(5000).times(2)).logJob(any(), eq(ActionStatus.SUCCESS), any());
+    }
+
+    @Test
+    void publisherCannotSubmitUserDeletesNorSeeOthersJobs() {
+        service = newService(1, 10, 100);
+        AdminJob adminJob = service.submit(JobType.DELETE_POSTS, List.of("p1"));
+
+        authenticate("publisher-1", Role.PUBLISHER);
+
+        assertThatThrownBy(() -> service.submit(JobType.DELETE_USERS, List.of("u1")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+        assertThatThrownBy(() -> service.get(adminJob.id()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verify(users, never()).deleteUsers(anyList());
+    }
+
+    @Test
+    void resumeContinuesInterruptedJobAfterItsCheckpoint() {
+        service = newService(1, 10, 2);
+        AdminJob interrupted = AdminJob.queue(JobType.DELETE_POSTS, "admin-1", 4, OffsetDateTime.now())
+                .withStatus(JobStatus.INTERRUPTED)
+                .withProcessed(2)
+                .withSucceeded(2);
+        jobs.put(interrupted.id(), interrupted);
+        items.put(interrupted.id(), List.of("p1", "p2", "p3", "p4"));
+        when(repository.requeue(eq(interrupted.id()), any())).thenReturn(true);
+
+        service.resume(interrupted.id());
+
+        verify(audit, timeout(5000)).logJob(eq(interrupted.id()), eq(ActionStatus.SUCCESS), any());
+        verify(posts).deletePosts(List.of("p3", "p4"));
+        verify(posts, times(1)).deletePosts(anyList());
+    }
+
+    @Test
+    void resumeOfJobThatIsNotInterruptedConflicts() {
+        service = newService(1, 10, 100);
+        AdminJob completed = AdminJob.queue(JobType.DELETE_POSTS, "admin-1", 1, OffsetDateTime.now())
+                .withStatus(JobStatus.COMPLETED);
+        jobs.put(completed.id(), completed);
+
+        assertThatThrownBy(() -> service.resume(completed.id()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void moderationJobDeletesMatchesWhileScanningAndGrowsItsTotal() {
+        service = newService(1, 10, 2);
+        var criteria = new ModerationCriteria("u1", null, null, "spam");
+        when(content.scanComments(eq(criteria), isNull(), anyInt()))
+                .thenReturn(new CommentScan(List.of("c1", "c2", "c3"), "c4", 3));
+        when(content.scanComments(criteria, "c4", 3)).thenReturn(new CommentScan(List.of("c5"), "c5", 1));
+
+        AdminJob job = service.moderate(JobType.MODERATE_COMMENTS, criteria, false);
+
+        verify(audit, timeout(5000)).logJob(job.id(), ActionStatus.SUCCESS, job.createdAt().toInstant());
+        verify(comments).deleteComments(List.of("c1", "c2"));
+        verify(comments).deleteComments(List.of("c3", "c5"));
+        verify(repository, never()).findItems(any(), anyInt(), anyInt());
+
+        var finished = ArgumentCaptor.forClass(AdminJob.class);
+        verify(repository).finish(finished.capture());
+        assertThat(finished.getValue().total()).isEqualTo(4);
+        assertThat(finished.getValue().succeeded()).isEqualTo(4);
+    }
+
+    @Test
+    void dryRunOnlyCountsMatches() {
+        service = newService(1, 10, 2);
+        var criteria = new ModerationCriteria(null, null, null, "spam");
+        when(content.scanComments(eq(criteria), isNull(), anyInt()))
+                .thenReturn(new CommentScan(List.of("c1", "c2", "c3"), "c3", 2));
+
+        AdminJob job = service.moderate(JobType.MODERATE_COMMENTS, criteria, true);
+
+        verify(audit, timeout(5000)).logJob(eq(job.id()), eq(ActionStatus.SUCCESS), any());
+        verify(comments, never()).deleteComments(anyList());
+
+        var finished = ArgumentCaptor.forClass(AdminJob.class);
+        verify(repository).finish(finished.capture());
+        assertThat(finished.getValue().processed()).isEqualTo(3);
+        assertThat(finished.getValue().succeeded()).isZero();
+    }
+
+    @Test
+    void moderationNeedsCriteriaAndIdJobsNeedIds() {
+        service = newService(1, 10, 100);
+
+        assertThatThrownBy(() -> service.moderate(JobType.MODERATE_POSTS, new ModerationCriteria(" ", null, null, null), false))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> service.submit(JobType.MODERATE_POSTS, List.of("p1")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> service.submit(JobType.DELETE_POSTS, List.of()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verify(repository, never()).insert(any(), any());
+    }
+
+    private DefaultAdminJobService newService(int workers, int queueCapacity, int chunkSize) {
+        var scanner = new ModerationScanner(content, new SimpleMeterRegistry(), 2, 3, spoolDir);
+        return new DefaultAdminJobService(repository, users, posts, comments, audit, scanner,
+                new SimpleMeterRegistry(), workers, queueCapacity, chunkSize, 1000, Duration.ofMinutes(2));
+    }
+
+    private static void authenticate(String userId, Role role) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new AdminAuthenticationToken(new AuthPayload(userId, Set.of(role)), "token"));
+    }
+
+    private static BulkDeleteResponse allOk(List<String> ids) {
+        Map<String, ItemResult> results = new LinkedHashMap<>();
+        ids.forEach(id -> results.put(id, new ItemResult(204, null)));
+        return BulkDeleteResponse.of(results);
+    }
+}
@@ -0,0 +1,105 @@
+package com.newsshelf.admin.moderation.service;
+
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import com.newsshelf.admin.stats.AdminStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModerationContentClientTests {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicReference<String> newsQuery = new AtomicReference<>();
+    private final AtomicReference<String> commentsQuery = new AtomicReference<>();
+
+    private HttpServer stub;
+    private ModerationContentClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/api/news/search", exchange -> {
+            newsQuery.set(exchange.getRequestURI().getRawQuery());
+            respond(exchange, """
+                    [{"id":1,"title":"Spam offer","content":"x","author":"ann","publishedAt":"2026-03-01T10:00:00"},
+                     {"id":2,"title":"News","content":"cheap SPAM here","author":"joanna","publishedAt":"2026-03-02T10:00:00"},
+                     {"id":3,"title":"News","content":"spam","author":"ann","publishedAt":"2026-05-01T00:00:00Z",
+                      "imageUrls":["a","b"]},
+                     {"id":4,"title":"Weather","content":"rain","author":"ann","publishedAt":"2026-03-03T10:00:00"}]
+                    """);
+        });
+        stub.createContext("/api/comments", exchange -> {
+            commentsQuery.set(exchange.getRequestURI().getRawQuery());
+            respond(exchange, """
+                    {"items":[{"id":"c1","authorId":"u1","text":"buy SPAM","createdAt":"2026-03-01T10:00:00Z"},
+                              {"id":"c2","authorId":"u1","text":"hello","createdAt":"2026-03-01T11:00:00Z"},
+                              {"id":"c3","authorId":"u1","text":"spam again","createdAt":"2026-06-01T11:00:00Z"}]}
+                    """);
+        });
+        stub.start();
+
+        RestClient rest = RestClient.builder().baseUrl("http://127.0.0.1:" + stub.getAddress().getPort()).build();
+        client = new ModerationContentClient(rest, rest,
+                new DownstreamGuards(new MockEnvironment(), new SimpleMeterRegistry(), new AdminStats(new MockEnvironment())), JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void spoolsPostsMatchingEveryCriterion() throws Exception {
+        Path spool = dir.resolve("ids");
+        var criteria = new ModerationCriteria("ann", Instant.parse("2026-03-01T00:00:00Z"),
+                Instant.parse("2026-04-01T00:00:00Z"), "spam");
+
+        var listed = client.spoolMatchingPosts(criteria, spool);
+
+        assertThat(listed.scanned()).isEqualTo(4);
+        assertThat(listed.matched()).isEqualTo(1);
+        assertThat(Files.readAllLines(spool)).containsExactly("1");
+        // NewsService text search is case-sensitive, so the keyword is only applied here
+        assertThat(newsQuery.get()).contains("author=ann").doesNotContain("query=");
+    }
+
+    @Test
+    void commentScanAdvancesCursorPastNonMatchingItems() {
+        var criteria = new ModerationCriteria("u1", null, Instant.parse("2026-04-01T00:00:00Z"), "spam");
+
+        var scan = client.scanComments(criteria, "c0", 3);
+
+        assertThat(scan.matchedIds()).containsExactly("c1");
+        assertThat(scan.lastId()).isEqualTo("c3");
+        assertThat(scan.scanned()).isEqualTo(3);
+        assertThat(commentsQuery.get()).contains("authorId=u1", "afterId=c0", "limit=3");
+    }
+
+    private static void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.newsshelf.admin.moderation.service;
+
+import com.newsshelf.admin.job.model.JobType;
+import com.newsshelf.admin.moderation.model.ModerationCriteria;
+import com.newsshelf.admin.moderation.service.ModerationContentClient.CommentScan;
+import com.newsshelf.admin.moderation.service.ModerationContentClient.PostSpool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ModerationScannerTests {
+
+    private static final ModerationCriteria CRITERIA = new ModerationCriteria(null, null, null, "spam");
+
+    @TempDir
+    Path dir;
+
+    private final ModerationContentClient client = mock(ModerationContentClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void commentPagesAreRebatchedUntilAShortPage() {
+        when(client.scanComments(eq(CRITERIA), isNull(), eq(3)))
+                .thenReturn(new CommentScan(List.of("c1", "c2", "c3"), "c3", 3));
+        when(client.scanComments(CRITERIA, "c3", 3)).thenReturn(new CommentScan(List.of("c4"), "c6", 3));
+        when(client.scanComments(CRITERIA, "c6", 3)).thenReturn(new CommentScan(List.of(), "c7", 1));
+
+        try (var matches = scanner(2).open(UUID.randomUUID(), JobType.MODERATE_COMMENTS, CRITERIA, 2)) {
+            assertThat(matches.next()).containsExactly("c1", "c2");
+            assertThat(matches.next()).containsExactly("c3", "c4");
+            assertThat(matches.next()).isNull();
+            assertThat(matches.next()).isNull();
+            assertThat(matches.matched()).isEqualTo(4);
+            assertThat(matches.scanned()).isEqualTo(7);
+        }
+        assertThat(meterRegistry.counter("admin.moderation.matched", "type", "MODERATE_COMMENTS").count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void postsAreReadBackFromTheSpoolWhichIsRemovedAfterwards() throws Exception {
+        when(client.spoolMatchingPosts(eq(CRITERIA), any())).thenAnswer(inv -> {
+            Files.write(inv.<Path>getArgument(1), List.of("1", "2", "3"));
+            return new PostSpool(10, 3);
+        });
+
+        try (var matches = scanner(2).open(UUID.randomUUID(), JobType.MODERATE_POSTS, CRITERIA, 2)) {
+            assertThat(matches.next()).containsExactly("1", "2");
+            assertThat(matches.next()).containsExactly("3");
+            assertThat(matches.next()).isNull();
+            assertThat(matches.matched()).isEqualTo(3);
+        }
+        try (var left = Files.list(dir)) {
+            assertThat(left).isEmpty();
+        }
+    }
+
+    @Test
+    void downstreamFailureEndsTheStreamWithTheError() {
+        when(client.scanComments(any(), any(), anyInt()))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_GATEWAY, "CommentService unavailable"));
+
+        try (var matches = scanner(2).open(UUID.randomUUID(), JobType.MODERATE_COMMENTS, CRITERIA, 2)) {
+            assertThatThrownBy(matches::next).isInstanceOf(ResponseStatusException.class);
+        }
+    }
+
+    @Test
+    void closeStopsAScanBlockedOnAFullQueue() {
+        // an endless comment service: every page is full and matches
+        when(client.scanComments(any(), any(), anyInt()))
+                .thenAnswer(inv -> new CommentScan(List.of("a", "b"), "z", 3));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (var matches = scanner(1).open(UUID.randomUUID(), JobType.MODERATE_COMMENTS, CRITERIA, 2)) {
+                assertThat(matches.next()).containsExactly("a", "b");
+            }
+        });
+    }
+
+    private ModerationScanner scanner(int prefetch) {
+        return new ModerationScanner(client, meterRegistry, prefetch, 3, dir);
+    }
+}
@@ -0,0 +1,194 @@
+package com.newsshelf.admin.purge.service;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse;
+import com.newsshelf.admin.dto.response.BulkDeleteResponse.ItemResult;
+import com.newsshelf.admin.purge.model.PurgeJob;
+import com.newsshelf.admin.purge.model.PurgePhase;
+import com.newsshelf.admin.purge.model.PurgeStatus;
+import com.newsshelf.admin.purge.repository.PurgeJobRepository;
+import com.newsshelf.admin.service.comment.CommentAdminService;
+import com.newsshelf.admin.service.post.PostAdminService;
+import com.newsshelf.admin.service.user.UserAdminService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DefaultUserPurgeServiceTests {
+
+    @TempDir
+    Path spoolDir;
+
+    private final PurgeJobRepository repository = mock(PurgeJobRepository.class);
+    private final PurgeContentClient contentClient = mock(PurgeContentClient.class);
+    private final PostAdminService posts = mock(PostAdminService.class);
+    private final CommentAdminService comments = mock(CommentAdminService.class);
+    private final UserAdminService users = mock(UserAdminService.class);
+    private final AdminActionService audit = mock(AdminActionService.class);
+
+    private DefaultUserPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultUserPurgeService(repository, contentClient, posts, comments, users, audit,
+                100, Duration.ofMinutes(2), spoolDir);
+
+        when(posts.deletePosts(anyList())).thenAnswer(inv -> allOk(inv.getArgument(0)));
+        when(comments.deleteComments(anyList())).thenAnswer(inv -> allOk(inv.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void purgesPostsThenCommentsThenAccountInBatches() {
+        when(repository.findRunningByUser("u1")).thenReturn(Optional.empty());
+        when(contentClient.spoolPostIds(eq("Ірина Мельник"), any())).thenAnswer(inv -> {
+            Path spool = inv.getArgument(1);
+            Files.write(spool, IntStream.range(0, 250).mapToObj(String::valueOf).toList());
+            return 250L;
+        });
+        when(contentClient.commentIds(eq("u1"), isNull(), eq(100))).thenReturn(ids("c", 0, 100));
+        when(contentClient.commentIds(eq("u1"), eq("c99"), eq(100))).thenReturn(ids("c", 100, 130));
+
+        service.start("u1", " Ірина Мельник ");
+
+        verify(audit, timeout(5000)).log(eq(ActionType.PURGE_USER), eq(TargetType.USER), eq("u1"),
+                eq(ActionStatus.SUCCESS), any());
+        verify(posts, times(3)).deletePosts(anyList());
+        verify(comments, times(2)).deleteComments(anyList());
+        verify(users).deleteUser("u1");
+
+        var checkpoints = ArgumentCaptor.forClass(PurgeJob.class);
+        verify(repository, atLeastOnce()).checkpoint(checkpoints.capture());
+        PurgeJob last = checkpoints.getValue();
+        assertThat(last.status()).isEqualTo(PurgeStatus.COMPLETED);
+        assertThat(last.postsDeleted()).isEqualTo(250);
+        assertThat(last.commentsDeleted()).isEqualTo(130);
+        assertThat(last.commentCursor()).isEqualTo("c129");
+        assertThat(spoolDir).isEmptyDirectory();
+    }
+
+    @Test
+    void staleRunningJobResumesFromItsCheckpoint() {
+        PurgeJob interrupted = PurgeJob.start("u2", "Олег Бондар", "admin", OffsetDateTime.now().minusHours(1))
+                .withPhase(PurgePhase.COMMENTS)
+                .withCommentCursor("c41")
+                .withPostsDeleted(17);
+        when(repository.findRunningByUser("u2")).thenReturn(Optional.of(interrupted));
+        when(repository.claimStale(interrupted.id(), Duration.ofMinutes(2))).thenReturn(true);
+        when(contentClient.commentIds("u2", "c41", 100)).thenReturn(List.of("c42"));
+
+        PurgeJob returned = service.start("u2", "Олег Бондар");
+
+        assertThat(returned.id()).isEqualTo(interrupted.id());
+        verify(audit, timeout(5000)).log(eq(ActionType.PURGE_USER), eq(TargetType.USER), eq("u2"),
+                eq(ActionStatus.SUCCESS), any());
+        verify(contentClient, never()).spoolPostIds(any(), any());
+        verify(repository, never()).insert(any());
+        verify(users).deleteUser("u2");
+    }
+
+    @Test
+    void keepsAccountWhenSomeContentCouldNotBeDeleted() {
+        when(repository.findRunningByUser("u3")).thenReturn(Optional.empty());
+        when(contentClient.spoolPostIds(eq("Марта Коваль"), any())).thenAnswer(inv -> {
+            Files.write(inv.<Path>getArgument(1), List.of("1", "2"));
+            return 2L;
+        });
+        when(posts.deletePosts(anyList())).thenReturn(BulkDeleteResponse.of(new LinkedHashMap<>(Map.of(
+                "1", new ItemResult(204, null), "2", new ItemResult(502, "NewsApi unavailable")))));
+        when(contentClient.commentIds(any(), any(), anyInt())).thenReturn(List.of());
+
+        service.start("u3", "Марта Коваль");
+
+        verify(audit, timeout(5000)).log(eq(ActionType.PURGE_USER), eq(TargetType.USER), eq("u3"),
+                eq(ActionStatus.FAILED), any());
+        verify(users, never()).deleteUser(any());
+    }
+
+    @Test
+    void missingAuthorIsRejected() {
+        assertThatThrownBy(() -> service.start("u4", " "))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode().value()).isEqualTo(400));
+
+        verify(repository, never()).insert(any());
+        verifyNoInteractions(contentClient, users);
+    }
+
+    @Test
+    void keepsAccountWhenTheAuthorMatchesNoPosts() {
+        when(repository.findRunningByUser("u5")).thenReturn(Optional.empty());
+        when(contentClient.spoolPostIds(eq("u5"), any())).thenReturn(0L);
+
+        service.start("u5", "u5");
+
+        verify(audit, timeout(5000)).log(eq(ActionType.PURGE_USER), eq(TargetType.USER), eq("u5"),
+                eq(ActionStatus.FAILED), any());
+        verify(comments, never()).deleteComments(anyList());
+        verify(users, never()).deleteUser(any());
+
+        var checkpoints = ArgumentCaptor.forClass(PurgeJob.class);
+        verify(repository, atLeastOnce()).checkpoint(checkpoints.capture());
+        assertThat(checkpoints.getValue().error()).contains("no posts carry the author 'u5'");
+    }
+
+    @Test
+    void resumedJobWithoutIdentifiedPostsKeepsTheAccount() {
+        PurgeJob interrupted = PurgeJob.start("u6", "Олег Бондар", "admin", OffsetDateTime.now().minusHours(1))
+                .withPhase(PurgePhase.ACCOUNT);
+        when(repository.findRunningByUser("u6")).thenReturn(Optional.of(interrupted));
+        when(repository.claimStale(interrupted.id(), Duration.ofMinutes(2))).thenReturn(true);
+
+        service.start("u6", "Олег Бондар");
+
+        verify(audit, timeout(5000)).log(eq(ActionType.PURGE_USER), eq(TargetType.USER), eq("u6"),
+                eq(ActionStatus.FAILED), any());
+        verify(users, never()).deleteUser(any());
+    }
+
+    private static List<String> ids(String prefix, int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> prefix + i).toList();
+    }
+
+    private static BulkDeleteResponse allOk(List<String> ids) {
+        return BulkDeleteResponse.of(ids.stream().collect(Collectors.toMap(
+                id -> id, id -> new ItemResult(204, null), (a, b) -> a, LinkedHashMap::new)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.newsshelf.admin.purge.service;
+
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import com.newsshelf.admin.stats.AdminStats;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurgeContentClientTests {
+
+    @TempDir
+    Path dir;
+
+    private HttpServer stub;
+    private PurgeContentClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/api/news/search/by-author", exchange -> {
+            byte[] body = """
+                    [{"id":1,"title":"a","author":"ann","imageUrls":["x"]},
+                     {"id":2,"title":"b","author":"joanna","imageUrls":[]},
+                     {"id":3,"title":"c","author":"ann","category":{"id":4}}]
+                    """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.start();
+
+        RestClient rest = RestClient.builder().baseUrl("http://127.0.0.1:" + stub.getAddress().getPort()).build();
+        client = new PurgeContentClient(rest, rest,
+                new DownstreamGuards(new MockEnvironment(), new SimpleMeterRegistry(), new AdminStats(new MockEnvironment())), JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void spoolsOnlyExactAuthorMatches() throws Exception {
+        Path spool = dir.resolve("ids");
+
+        long count = client.spoolPostIds("ann", spool);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(Files.readAllLines(spool)).containsExactly("1", "3");
+    }
+}
@@ -0,0 +1,170 @@
+package com.newsshelf.admin.security.config;
+
+import com.newsshelf.admin.dto.response.ListUsersResponse;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpClientsConfigTests {
+
+    private HttpServer stub;
+    private SimpleMeterRegistry meterRegistry;
+    private HttpClientsConfig config;
+    private final Set<String> forwardedTokens = ConcurrentHashMap.newKeySet();
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/fast", exchange -> {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        stub.createContext("/auth", exchange -> {
+            forwardedTokens.add(String.valueOf(exchange.getRequestHeaders().getFirst("Authorization")));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        stub.createContext("/users", exchange -> {
+            String acceptEncoding = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            acceptEncodings.add(acceptEncoding);
+            byte[] body = "{\"users\":[{\"id\":\"u-1\",\"email\":\"a@b.c\",\"role\":\"READER\",\"status\":\"ACTIVE\"}],\"total\":1}"
+                    .getBytes(StandardCharsets.UTF_8);
+            if (acceptEncoding.contains("gzip")) {
+                var out = new ByteArrayOutputStream();
+                try (var gzip = new GZIPOutputStream(out)) {
+                    gzip.write(body);
+                }
+                body = out.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        stub.start();
+
+        var env = new MockEnvironment()
+                .withProperty("services.news.base-url", "http://127.0.0.1:" + stub.getAddress().getPort())
+                .withProperty("services.news.http.max-connections", "8")
+                .withProperty("services.news.http.read-timeout", "200ms")
+                .withProperty("services.comments.base-url", "http://127.0.0.1:" + stub.getAddress().getPort())
+                .withProperty("services.comments.http.version", "HTTP_2")
+                .withProperty("services.user.base-url", "http://127.0.0.1:" + stub.getAddress().getPort())
+                .withProperty("services.user.http.compression", "false");
+
+        meterRegistry = new SimpleMeterRegistry();
+        config = new HttpClientsConfig(env, meterRegistry, ObservationRegistry.create(), JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        config.destroy();
+        stub.stop(0);
+    }
+
+    @Test
+    void reusesPooledConnectionsAndPublishesPoolMetrics() throws Exception {
+        RestClient client = config.newsServiceClient();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 200).forEach(i ->
+                    executor.submit(() -> client.get().uri("/fast").retrieve().toBodilessEntity()));
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        var available = meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "news").tag("state", "available").gauge();
+        assertThat(available.value()).isBetween(1.0, 8.0);
+    }
+
+    @Test
+    void forwardsCallerBearerTokenFromVirtualThreads() throws Exception {
+        RestClient client = config.newsServiceClient();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                String token = "token-" + (i % 4);
+                executor.submit(() -> {
+                    var auth = new TestingAuthenticationToken("user", null);
+                    auth.setDetails(token);
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    try {
+                        client.get().uri("/auth").retrieve().toBodilessEntity();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                });
+            }
+        }
+
+        assertThat(forwardedTokens)
+                .containsExactlyInAnyOrder("Bearer token-0", "Bearer token-1", "Bearer token-2", "Bearer token-3");
+    }
+
+    @Test
+    void negotiatesAndDecodesGzipOnBothTransports() {
+        for (RestClient client : new RestClient[]{config.newsServiceClient(), config.commentServiceClient()}) {
+            var entity = client.get().uri("/users").retrieve().toEntity(ListUsersResponse.class);
+
+            assertThat(entity.getBody()).isNotNull();
+            assertThat(entity.getBody().users()).extracting(ListUsersResponse.UserItem::id).containsExactly("u-1");
+        }
+        assertThat(acceptEncodings).hasSize(2).allMatch(encoding -> encoding.contains("gzip"));
+    }
+
+    @Test
+    void compressionCanBeTurnedOffPerDownstream() {
+        var entity = config.userServiceClient().get().uri("/users").retrieve().toEntity(ListUsersResponse.class);
+
+        assertThat(acceptEncodings).singleElement().asString().doesNotContain("gzip");
+        assertThat(entity.getBody().total()).isEqualTo(1);
+    }
+
+    @Test
+    void slowDownstreamFailsAfterReadTimeout() {
+        RestClient client = config.newsServiceClient();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.get().uri("/slow").retrieve().toBodilessEntity())
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_500);
+    }
+}
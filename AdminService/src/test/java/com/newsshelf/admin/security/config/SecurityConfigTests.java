@@ -0,0 +1,32 @@
+package com.newsshelf.admin.security.config;
+
+import com.newsshelf.admin.controller.AdminController;
+import com.newsshelf.admin.controller.AuditController;
+import com.newsshelf.admin.controller.JobController;
+import com.newsshelf.admin.controller.PurgeController;
+import com.newsshelf.admin.controller.StatsController;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTests {
+
+    @Test
+    void routeRulesCoverEveryControllerPrefix() {
+        for (Class<?> controller : List.of(AdminController.class, AuditController.class, JobController.class,
+                PurgeController.class, StatsController.class)) {
+            assertThat(controller.getAnnotation(RequestMapping.class).path())
+                    .as(controller.getSimpleName())
+                    .containsExactlyInAnyOrderElementsOf(SecurityConfig.ROUTE_PREFIXES);
+        }
+    }
+
+    @Test
+    void adminRoutesExpandAPatternUnderEachPrefix() {
+        assertThat(SecurityConfig.adminRoutes("/audit/**"))
+                .containsExactly("/audit/**", "/api/admin/audit/**", "/api/v1/admin/audit/**");
+    }
+}
@@ -0,0 +1,40 @@
+package com.newsshelf.admin.security.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTests {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void inboundUuidIsKeptAndEchoed() throws Exception {
+        String inbound = "0191d5a8-3c3e-7b1a-9f00-5c2e1d4b6a70";
+        var request = new MockHttpServletRequest("DELETE", "/posts/1");
+        request.addHeader(RequestIdFilter.HEADER, " " + inbound + " ");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo(inbound);
+    }
+
+    @Test
+    void missingOrMalformedIdIsReplacedByAGeneratedOne() throws Exception {
+        for (String inbound : new String[]{null, "", "abc", "1-2-3-4-5", "not-a-uuid-but-exactly-36-characters"}) {
+            var request = new MockHttpServletRequest("GET", "/users");
+            if (inbound != null) request.addHeader(RequestIdFilter.HEADER, inbound);
+            var response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertThat(UUID.fromString(response.getHeader(RequestIdFilter.HEADER)).version()).isEqualTo(7);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import com.newsshelf.admin.security.principal.AdminAuthenticationToken;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import com.newsshelf.admin.security.token.AuthPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimiter(new MockEnvironment()
+            .withProperty("admin.rate-limit.publisher.requests-per-minute", "2")
+            .withProperty("admin.rate-limit.publisher.burst", "1")
+            .withProperty("admin.rate-limit.publisher.delete-comment.requests-per-minute", "60")
+            .withProperty("admin.rate-limit.publisher.delete-comment.burst", "5")),
+            JsonMapper.builder().build(), meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        var payload = new AuthPayload("p-1", RoleSets.intern(List.of(Role.PUBLISHER)));
+        SecurityContextHolder.getContext().setAuthentication(new AdminAuthenticationToken(payload, "token"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void answers429WithRetryAfterOnceBucketIsEmpty() throws Exception {
+        var first = run("DELETE", "/api/admin/posts/1");
+        var second = run("DELETE", "/posts/2");
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(meterRegistry.get("admin.rate-limit.rejected").tag("action", "DELETE_POST").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unclassifiedAndAnonymousRequestsPassThrough() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(run("GET", "/audit").getStatus()).isEqualTo(200);
+        }
+
+        SecurityContextHolder.clearContext();
+        for (int i = 0; i < 5; i++) {
+            assertThat(run("DELETE", "/posts/1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void bulkDeleteIsChargedPerIdAndItsBodyStillReachesTheController() throws Exception {
+        String body = "{\"ids\":[\"1\",\"2\",\"3\",\"4\"]}";
+        var chain = new MockFilterChain();
+
+        var bulk = run("DELETE", "/api/v1/admin/comments", body, chain);
+        var single = run("DELETE", "/comments/5", null, new MockFilterChain());
+        var next = run("DELETE", "/comments/6", null, new MockFilterChain());
+
+        assertThat(bulk.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest().getInputStream().readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo(body);
+        assertThat(single.getStatus()).isEqualTo(200);
+        assertThat(next.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void bulkDeleteLargerThanTheBucketWaitsForAFullBucket() throws Exception {
+        String ids = String.join(",", Collections.nCopies(50, "\"1\""));
+
+        var bulk = run("DELETE", "/comments", "{\"ids\":[" + ids + "]}", new MockFilterChain());
+        var single = run("DELETE", "/comments/5", null, new MockFilterChain());
+
+        assertThat(bulk.getStatus()).isEqualTo(200);
+        assertThat(single.getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse run(String method, String uri) throws Exception {
+        return run(method, uri, null, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse run(String method, String uri, String body, MockFilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest(method, uri);
+        if (body != null) {
+            request.setContentType("application/json");
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,130 @@
+package com.newsshelf.admin.security.ratelimit;
+
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+    private static final Set<Role> PUBLISHER = RoleSets.intern(List.of(Role.PUBLISHER));
+    private static final Set<Role> ADMIN = RoleSets.intern(List.of(Role.ADMIN));
+
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimiter limiter = new RateLimiter(new MockEnvironment()
+            .withProperty("admin.rate-limit.publisher.requests-per-minute", "60")
+            .withProperty("admin.rate-limit.publisher.burst", "3")
+            .withProperty("admin.rate-limit.admin.requests-per-minute", "600")
+            .withProperty("admin.rate-limit.admin.burst", "10")
+            .withProperty("admin.rate-limit.admin.purge-user.requests-per-minute", "0"),
+            now::get);
+
+    @Test
+    void admitsBurstThenRefillsAtConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST)).isZero();
+        }
+
+        long wait = limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST);
+        assertThat(wait).isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        now.addAndGet(wait);
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST)).isZero();
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST)).isPositive();
+    }
+
+    @Test
+    void bulkRequestTakesOneTokenPerItemUpToTheBurst() {
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST, 2)).isZero();
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST, 2))
+                .isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        // more items than the bucket holds cost a full bucket, admitted once it has refilled
+        assertThat(limiter.tryAcquire("p-2", PUBLISHER, ActionType.DELETE_POST, 500)).isZero();
+        assertThat(limiter.tryAcquire("p-2", PUBLISHER, ActionType.DELETE_POST)).isEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void bucketsAreSeparatePerActorAndAction() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST);
+
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST)).isPositive();
+        assertThat(limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_COMMENT)).isZero();
+        assertThat(limiter.tryAcquire("p-2", PUBLISHER, ActionType.DELETE_POST)).isZero();
+    }
+
+    @Test
+    void actorWithSeveralRolesGetsMostPermissiveLimit() {
+        Set<Role> both = RoleSets.intern(EnumSet.of(Role.PUBLISHER, Role.ADMIN));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("a-1", both, ActionType.DELETE_POST)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a-1", both, ActionType.DELETE_POST)).isPositive();
+    }
+
+    @Test
+    void alternatingRoleSetsDoNotResetTheBuckets() {
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            Set<Role> roles = i % 2 == 0 ? PUBLISHER : ADMIN;
+            if (limiter.tryAcquire("a-1", roles, ActionType.DELETE_POST) == 0) admitted++;
+        }
+
+        // never more than the most permissive burst of the two role sets
+        assertThat(admitted).isBetween(1, 10);
+        assertThat(limiter.trackedActors()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroRateDisablesLimitingForThatAction() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire("a-1", ADMIN, ActionType.PURGE_USER)).isZero();
+        }
+    }
+
+    @Test
+    void sweepDropsOnlyActorsWhoseBucketsHaveRefilled() {
+        limiter.tryAcquire("p-1", PUBLISHER, ActionType.DELETE_POST);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        limiter.tryAcquire("p-2", PUBLISHER, ActionType.DELETE_POST);
+
+        limiter.sweep();
+
+        assertThat(limiter.trackedActors()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheBurst() throws Exception {
+        int threads = 16;
+        var admitted = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("a-1", ADMIN, ActionType.DELETE_POST) == 0) admitted.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(admitted.get()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,159 @@
+package com.newsshelf.admin.security.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevocationListTests {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final UserRevocationRepository repository = mock(UserRevocationRepository.class);
+    private MutableClock clock;
+    private RevocationList list;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        when(repository.findActive()).thenReturn(List.of(
+                new UserRevocation("u-perm", null, at(NOW.minusSeconds(60))),
+                new UserRevocation("u-temp", at(NOW.plusSeconds(30)), at(NOW.minusSeconds(60)))
+        ));
+        list = new RevocationList(repository, new SimpleMeterRegistry(), 0.01, Duration.ofMinutes(1), clock);
+        list.afterPropertiesSet();
+    }
+
+    @Test
+    void loadsActiveRevocationsOnStartup() {
+        assertThat(list.isRevoked("u-perm")).isTrue();
+        assertThat(list.isRevoked("u-temp")).isTrue();
+        assertThat(list.isRevoked("u-other")).isFalse();
+        assertThat(list.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void temporaryRevocationLapsesWithoutARefresh() {
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(list.isRevoked("u-temp")).isFalse();
+        assertThat(list.isRevoked("u-perm")).isTrue();
+    }
+
+    @Test
+    void localRevokeAndLiftApplyImmediately() {
+        when(repository.lift("u-new")).thenReturn(true);
+
+        list.revoke("u-new", "spam", "admin-1", null);
+        assertThat(list.isRevoked("u-new")).isTrue();
+
+        assertThat(list.lift("u-new")).isTrue();
+        assertThat(list.isRevoked("u-new")).isFalse();
+    }
+
+    @Test
+    void refreshAppliesChangesFromOtherReplicas() {
+        clock.advance(Duration.ofSeconds(15));
+        when(repository.findChangedSince(any())).thenReturn(List.of(
+                new UserRevocation("u-remote", null, at(clock.instant())),
+                new UserRevocation("u-perm", at(clock.instant()), at(clock.instant()))
+        ));
+
+        list.refresh();
+
+        assertThat(list.isRevoked("u-remote")).isTrue();
+        assertThat(list.isRevoked("u-perm")).isFalse();
+    }
+
+    @Test
+    void refreshAppliesAnExtendedExpiry() {
+        clock.advance(Duration.ofSeconds(15));
+        when(repository.findChangedSince(any())).thenReturn(List.of(
+                new UserRevocation("u-temp", null, at(clock.instant()))
+        ));
+
+        list.refresh();
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(list.isRevoked("u-temp")).isTrue();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        List<String> revoked = IntStream.range(0, 1000).mapToObj(i -> "revoked-" + i).toList();
+        BloomFilter filter = BloomFilter.create(revoked, 1000, 0.01);
+
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("user-" + i)).count();
+
+        assertThat(revoked).allMatch(filter::mightContain);
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void bulkRevokeBeyondCapacityRebuildsTheFilter() {
+        List<String> revoked = IntStream.range(0, 5000).mapToObj(i -> "revoked-" + i).toList();
+
+        list.revokeAll(revoked, "user deleted", "admin-1");
+
+        assertThat(revoked).allMatch(list::isRevoked);
+        assertThat(list.isRevoked("u-perm")).isTrue();
+    }
+
+    @Test
+    void negativeLookupDoesNotAllocate() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 20_000; i++) list.isRevoked("u-other");
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) list.isRevoked("u-other");
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(allocated).isLessThan(100_000);
+    }
+
+    private static OffsetDateTime at(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
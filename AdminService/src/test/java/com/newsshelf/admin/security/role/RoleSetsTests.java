@@ -0,0 +1,46 @@
+package com.newsshelf.admin.security.role;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleSetsTests {
+
+    @Test
+    void equalRoleCombinationsShareOneInstance() {
+        var fromEnumSet = RoleSets.intern(EnumSet.of(Role.ADMIN, Role.PUBLISHER));
+        var fromOtherSet = RoleSets.intern(new LinkedHashSet<>(List.of(Role.PUBLISHER, Role.ADMIN)));
+
+        assertThat(fromEnumSet).isSameAs(fromOtherSet).containsExactly(Role.PUBLISHER, Role.ADMIN);
+        assertThat(RoleSets.authorities(fromEnumSet)).isSameAs(RoleSets.authorities(fromOtherSet))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_PUBLISHER", "ROLE_ADMIN");
+        assertThat(RoleSets.intern(List.of())).isEmpty();
+    }
+
+    @Test
+    void maskRoundTripsToTheSharedSet() {
+        var roles = RoleSets.intern(EnumSet.of(Role.ADMIN, Role.READER));
+
+        assertThat(RoleSets.mask(roles)).isEqualTo(0b101);
+        assertThat(RoleSets.fromMask(0b101)).isSameAs(roles);
+        assertThat(RoleSets.fromMask(0)).isEmpty();
+        assertThat(RoleSets.fromMask(0b1000)).containsExactly(Role.METRICS);
+        assertThatThrownBy(() -> RoleSets.fromMask(16)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void claimLookupAcceptsCommonSpellingsAndFallsBack() {
+        assertThat(Role.fromClaim("ADMIN")).isEqualTo(Role.ADMIN);
+        assertThat(Role.fromClaim("admin")).isEqualTo(Role.ADMIN);
+        assertThat(Role.fromClaim("Publisher")).isEqualTo(Role.PUBLISHER);
+        assertThat(Role.fromClaim(" rEaDeR ")).isEqualTo(Role.READER);
+        assertThatThrownBy(() -> Role.fromClaim("root")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.newsshelf.admin.security.token.jwt;
+
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.security.role.RoleSets;
+import com.newsshelf.admin.security.token.AuthPayload;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenAuthServiceTests {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-bytes!!";
+    private static final String ISSUER = "NewsShelf.UserService";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private JwtTokenAuthService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        service = new JwtTokenAuthService(
+                new JwtVerifier(SECRET, ISSUER),
+                new JwtClaimsParser("role", ""),
+                cache,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void secondCallIsServedFromCache() {
+        String token = token(SECRET, Instant.now().plusSeconds(60));
+
+        AuthPayload cold = service.authenticate(token);
+        AuthPayload warm = service.authenticate(token);
+
+        assertThat(warm).isSameAs(cold);
+        assertThat(cold.userId()).isEqualTo("user-1");
+        assertThat(cold.roles()).containsExactly(Role.ADMIN);
+        assertThat(meterRegistry.get("admin.auth.jwt.verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void cacheIsKeyedByDigestNotByTheToken() {
+        String token = token(SECRET, Instant.now().plusSeconds(60));
+        String other = token(SECRET, Instant.now().plusSeconds(120));
+
+        service.authenticate(token);
+        service.authenticate(other);
+
+        assertThat(cache.nativeCache().asMap().keySet()).hasSize(2).noneMatch(String.class::isInstance);
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNeverCached() {
+        String token = token(SECRET, null);
+
+        service.authenticate(token);
+        service.authenticate(token);
+
+        assertThat(meterRegistry.get("admin.auth.jwt.verify").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidSignatureIsRejectedAndNotCached() {
+        String token = token("another-secret-key-with-at-least-32-bytes", Instant.now().plusSeconds(60));
+
+        assertThatThrownBy(() -> service.authenticate(token)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> service.authenticate(token)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void cachedPayloadUsesInternedRoleSet() {
+        AuthPayload payload = service.authenticate(token(SECRET, Instant.now().plusSeconds(60)));
+
+        assertThat(payload.roles()).isSameAs(RoleSets.intern(EnumSet.of(Role.ADMIN)));
+        assertThatThrownBy(() -> payload.roles().add(Role.READER)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void cacheHitAllocatesOnlyTheDigestKey() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String token = token(SECRET, Instant.now().plusSeconds(60));
+        for (int i = 0; i < 50_000; i++) {
+            service.authenticate(token);
+        }
+
+        int calls = 100_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < calls; i++) {
+            service.authenticate(token);
+        }
+        long perCall = (threads.getCurrentThreadAllocatedBytes() - before) / calls;
+
+        // the 32-byte SHA-256 key record; digest state and buffers are reused per thread
+        assertThat(perCall).isLessThan(64);
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        var builder = Jwts.builder()
+                .setSubject("user-1")
+                .setIssuer(ISSUER)
+                .claim("role", Set.of("Admin"))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+
+        if (expiresAt != null) builder.setExpiration(Date.from(expiresAt));
+        return builder.compact();
+    }
+}
@@ -0,0 +1,66 @@
+package com.newsshelf.admin.service.bulk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkExecutorTests {
+
+    private final BulkExecutor executor = new BulkExecutor();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        executor.shutdown();
+    }
+
+    @Test
+    void respectsConcurrencyLimitAndPropagatesSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin-1", null));
+
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        Set<String> actors = ConcurrentHashMap.newKeySet();
+        List<String> ids = IntStream.range(0, 200).mapToObj(String::valueOf).toList();
+
+        var results = executor.forEach(ids, new Semaphore(4), id -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            actors.add(SecurityContextHolder.getContext().getAuthentication().getName());
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+        });
+
+        assertThat(results).hasSize(200);
+        assertThat(results.values()).allSatisfy(r -> assertThat(r.success()).isTrue());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+        assertThat(actors).containsExactly("admin-1");
+    }
+
+    @Test
+    void mapsFailuresPerItem() {
+        var results = executor.forEach(List.of("1", "2", "2"), new Semaphore(2), id -> {
+            if (id.equals("2")) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "News not found");
+        });
+
+        assertThat(results).containsOnlyKeys("1", "2");
+        assertThat(results.get("1").status()).isEqualTo(204);
+        assertThat(results.get("2").status()).isEqualTo(404);
+        assertThat(results.get("2").reason()).isEqualTo("News not found");
+    }
+}
@@ -0,0 +1,63 @@
+package com.newsshelf.admin.service.coalesce;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    private final SingleFlight<String, String> flight = new SingleFlight<>();
+
+    @Test
+    void followersShareTheLeadersFailure() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var failure = new IllegalStateException("downstream down");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<SingleFlight.Result<String>> leader = executor.submit(() -> flight.execute("k", () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<SingleFlight.Result<String>> follower = executor.submit(() -> flight.execute("k", () -> "never"));
+            // give the follower time to find the leader's call in flight
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get().coalesced()).isFalse();
+            assertThat(follower.get().coalesced()).isTrue();
+            assertThatThrownBy(() -> follower.get().getOrThrow()).isSameAs(failure);
+        }
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void sequentialCallsAreNotCoalesced() {
+        var calls = new AtomicInteger();
+
+        var first = flight.execute("k", () -> "v" + calls.incrementAndGet());
+        var second = flight.execute("k", () -> "v" + calls.incrementAndGet());
+
+        assertThat(first.getOrThrow()).isEqualTo("v1");
+        assertThat(second.getOrThrow()).isEqualTo("v2");
+        assertThat(second.coalesced()).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
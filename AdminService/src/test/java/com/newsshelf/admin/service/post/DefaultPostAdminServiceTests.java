@@ -0,0 +1,192 @@
+package com.newsshelf.admin.service.post;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.audit.model.TargetType;
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.service.bulk.BulkExecutor;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import com.newsshelf.admin.stats.AdminStats;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DefaultPostAdminServiceTests {
+
+    private HttpServer stub;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int stubStatus = 500;
+    private volatile long stubLatencyMs = 0;
+
+    private AdminActionService audit;
+    private SimpleMeterRegistry meterRegistry;
+    private DefaultPostAdminService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/api/news", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(stubLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(stubStatus, -1);
+            exchange.close();
+        });
+        stub.start();
+
+        var env = new MockEnvironment()
+                .withProperty("services.news.circuit.sliding-window-size", "10")
+                .withProperty("services.news.circuit.minimum-calls", "5")
+                .withProperty("services.news.circuit.open-duration", "1m")
+                .withProperty("services.news.bulkhead.max-concurrent-calls", "2")
+                .withProperty("services.news.bulkhead.max-wait", "0ms");
+
+        audit = mock(AdminActionService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DefaultPostAdminService(
+                RestClient.builder().baseUrl("http://127.0.0.1:" + stub.getAddress().getPort()).build(),
+                audit,
+                new BulkExecutor(),
+                new DownstreamGuards(env, meterRegistry, new AdminStats(env)),
+                16
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailuresAndFailsFast() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> service.deletePost("1"))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting(e -> ((ResponseStatusException) e).getStatusCode().value())
+                    .isEqualTo(502);
+        }
+
+        assertThatThrownBy(() -> service.deletePost("1"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode().value())
+                .isEqualTo(503);
+
+        assertThat(hits.get()).isEqualTo(5);
+        verify(audit, times(6))
+                .log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("1"), eq(ActionStatus.FAILED), any(), eq(false));
+        assertThat(meterRegistry.get("admin.downstream.rejected")
+                .tag("downstream", "news").tag("reason", "circuit_open").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void notFoundDoesNotTripTheCircuit() {
+        stubStatus = 404;
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> service.deletePost("1"))
+                    .extracting(e -> ((ResponseStatusException) e).getStatusCode().value())
+                    .isEqualTo(404);
+        }
+        assertThat(hits.get()).isEqualTo(10);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimitWhileDownstreamIsSlow() {
+        stubStatus = 204;
+        stubLatencyMs = 300;
+
+        var result = service.deletePosts(IntStream.range(0, 6).mapToObj(String::valueOf).toList());
+
+        List<Integer> statuses = result.results().values().stream().map(r -> r.status()).toList();
+        assertThat(statuses).contains(204, 503);
+        assertThat(result.succeeded()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void concurrentDeletesOfTheSamePostShareOneDownstreamCall() throws Exception {
+        stubStatus = 204;
+        stubLatencyMs = 300;
+
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = IntStream.range(0, 5)
+                    .mapToObj(i -> callers.submit(() -> service.deletePost("7")))
+                    .toList();
+            for (var f : futures) f.get();
+        }
+
+        assertThat(hits.get()).isEqualTo(1);
+        verify(audit).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS), any(),
+                eq(false));
+        verify(audit, times(4)).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS),
+                any(), eq(true));
+    }
+
+    @Test
+    void adminsWithDifferentTokensShareOneDelete() throws Exception {
+        stubStatus = 204;
+        stubLatencyMs = 300;
+
+        deleteConcurrently("ROLE_ADMIN", "token-a", "token-b");
+
+        assertThat(hits.get()).isEqualTo(1);
+        verify(audit).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS), any(),
+                eq(false));
+        verify(audit).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS), any(),
+                eq(true));
+    }
+
+    @Test
+    void publishersShareADeleteOnlyWithTheSameToken() throws Exception {
+        stubStatus = 204;
+        stubLatencyMs = 300;
+
+        deleteConcurrently("ROLE_PUBLISHER", "token-a", "token-b", "token-a");
+
+        assertThat(hits.get()).isEqualTo(2);
+        verify(audit, times(2)).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS),
+                any(), eq(false));
+        verify(audit).log(eq(ActionType.DELETE_POST), eq(TargetType.POST), eq("7"), eq(ActionStatus.SUCCESS),
+                any(), eq(true));
+    }
+
+    private void deleteConcurrently(String role, String... tokens) throws Exception {
+        try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = Arrays.stream(tokens)
+                    .map(token -> callers.submit(() -> {
+                        var auth = new TestingAuthenticationToken("u-" + token, null, role);
+                        auth.setDetails(token);
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                        service.deletePost("7");
+                        return null;
+                    }))
+                    .toList();
+            for (var f : futures) f.get();
+        }
+    }
+}
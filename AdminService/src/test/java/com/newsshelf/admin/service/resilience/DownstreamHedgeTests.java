@@ -0,0 +1,182 @@
+package com.newsshelf.admin.service.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownstreamHedgeTests {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowFirstAttemptIsHedgedAndCancelled() throws Exception {
+        var hedge = hedge(Duration.ofMillis(20), 0.05, 1);
+        var attempts = new AtomicInteger();
+        var cancelled = new CountDownLatch(1);
+
+        String value = hedge.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                }
+                return "slow";
+            }
+            return "hedged";
+        });
+
+        assertThat(value).isEqualTo("hedged");
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("sent")).isEqualTo(1);
+        assertThat(count("won")).isEqualTo(1);
+        // the cancelled primary is sampled at its running time, at least the delay
+        assertThat(hedge.samples()).isEqualTo(1);
+    }
+
+    @Test
+    void primaryThatOutrunsItsHedgeIsSampled() {
+        var hedge = hedge(Duration.ofMillis(10), 0.05, 1);
+        var attempts = new AtomicInteger();
+
+        String value = hedge.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(Duration.ofMillis(30));
+                return "primary";
+            }
+            sleep(Duration.ofSeconds(10));
+            return "hedged";
+        });
+
+        assertThat(value).isEqualTo("primary");
+        assertThat(count("sent")).isEqualTo(1);
+        assertThat(hedge.samples()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgesStopWhenTheBudgetIsSpent() {
+        var hedge = hedge(Duration.ofMillis(10), 0, 1);
+        var attempts = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            hedge.call(() -> {
+                attempts.incrementAndGet();
+                sleep(Duration.ofMillis(40));
+                return "ok";
+            });
+        }
+
+        assertThat(attempts.get()).isEqualTo(4);
+        assertThat(count("sent")).isEqualTo(1);
+        assertThat(count("budget_exhausted")).isEqualTo(2);
+    }
+
+    @Test
+    void failureOfOneAttemptWaitsForTheOther() {
+        var hedge = hedge(Duration.ofMillis(10), 0.05, 1);
+        var attempts = new AtomicInteger();
+
+        String value = hedge.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(Duration.ofMillis(30));
+                throw new IllegalStateException("replica down");
+            }
+            sleep(Duration.ofMillis(60));
+            return "hedged";
+        });
+
+        assertThat(value).isEqualTo("hedged");
+    }
+
+    @Test
+    void fastFailureIsNotRetried() {
+        var hedge = hedge(Duration.ofMillis(50), 0.05, 1);
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> hedge.call(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("rejected");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("rejected");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void delayFollowsThePercentileOfRecentAnswers() {
+        var hedge = new DownstreamHedge("Stub",
+                new DownstreamHedge.Settings(true, 90, null, Duration.ofMillis(1), 0.05, 1),
+                executor, counter("sent"), counter("won"), counter("budget_exhausted"));
+
+        assertThat(hedge.currentDelay()).isEqualTo(-1);
+        for (int i = 1; i <= 100; i++) {
+            hedge.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        // recomputed after 64 answers: 90th percentile of 1..64 ms
+        assertThat(hedge.currentDelay()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(58));
+
+        for (int i = 101; i <= 128; i++) {
+            hedge.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(hedge.currentDelay()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(116));
+    }
+
+    @Test
+    void delayStaysAtThePercentileOfAHeavyTail() {
+        var hedge = new DownstreamHedge("Stub",
+                new DownstreamHedge.Settings(true, 90, null, Duration.ofMillis(1), 1, 100),
+                executor, counter("sent"), counter("won"), counter("budget_exhausted"));
+
+        // 15% of primaries take 20-80ms, the rest 1ms, so the 90th percentile is near 40ms; hedges answer
+        // in 1ms and beat the slower half of the tail, whose primaries are then cancelled
+        for (int i = 0; i < 5 * 64; i++) {
+            long primaryMs = i % 20 < 3 ? 20 + (i * 7L) % 61 : 1;
+            var attempts = new AtomicInteger();
+            hedge.call(() -> {
+                sleep(Duration.ofMillis(attempts.incrementAndGet() == 1 ? primaryMs : 1));
+                return "ok";
+            });
+        }
+
+        assertThat(count("won")).isPositive();
+        assertThat(hedge.currentDelay()).isBetween(
+                TimeUnit.MILLISECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    private DownstreamHedge hedge(Duration delay, double budget, double burst) {
+        return new DownstreamHedge("Stub",
+                new DownstreamHedge.Settings(true, 95, delay, Duration.ofMillis(1), budget, burst),
+                executor, counter("sent"), counter("won"), counter("budget_exhausted"));
+    }
+
+    private Counter counter(String outcome) {
+        return meterRegistry.counter("admin.downstream.hedges", "outcome", outcome);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("admin.downstream.hedges", "outcome", outcome).count();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
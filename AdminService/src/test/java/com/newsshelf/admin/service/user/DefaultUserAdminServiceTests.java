@@ -0,0 +1,194 @@
+package com.newsshelf.admin.service.user;
+
+import com.newsshelf.admin.audit.service.AdminActionService;
+import com.newsshelf.admin.dto.request.AssignRoleRequest;
+import com.newsshelf.admin.security.revocation.RevocationList;
+import com.newsshelf.admin.security.revocation.UserRevocationRepository;
+import com.newsshelf.admin.security.role.Role;
+import com.newsshelf.admin.service.bulk.BulkExecutor;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import com.newsshelf.admin.service.resilience.DownstreamHedges;
+import com.newsshelf.admin.stats.AdminStats;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DefaultUserAdminServiceTests {
+
+    private HttpServer stub;
+    private final AtomicInteger listCalls = new AtomicInteger();
+    // a real list over a mocked repository: mocking RevocationList itself would instrument the class for the whole JVM
+    private final UserRevocationRepository revocationRepository = mock(UserRevocationRepository.class);
+    private final RevocationList revocationList = new RevocationList(
+            revocationRepository, new SimpleMeterRegistry(), 0.01, Duration.ofMinutes(1));
+    private DefaultUserAdminService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/admin/users", exchange -> {
+            if (exchange.getRequestMethod().equals("DELETE")) {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            }
+            if (listCalls.incrementAndGet() == 1 && exchange.getRequestURI().getQuery().contains("size=7")) {
+                // the first answer of the hedging test stalls like a slow replica
+                sleep(Duration.ofSeconds(5));
+            }
+            byte[] body = usersJson(120).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stub.start();
+
+        service = service(new MockEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void listUsersReturnsRequestedPageAndCachesIt() {
+        var page = service.listUsers(null, null, 1, 50);
+        var again = service.listUsers(null, null, 1, 50);
+
+        assertThat(page.users()).hasSize(50);
+        assertThat(page.users().getFirst().id()).isEqualTo("u-50");
+        assertThat(page.total()).isEqualTo(120);
+        assertThat(again).isSameAs(page);
+        assertThat(listCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void listUsersPastTheEndOfAnUnpagedListIsEmpty() {
+        var beyond = service.listUsers(null, null, 3, 50);
+        var wholeListBeyond = service.listUsers(null, null, 1, 200);
+
+        assertThat(beyond.users()).isEmpty();
+        assertThat(beyond.total()).isEqualTo(120);
+        assertThat(wholeListBeyond.users()).isEmpty();
+        assertThat(wholeListBeyond.total()).isEqualTo(120);
+    }
+
+    @Test
+    void pagesOfAnUnpagedListShareOneDownstreamCall() {
+        var first = service.listUsers("READER", null, 0, 50);
+        var second = service.listUsers("READER", null, 1, 50);
+        var last = service.listUsers("READER", null, 2, 50);
+
+        assertThat(first.users().getFirst().id()).isEqualTo("u-0");
+        assertThat(second.users().getFirst().id()).isEqualTo("u-50");
+        assertThat(last.users()).hasSize(20);
+        assertThat(last.total()).isEqualTo(120);
+        assertThat(listCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void slowListUsersIsAnsweredByTheHedgedRequest() {
+        var hedged = service(new MockEnvironment()
+                .withProperty("services.user.hedge.enabled", "true")
+                .withProperty("services.user.hedge.delay", "500ms"));
+        long startedAt = System.nanoTime();
+
+        var page = hedged.listUsers(null, null, 0, 7);
+
+        assertThat(page.users()).hasSize(7);
+        assertThat(listCalls.get()).isEqualTo(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void deleteUserInvalidatesCachedPages() {
+        service.listUsers(null, null, 0, 50);
+        service.deleteUser("u-1");
+        service.listUsers(null, null, 0, 50);
+
+        assertThat(listCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteUserRevokesTheDeletedUsersTokens() {
+        service.deleteUser("u-1");
+
+        verify(revocationRepository).revokeAll(eq(List.of("u-1")), eq("user deleted"), any());
+        assertThat(revocationList.isRevoked("u-1")).isTrue();
+    }
+
+    @Test
+    void metricsRoleCannotBeAssignedToAUser() {
+        assertThatThrownBy(() -> service.assignRole("u-1", new AssignRoleRequest(Role.METRICS)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
+    }
+
+    @Test
+    void streamUsersWritesOneJsonObjectPerLine() {
+        var out = new ByteArrayOutputStream();
+
+        long count = service.streamUsers("READER", null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(120);
+        assertThat(lines).hasSize(120);
+        assertThat(lines[0]).contains("\"id\":\"u-0\"").contains("\"role\":\"READER\"");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DefaultUserAdminService service(MockEnvironment env) {
+        return new DefaultUserAdminService(
+                RestClient.builder().baseUrl("http://127.0.0.1:" + stub.getAddress().getPort()).build(),
+                mock(AdminActionService.class),
+                new BulkExecutor(),
+                new DownstreamGuards(new MockEnvironment(), new SimpleMeterRegistry(), new AdminStats(new MockEnvironment())),
+                new DownstreamHedges(env, new SimpleMeterRegistry()),
+                4,
+                new UserListCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100),
+                JsonMapper.builder().build(),
+                revocationList
+        );
+    }
+
+    private static String usersJson(int count) {
+        var sb = new StringBuilder("{\"meta\":{\"source\":\"stub\"},\"users\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"u-").append(i)
+                    .append("\",\"email\":\"u").append(i).append("@example.com\",\"role\":\"READER\",\"status\":\"ACTIVE\"}");
+        }
+        return sb.append("],\"total\":").append(count).append('}').toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.newsshelf.admin.stats;
+
+import com.newsshelf.admin.audit.model.ActionStatus;
+import com.newsshelf.admin.audit.model.ActionType;
+import com.newsshelf.admin.dto.response.StatsResponse;
+import com.newsshelf.admin.service.resilience.DownstreamGuards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminStatsTests {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private final AtomicLong nanos = new AtomicLong(-TimeUnit.MINUTES.toNanos(90));
+    private final MockEnvironment env = new MockEnvironment()
+            .withProperty("admin.stats.windows", "1h,1m")
+            .withProperty("admin.stats.buckets", "60");
+    private final AdminStats stats = new AdminStats(env, nanos::get);
+
+    @Test
+    void countsSlideOutOfEachWindow() {
+        assertThat(stats.windows()).containsExactly(MINUTE, HOUR);
+
+        stats.recordAction(ActionType.DELETE_POST, ActionStatus.SUCCESS, "alice", 3);
+        advance(Duration.ofSeconds(30));
+        stats.recordAction(ActionType.DELETE_POST, ActionStatus.FAILED, "alice", 1);
+        stats.recordAction(ActionType.DELETE_POST, ActionStatus.SUCCESS, "bob", 5);
+
+        assertThat(stats.snapshot(MINUTE, 10).actions()).containsExactly(
+                new StatsResponse.ActionCount("DELETE_POST", "SUCCESS", 8, 8),
+                new StatsResponse.ActionCount("DELETE_POST", "FAILED", 1, 1));
+
+        advance(Duration.ofSeconds(45));
+        assertThat(stats.snapshot(MINUTE, 10).actions()).containsExactly(
+                new StatsResponse.ActionCount("DELETE_POST", "SUCCESS", 5, 5),
+                new StatsResponse.ActionCount("DELETE_POST", "FAILED", 1, 1));
+        assertThat(stats.snapshot(HOUR, 10).actions()).first()
+                .satisfies(a -> assertThat(a.count()).isEqualTo(8));
+
+        advance(Duration.ofMinutes(2));
+        assertThat(stats.snapshot(MINUTE, 10).actions()).isEmpty();
+        assertThat(stats.snapshot(HOUR, 10).actions()).hasSize(2);
+
+        assertThatThrownBy(() -> stats.snapshot(Duration.ofMinutes(5), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void topActorsAreOrderedAndIdleOnesAreSwept() {
+        stats.recordAction(ActionType.DELETE_COMMENT, ActionStatus.SUCCESS, "alice", 2);
+        stats.recordAction(ActionType.DELETE_COMMENT, ActionStatus.SUCCESS, "bob", 7);
+        stats.recordAction(ActionType.LIST_USERS, ActionStatus.SUCCESS, "carol", 4);
+
+        assertThat(stats.snapshot(MINUTE, 2).topActors()).containsExactly(
+                new StatsResponse.ActorCount("bob", 7),
+                new StatsResponse.ActorCount("carol", 4));
+
+        advance(Duration.ofMinutes(50));
+        stats.recordAction(ActionType.LIST_USERS, ActionStatus.SUCCESS, "carol", 1);
+        advance(Duration.ofMinutes(20));
+        stats.sweep();
+
+        assertThat(stats.snapshot(HOUR, 10).topActors()).containsExactly(new StatsResponse.ActorCount("carol", 1));
+    }
+
+    @Test
+    void busyActorOutlivesAFloodOfOneOffActors() {
+        var bounded = new AdminStats(new MockEnvironment()
+                .withProperty("admin.stats.windows", "1h")
+                .withProperty("admin.stats.max-actors", "10"), nanos::get);
+
+        bounded.recordAction(ActionType.DELETE_POST, ActionStatus.SUCCESS, "alice", 5);
+        for (int i = 0; i < 500; i++) {
+            if (i % 10 == 0) bounded.recordAction(ActionType.DELETE_POST, ActionStatus.SUCCESS, "alice", 1);
+            bounded.recordAction(ActionType.LIST_USERS, ActionStatus.SUCCESS, "scraper-" + i, 1);
+        }
+
+        List<StatsResponse.ActorCount> top = bounded.snapshot(HOUR, 1000).topActors();
+        assertThat(top).hasSizeLessThanOrEqualTo(10);
+        assertThat(top.getFirst()).isEqualTo(new StatsResponse.ActorCount("alice", 55));
+    }
+
+    @Test
+    void downstreamCallsAreCountedFromTheGuard() {
+        var guard = new DownstreamGuards(env, new SimpleMeterRegistry(), stats).forService("news", "NewsApi");
+
+        guard.run(() -> {
+        });
+        attempt(() -> guard.run(() -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }));
+        attempt(() -> guard.run(() -> {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY);
+        }));
+
+        assertThat(stats.snapshot(MINUTE, 0).downstreams())
+                .containsExactly(new StatsResponse.DownstreamCount("news", 3, 1, 0, 1 / 3d));
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    stats.recordAction(ActionType.DELETE_USER, ActionStatus.SUCCESS, "alice", 1);
+                    if (i % 1000 == 0) advance(Duration.ofSeconds(1));
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertThat(stats.snapshot(HOUR, 1).topActors()).containsExactly(new StatsResponse.ActorCount("alice", 40_000));
+    }
+
+    private void advance(Duration by) {
+        nanos.addAndGet(by.toNanos());
+    }
+
+    private static void attempt(Runnable call) {
+        try {
+            call.run();
+        } catch (ResponseStatusException ignored) {
+            // outcome is asserted through the counters
+        }
+    }
+}
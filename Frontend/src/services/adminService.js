@@ -35,7 +35,7 @@ export const adminService = {
 
 
 
-  async listUsers({ role = '', status = '' } = {}, token) {
+  async listUsers({ role = '', status = '', page = 0, size = 50 } = {}, token) {
     if (AppConfig.useMock) {
       const mock = await MockApi.adminUsers()
       return normalizeUsersResponse(mock?.data)
@@ -45,7 +45,9 @@ export const adminService = {
     const { data } = await c.get('/users', {
       params: {
         ...(role ? { role } : {}),
-        ...(status ? { status } : {})
+        ...(status ? { status } : {}),
+        page,
+        size
       }
     })
 